@@ -0,0 +1,12 @@
+import axiosInstance from '../auth/AuthService';
+
+const DashboardService = {
+    // Everything the dashboard shows on first paint in one request; sections named in
+    // `incomplete` timed out on the server and have to be loaded separately
+    getDashboard: async () => {
+        const response = await axiosInstance.get('/dashboard');
+        return response.data;
+    }
+};
+
+export default DashboardService;
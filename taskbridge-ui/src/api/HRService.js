@@ -82,6 +82,19 @@ export default {
       params: { startDate, endDate }
     }),
   
+  getUserRosterFeed: (userId) =>
+    axiosInstance.get(`/hr/roster/user/${userId}/calendar.ics`, { responseType: 'blob' }),
+  
+  getMyRosterFeed: () =>
+    axiosInstance.get(`/hr/roster/my/calendar.ics`, { responseType: 'blob' }),
+  
+  // Returns { token, path }; subscribing calendar apps use the path, which needs no login
+  issueMyRosterFeedToken: () =>
+    axiosInstance.post(`/roster/feed/token`),
+  
+  revokeMyRosterFeedToken: () =>
+    axiosInstance.delete(`/roster/feed/token`),
+  
   getRosterForDate: (shiftDate) =>
     axiosInstance.get(`/hr/roster/date`, {
       params: { shiftDate }
@@ -95,12 +108,61 @@ export default {
   deleteRosterEntry: (rosterId) =>
     axiosInstance.delete(`/hr/roster/${rosterId}`),
 
+  // Working shifts rostered on approved leave days
+  getRosterConflicts: (startDate, endDate) =>
+    axiosInstance.get(`/hr/roster/conflicts`, {
+      params: { startDate, endDate }
+    }),
+
+  // Roster Templates (weekly pattern, Monday to Sunday)
+  createRosterTemplate: (name, weeklyPattern, location, notes) =>
+    axiosInstance.post(`/hr/roster/templates`, {
+      name, weeklyPattern, location, notes
+    }),
+
+  getRosterTemplates: () =>
+    axiosInstance.get(`/hr/roster/templates`),
+
+  deleteRosterTemplate: (templateId) =>
+    axiosInstance.delete(`/hr/roster/templates/${templateId}`),
+
+  applyRosterTemplate: (templateId, { userIds, role, startDate, endDate, overwrite }) =>
+    axiosInstance.post(`/hr/roster/templates/${templateId}/apply`, {
+      userIds, role, startDate, endDate, overwrite
+    }),
+
+  // Auto-roster: locations = [{ location, userIds, coverage: { MORNING, AFTERNOON, NIGHT } }]
+  previewAutoRoster: (startDate, endDate, locations, maxConsecutiveDays) =>
+    axiosInstance.post(`/hr/roster/auto/preview`, {
+      startDate, endDate, locations, maxConsecutiveDays
+    }),
+
+  commitAutoRoster: (planId) =>
+    axiosInstance.post(`/hr/roster/auto/${planId}/commit`),
+
+  // Team Calendar (users x days: shift, leave and attendance per cell)
+  getTeamCalendar: (startDate, endDate) =>
+    axiosInstance.get(`/hr/calendar`, {
+      params: { startDate, endDate }
+    }),
+
   // Notice Management
   sendNotice: (recipientId, subject, content, noticeType) =>
     axiosInstance.post(`/hr/notice`, {
       recipientId, subject, content, noticeType
     }),
   
+  // Exactly one of role, recipientIds or allActive selects the audience
+  broadcastNotice: ({ subject, content, noticeType, role, recipientIds, allActive }) =>
+    axiosInstance.post(`/hr/notice/broadcast`, {
+      subject, content, noticeType, role, recipientIds, allActive
+    }),
+  
   getNoticesSent: () =>
     axiosInstance.get(`/hr/notice/sent`),
+  
+  getNoticeAnalytics: (startDate, endDate, page = 0, size = 20) =>
+    axiosInstance.get(`/hr/notice/analytics`, {
+      params: { startDate, endDate, page, size }
+    }),
 };
@@ -27,6 +27,10 @@ export default {
   getMyPendingLeaves: () =>
     axiosInstance.get(`/leaves/my-leaves/pending`),
 
+  // Get my remaining days per leave type
+  getMyBalances: () =>
+    axiosInstance.get(`/leaves/balance`),
+
   // Apply for leave
   applyForLeave: (startDate, endDate, leaveType, reason) =>
     axiosInstance.post(`/leaves/apply`, {
@@ -7,9 +7,9 @@ const NotificationService = {
         return response.data;
     },
 
-    // Get my notifications
-    getMyNotifications: async () => {
-        const response = await axiosInstance.get('/notifications');
+    // Get my notifications; archived ones only when asked for
+    getMyNotifications: async (includeArchived = false) => {
+        const response = await axiosInstance.get('/notifications', { params: { includeArchived } });
         return response.data;
     },
 
@@ -7,9 +7,9 @@ const TaskService = {
         return response.data;
     },
 
-    // Get my tasks (Manager: created, Employee: claimed)
-    getMyTasks: async () => {
-        const response = await axiosInstance.get('/tasks');
+    // Get my tasks (Manager: created, Employee: claimed); archived ones only when asked for
+    getMyTasks: async (includeArchived = false) => {
+        const response = await axiosInstance.get('/tasks', { params: { includeArchived } });
         return response.data;
     },
 
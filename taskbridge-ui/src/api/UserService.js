@@ -46,4 +46,12 @@ export default {
   // Reactivate user
   reactivateUser: (userId) =>
     axiosInstance.post(`/admin/users/${userId}/reactivate`),
+
+  // Search the directory by name or email prefix (cursor comes from the previous page's nextCursor)
+  searchDirectory: (q, { role, active, cursor, limit = 20 } = {}) =>
+    axiosInstance.get(`/users/directory`, { params: { q, role, active, cursor, limit } }),
+
+  // Type-ahead suggestions among active users
+  directoryTypeahead: (q, { role, limit = 10 } = {}) =>
+    axiosInstance.get(`/users/directory/typeahead`, { params: { q, role, limit } }),
 };
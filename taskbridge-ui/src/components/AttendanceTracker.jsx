@@ -1,7 +1,8 @@
 import { useEffect, useState } from 'react';
 import AttendanceService from '../api/AttendanceService';
 
-export const AttendanceTracker = () => {
+// initialAttendance: today's record (or null) when the parent already has it; undefined to fetch it here
+export const AttendanceTracker = ({ initialAttendance }) => {
     const [clockedIn, setClockedIn] = useState(false);
     const [clockInTime, setClockInTime] = useState(null);
     const [clockOutTime, setClockOutTime] = useState(null);
@@ -10,20 +11,28 @@ export const AttendanceTracker = () => {
     const [messageType, setMessageType] = useState('');
 
     useEffect(() => {
-        fetchTodayAttendance();
+        if (initialAttendance !== undefined) {
+            applyAttendance(initialAttendance);
+            setLoading(false);
+        } else {
+            fetchTodayAttendance();
+        }
     }, []);
 
+    const applyAttendance = (attendance) => {
+        if (attendance) {
+            setClockedIn(true);
+            setClockInTime(attendance.clockInTime);
+            setClockOutTime(attendance.clockOutTime);
+        } else {
+            setClockedIn(false);
+        }
+    };
+
     const fetchTodayAttendance = async () => {
         try {
             setLoading(true);
-            const attendance = await AttendanceService.getTodayAttendance();
-            if (attendance) {
-                setClockedIn(true);
-                setClockInTime(attendance.clockInTime);
-                setClockOutTime(attendance.clockOutTime);
-            } else {
-                setClockedIn(false);
-            }
+            applyAttendance(await AttendanceService.getTodayAttendance());
         } catch (error) {
             console.error('Failed to fetch today attendance:', error);
         } finally {
@@ -3,7 +3,8 @@ import LeaveService from '../api/LeaveService';
 import { useAuth } from '../auth/useAuth';
 import '../styles/AttendanceCalendar.css';
 
-const LeaveRequest = () => {
+// initialLeaves: the user's leaves when the parent already has them; undefined to fetch them here
+const LeaveRequest = ({ initialLeaves }) => {
   const { user } = useAuth();
   const [formData, setFormData] = useState({
     startDate: '',
@@ -18,26 +19,34 @@ const LeaveRequest = () => {
   const [approvedCount, setApprovedCount] = useState(0);
 
   useEffect(() => {
-    fetchMyLeaves();
+    if (initialLeaves !== undefined) {
+      applyLeaves(initialLeaves);
+    } else {
+      fetchMyLeaves();
+    }
   }, [user?.id]);
 
+  const applyLeaves = (leaves) => {
+    setMyLeaves(leaves || []);
+
+    // Count approved leaves in current month
+    const currentDate = new Date();
+    const currentMonth = currentDate.getMonth() + 1;
+    const currentYear = currentDate.getFullYear();
+    const approved = (leaves || []).filter(leave =>
+      leave.status === 'APPROVED' &&
+      new Date(leave.startDate).getMonth() + 1 === currentMonth &&
+      new Date(leave.startDate).getFullYear() === currentYear
+    ).length;
+    setApprovedCount(approved);
+  };
+
   const fetchMyLeaves = async () => {
     if (!user?.id) return;
     try {
       setLoading(true);
       const response = await LeaveService.getMyLeaves();
-      setMyLeaves(response.data || []);
-
-      // Count approved leaves in current month
-      const currentDate = new Date();
-      const currentMonth = currentDate.getMonth() + 1;
-      const currentYear = currentDate.getFullYear();
-      const approved = (response.data || []).filter(leave =>
-        leave.status === 'APPROVED' &&
-        new Date(leave.startDate).getMonth() + 1 === currentMonth &&
-        new Date(leave.startDate).getFullYear() === currentYear
-      ).length;
-      setApprovedCount(approved);
+      applyLeaves(response.data);
       setError(null);
     } catch (err) {
       setError('Failed to fetch leave records');
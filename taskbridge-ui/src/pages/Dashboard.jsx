@@ -1,5 +1,6 @@
 import { useEffect, useState } from 'react';
 import TaskService from '../api/TaskService';
+import DashboardService from '../api/DashboardService';
 import AdminService from '../api/AdminService';
 import { useAuth } from '../auth/useAuth';
 import { TaskPanel } from '../components/TaskPanel';
@@ -19,12 +20,14 @@ export const Dashboard = () => {
     const [messageType, setMessageType] = useState('');
     const [showMessageModal, setShowMessageModal] = useState(false);
     const [users, setUsers] = useState([]);
+    // First-paint payload from /dashboard; null until it has loaded
+    const [dashboard, setDashboard] = useState(null);
 
     // Form state
     const [newTask, setNewTask] = useState({ title: '', description: '', priority: 'MEDIUM', deadline: '' });
 
     useEffect(() => {
-        fetchTasks();
+        loadDashboard();
         if (user?.role === 'MANAGER') {
             fetchUsers();
         }
@@ -40,6 +43,33 @@ export const Dashboard = () => {
         }
     };
 
+    // One request for tasks, unread count, today's attendance and leaves. Sections the server
+    // could not fill in time are fetched from their own endpoints instead.
+    const loadDashboard = async () => {
+        setLoading(true);
+        try {
+            const data = await DashboardService.getDashboard();
+            const incomplete = data.incomplete || [];
+            if (incomplete.includes('myTasks') || incomplete.includes('availableTasks')) {
+                await fetchTasks();
+            } else {
+                setMyTasks(data.myTasks || []);
+                setAvailableTasks(data.availableTasks || []);
+            }
+            setDashboard(data);
+        } catch (error) {
+            console.error('Failed to load dashboard', error);
+            setDashboard({ incomplete: ['myTasks', 'unreadNotifications', 'todayAttendance', 'leaves'] });
+            await fetchTasks();
+        } finally {
+            setLoading(false);
+        }
+    };
+
+    // A dashboard section, or undefined when it is missing so the component loads it itself
+    const dashboardSection = (name) =>
+        dashboard.incomplete?.includes(name) ? undefined : dashboard[name];
+
     const fetchTasks = async () => {
         setLoading(true);
         try {
@@ -136,7 +166,10 @@ export const Dashboard = () => {
         <div className="dashboard-container">
             <div className="dashboard-header">
                 <h1>Dashboard - {user.role}</h1>
-                <p className="user-role">Welcome, {user.name}</p>
+                <p className="user-role">
+                    Welcome, {user.name}
+                    {dashboard?.unreadNotifications > 0 && ` · ${dashboard.unreadNotifications} unread notifications`}
+                </p>
             </div>
 
             {user.role === 'EMPLOYEE' && (
@@ -178,10 +211,14 @@ export const Dashboard = () => {
             )}
 
             {/* ATTENDANCE TRACKER (EMPLOYEE & MANAGER) */}
-            {(user.role === 'EMPLOYEE' || user.role === 'MANAGER') && <AttendanceTracker />}
+            {dashboard && (user.role === 'EMPLOYEE' || user.role === 'MANAGER') && (
+                <AttendanceTracker initialAttendance={dashboardSection('todayAttendance')} />
+            )}
 
             {/* LEAVE REQUEST (EMPLOYEE & MANAGER) */}
-            {(user.role === 'EMPLOYEE' || user.role === 'MANAGER') && <LeaveRequest />}
+            {dashboard && (user.role === 'EMPLOYEE' || user.role === 'MANAGER') && (
+                <LeaveRequest initialLeaves={dashboardSection('leaves')} />
+            )}
 
             {/* CREATE TASK (MANAGER) */}
             {user.role === 'MANAGER' && (
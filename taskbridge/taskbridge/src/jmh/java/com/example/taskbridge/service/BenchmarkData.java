@@ -0,0 +1,72 @@
+package com.example.taskbridge.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.taskbridge.entity.Notification;
+import com.example.taskbridge.entity.NotificationType;
+import com.example.taskbridge.entity.RoleType;
+import com.example.taskbridge.entity.Task;
+import com.example.taskbridge.entity.TaskPriority;
+import com.example.taskbridge.entity.TaskStatus;
+import com.example.taskbridge.entity.User;
+
+// Detached entities shaped like production rows, built once per benchmark trial
+final class BenchmarkData {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 2, 9, 30);
+
+    private BenchmarkData() {
+    }
+
+    static User user(long id, RoleType role) {
+        User user = new User();
+        user.setId(id);
+        user.setName("User Number " + id);
+        user.setEmail("user." + id + "@taskbridge.example.com");
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z6VZ8mZ1E0YV1zZcM2v7f4Gm");
+        user.setRole(role);
+        user.setActive(true);
+        return user;
+    }
+
+    static List<Task> tasks(int count) {
+        User manager = user(1, RoleType.MANAGER);
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            task.setId((long) i);
+            task.setTitle("Prepare quarterly report section " + i);
+            task.setDescription("Collect the figures for region " + (i % 12)
+                    + ", reconcile them with finance and draft the summary paragraph.");
+            task.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+            task.setStatus(i % 3 == 0 ? TaskStatus.CREATED : TaskStatus.ASSIGNED);
+            task.setDeadline(NOW.plusDays(i % 30));
+            task.setCreatedAt(NOW.minusDays(i % 10));
+            task.setCreator(manager);
+            task.setManager(i % 3 == 0 ? null : user(100 + i, RoleType.EMPLOYEE));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    static List<Notification> notifications(int count) {
+        User sender = user(1, RoleType.MANAGER);
+        List<Notification> notifications = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Notification notification = new Notification();
+            notification.setId((long) i);
+            notification.setSender(sender);
+            notification.setRecipient(user(100 + i, RoleType.EMPLOYEE));
+            notification.setTitle("Shift handover " + i);
+            notification.setMessage("Please review the handover notes for today's shift before 10:00 and "
+                    + "confirm the open items with the night team.");
+            notification.setType(NotificationType.values()[i % NotificationType.values().length]);
+            notification.setIsRead(i % 2 == 0);
+            notification.setCreatedAt(NOW.minusHours(i));
+            notifications.add(notification);
+        }
+        return notifications;
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.taskbridge.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.taskbridge.TaskbridgeApplication;
+import com.example.taskbridge.entity.Notice;
+import com.example.taskbridge.entity.Salary;
+import com.example.taskbridge.entity.User;
+import com.example.taskbridge.repository.NoticeBatchRepository;
+import com.example.taskbridge.repository.RosterBatchRepository;
+
+import jakarta.persistence.EntityManager;
+
+// Bulk writes against the database from DB_URL, which must already hold users
+// (seed it with the load test: mvn -Ploadtest -DskipTests verify -Dloadtest.args="--seed --scale=0.1").
+//
+//   payrollRun          - one Salary entity persisted per employee, flushed together
+//   rosterTemplateApply - a week of roster rows per employee through RosterBatchRepository
+//   noticeBroadcast     - one INSERT ... SELECT through NoticeBatchRepository
+//
+// batchSize=1 with reWriteBatchedInserts=false is the old identity-column behaviour: one
+// round trip per row. Every invocation rolls back, so the database is left as it was.
+//
+//   mvn -Pbenchmark -DskipTests verify -Djmh.args="BulkWriteBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkWriteBenchmark {
+
+    private static final int EMPLOYEES = 500;
+    private static final LocalDate WEEK_START = LocalDate.of(1999, 1, 4);
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    @Param({"false", "true"})
+    private boolean reWriteBatchedInserts;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transaction;
+    private EntityManager entityManager;
+    private RosterBatchRepository rosterBatchRepository;
+    private NoticeBatchRepository noticeBatchRepository;
+    private List<Long> employeeIds;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(TaskbridgeApplication.class).run(
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "--spring.datasource.hikari.data-source-properties.reWriteBatchedInserts=" + reWriteBatchedInserts);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        entityManager = context.getBean(EntityManager.class);
+        rosterBatchRepository = context.getBean(RosterBatchRepository.class);
+        noticeBatchRepository = context.getBean(NoticeBatchRepository.class);
+        employeeIds = context.getBean(JdbcTemplate.class).queryForList(
+                "select id from app_user where active = true and deleted = false and role = 'EMPLOYEE' "
+                        + "order by id limit ?", Long.class, EMPLOYEES);
+        if (employeeIds.size() < EMPLOYEES) {
+            throw new IllegalStateException("Need " + EMPLOYEES + " active employees, found " + employeeIds.size()
+                    + "; seed the database with the load test first");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public int payrollRun() {
+        return inRolledBackTransaction(() -> {
+            BigDecimal baseSalary = new BigDecimal("48250.00");
+            for (Long employeeId : employeeIds) {
+                Salary salary = new Salary();
+                salary.setUser(entityManager.getReference(User.class, employeeId));
+                salary.setYear(1999);
+                salary.setMonth(1);
+                salary.setBaseSalary(baseSalary);
+                SalaryService.applyPay(salary, baseSalary, 31, 21, 2);
+                entityManager.persist(salary);
+            }
+            entityManager.flush();
+            return employeeIds.size();
+        });
+    }
+
+    @Benchmark
+    public int rosterTemplateApply() {
+        return inRolledBackTransaction(() -> {
+            List<RosterBatchRepository.Entry> entries = new ArrayList<>(employeeIds.size() * 7);
+            for (Long employeeId : employeeIds) {
+                for (int day = 0; day < 7; day++) {
+                    entries.add(new RosterBatchRepository.Entry(employeeId, WEEK_START.plusDays(day),
+                            day < 5 ? "MORNING" : "OFF", "HQ", null));
+                }
+            }
+            rosterBatchRepository.upsert(entries, null, true);
+            return entries.size();
+        });
+    }
+
+    @Benchmark
+    public int noticeBroadcast() {
+        return inRolledBackTransaction(() -> noticeBatchRepository.insertForAudience(employeeIds.get(0),
+                "Benchmark notice", "Office closed on Friday.", Notice.NoticeType.GENERAL, "benchmark",
+                null, employeeIds).size());
+    }
+
+    private int inRolledBackTransaction(IntSupplier work) {
+        return transaction.execute(status -> {
+            int rows = work.getAsInt();
+            status.setRollbackOnly();
+            entityManager.clear();
+            return rows;
+        });
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.taskbridge.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.taskbridge.entity.Notice;
+import com.example.taskbridge.entity.RoleType;
+import com.example.taskbridge.entity.User;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Email body building; broadcasts build one body per recipient
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailBodyBenchmark {
+
+    private EmailService emailService;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        emailService = new EmailService(null, null, Runnable::run, new SimpleMeterRegistry());
+        user = BenchmarkData.user(42, RoleType.EMPLOYEE);
+    }
+
+    @Benchmark
+    public String noticeBody() {
+        return emailService.buildNoticeEmailBody(user.getName(), "Updated leave policy",
+                Notice.NoticeType.GENERAL,
+                "From next month annual leave requests need two weeks' notice. Please plan accordingly.");
+    }
+
+    @Benchmark
+    public String leaveRequestBody() {
+        return emailService.buildLeaveRequestBody(user, "ANNUAL", "2025-07-01", "2025-07-05", "Family trip");
+    }
+
+    @Benchmark
+    public String leaveDecisionBody() {
+        return emailService.buildLeaveDecisionBody(user, "ANNUAL", "APPROVED", "Enjoy your time off");
+    }
+
+    @Benchmark
+    public String salaryBody() {
+        return emailService.buildSalaryEmailBody(user, 6, 2025,
+                "Base: 48250.00\nPresent days: 21\nLeave days: 2\nNet: 35790.32");
+    }
+}
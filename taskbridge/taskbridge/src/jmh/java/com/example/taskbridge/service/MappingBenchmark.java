@@ -0,0 +1,68 @@
+package com.example.taskbridge.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.taskbridge.dto.NotificationResponse;
+import com.example.taskbridge.dto.TaskResponse;
+import com.example.taskbridge.entity.Notification;
+import com.example.taskbridge.entity.Task;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Entity-to-response mapping for the task and notification list endpoints
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"20", "200", "2000"})
+    public int size;
+
+    private TaskService taskService;
+    private NotificationService notificationService;
+    private List<Task> tasks;
+    private List<Notification> notifications;
+
+    @Setup
+    public void setUp() {
+        taskService = new TaskService(null, null, null, new SimpleMeterRegistry());
+        notificationService = new NotificationService(null, null, null, null, null);
+        tasks = BenchmarkData.tasks(size);
+        notifications = BenchmarkData.notifications(size);
+    }
+
+    @Benchmark
+    public List<TaskResponse> taskResponses() {
+        List<TaskResponse> responses = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            responses.add(taskService.convertToResponse(task));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<NotificationResponse> notificationResponses() {
+        List<NotificationResponse> responses = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            responses.add(notificationService.convertToResponse(notification));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.taskbridge.service;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.taskbridge.entity.Salary;
+
+// BigDecimal pay arithmetic run once per employee by the monthly salary calculation
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SalaryBenchmark {
+
+    private final BigDecimal baseSalary = new BigDecimal("48250.00");
+    private int presentDays = 0;
+
+    @Benchmark
+    public Salary applyPay() {
+        // Vary the inputs so the JIT cannot fold the arithmetic away
+        presentDays = (presentDays + 1) % 24;
+        Salary salary = new Salary();
+        SalaryService.applyPay(salary, baseSalary, 31, presentDays, 2);
+        return salary;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.taskbridge.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.taskbridge.dto.NotificationResponse;
+import com.example.taskbridge.dto.TaskResponse;
+import com.example.taskbridge.dto.UserRef;
+import com.example.taskbridge.entity.RoleType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.json.JsonMapper;
+
+// JSON serialization of response lists at the sizes the list endpoints return
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"20", "200", "2000"})
+    public int size;
+
+    private JsonMapper jsonMapper;
+    private List<TaskResponse> tasks;
+    private List<NotificationResponse> notifications;
+    private List<UserRef> users;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        TaskService taskService = new TaskService(null, null, null, new SimpleMeterRegistry());
+        NotificationService notificationService = new NotificationService(null, null, null, null, null);
+        tasks = BenchmarkData.tasks(size).stream().map(taskService::convertToResponse).toList();
+        notifications = BenchmarkData.notifications(size).stream()
+                .map(notificationService::convertToResponse).toList();
+        users = IntStream.range(0, size)
+                .mapToObj(i -> UserRef.of(BenchmarkData.user(i, RoleType.EMPLOYEE))).toList();
+    }
+
+    @Benchmark
+    public byte[] taskResponses() {
+        return jsonMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] notificationResponses() {
+        return jsonMapper.writeValueAsBytes(notifications);
+    }
+
+    @Benchmark
+    public byte[] userRefs() {
+        return jsonMapper.writeValueAsBytes(users);
+    }
+}
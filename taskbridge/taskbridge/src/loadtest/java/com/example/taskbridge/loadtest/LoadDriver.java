@@ -0,0 +1,165 @@
+package com.example.taskbridge.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+// Issues HTTP requests against the app with bounded concurrency and records a latency
+// histogram, status counts and wall-clock span per scenario and endpoint.
+final class LoadDriver implements AutoCloseable {
+
+    // Endpoint label, method, path, bearer token and optional JSON body
+    record LoadRequest(String endpoint, String method, String path, String token, String body) {
+    }
+
+    private final URI baseUri;
+    private final int concurrency;
+    private final HttpClient httpClient;
+    private final ExecutorService workers;
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+
+    LoadDriver(URI baseUri, int concurrency) {
+        this.baseUri = baseUri;
+        this.concurrency = concurrency;
+        this.workers = Executors.newFixedThreadPool(concurrency);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(2, concurrency / 8)))
+                .build();
+    }
+
+    // Open loop over a fixed list: everything is queued at once, at most `concurrency` in flight
+    void runAll(String scenario, List<LoadRequest> requests) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        for (LoadRequest request : requests) {
+            inFlight.acquire();
+            workers.execute(() -> {
+                try {
+                    execute(scenario, request);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+        inFlight.acquire(concurrency);
+        inFlight.release(concurrency);
+    }
+
+    // Closed loop: every worker issues the next request as soon as its previous one completes
+    void runFor(String scenario, Duration duration, Supplier<LoadRequest> next) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            workers.execute(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        execute(scenario, next.get());
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    Map<String, EndpointStats> stats() {
+        return stats;
+    }
+
+    private void execute(String scenario, LoadRequest request) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(request.path()))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + request.token());
+        if (request.body() != null) {
+            builder.header("Content-Type", "application/json")
+                    .method(request.method(), HttpRequest.BodyPublishers.ofString(request.body()));
+        } else {
+            builder.method(request.method(), HttpRequest.BodyPublishers.noBody());
+        }
+
+        EndpointStats endpoint = statsFor(scenario + " " + request.endpoint());
+        long started = System.nanoTime();
+        int status;
+        try {
+            status = httpClient.send(builder.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            status = 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        endpoint.record(status, System.nanoTime() - started);
+    }
+
+    private synchronized EndpointStats statsFor(String key) {
+        return stats.computeIfAbsent(key, k -> new EndpointStats());
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+
+    static final class EndpointStats {
+
+        // Microseconds, 1 us to 5 minutes at 3 significant digits
+        private final Histogram latency = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(5), 3);
+        private final AtomicLong ok = new AtomicLong();
+        private final AtomicLong clientErrors = new AtomicLong();
+        private final AtomicLong serverErrors = new AtomicLong();
+        private final AtomicLong ioErrors = new AtomicLong();
+        private final AtomicLong firstStart = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong lastEnd = new AtomicLong();
+
+        void record(int status, long elapsedNanos) {
+            long now = System.nanoTime();
+            firstStart.accumulateAndGet(now - elapsedNanos, Math::min);
+            lastEnd.accumulateAndGet(now, Math::max);
+            latency.recordValue(Math.min(latency.getHighestTrackableValue(), Math.max(1, elapsedNanos / 1_000)));
+            if (status == 0) {
+                ioErrors.incrementAndGet();
+            } else if (status >= 500) {
+                serverErrors.incrementAndGet();
+            } else if (status >= 400) {
+                clientErrors.incrementAndGet();
+            } else {
+                ok.incrementAndGet();
+            }
+        }
+
+        Map<String, Object> summary() {
+            long requests = latency.getTotalCount();
+            double seconds = Math.max(1e-9, (lastEnd.get() - firstStart.get()) / 1e9);
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", requests);
+            summary.put("ok", ok.get());
+            summary.put("clientErrors", clientErrors.get());
+            summary.put("serverErrors", serverErrors.get());
+            summary.put("ioErrors", ioErrors.get());
+            summary.put("throughputPerSecond", requests / seconds);
+            summary.put("p50Millis", latency.getValueAtPercentile(50) / 1000.0);
+            summary.put("p90Millis", latency.getValueAtPercentile(90) / 1000.0);
+            summary.put("p99Millis", latency.getValueAtPercentile(99) / 1000.0);
+            summary.put("p999Millis", latency.getValueAtPercentile(99.9) / 1000.0);
+            summary.put("maxMillis", latency.getMaxValue() / 1000.0);
+            return summary;
+        }
+    }
+}
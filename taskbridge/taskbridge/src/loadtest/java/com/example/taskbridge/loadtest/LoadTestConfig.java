@@ -0,0 +1,83 @@
+package com.example.taskbridge.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Command-line options for a load-test run, given as --name=value (flags may omit the value).
+//
+// Data volumes default to the production-sized org and are multiplied by --scale, so
+// --scale=0.01 seeds 500 users, 50k attendance rows, 10k tasks and 20k notifications.
+record LoadTestConfig(
+        boolean seed,
+        boolean reset,
+        int users,
+        int attendanceRows,
+        int tasks,
+        int notifications,
+        int concurrency,
+        int clockIns,
+        Duration pollingDuration,
+        int claimTasks,
+        int claimantsPerTask,
+        int payrollEmployees,
+        boolean virtualThreads,
+        Duration smtpDelay,
+        Set<String> scenarios,
+        String reportPath) {
+
+    static final List<String> ALL_SCENARIOS = List.of("clockin", "polling", "claims", "payroll", "mixed");
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(eq < 0 ? arg.substring(2) : arg.substring(2, eq), eq < 0 ? "true" : arg.substring(eq + 1));
+        }
+        double scale = Double.parseDouble(options.getOrDefault("scale", "1"));
+
+        Set<String> scenarios = new LinkedHashSet<>();
+        for (String scenario : options.getOrDefault("scenarios", String.join(",", ALL_SCENARIOS)).split(",")) {
+            if (!scenario.isBlank()) {
+                if (!ALL_SCENARIOS.contains(scenario.trim())) {
+                    throw new IllegalArgumentException("Unknown scenario: " + scenario + ", expected one of " + ALL_SCENARIOS);
+                }
+                scenarios.add(scenario.trim());
+            }
+        }
+
+        return new LoadTestConfig(
+                Boolean.parseBoolean(options.getOrDefault("seed", "false")),
+                Boolean.parseBoolean(options.getOrDefault("reset", "false")),
+                scaled(options, "users", 50_000, scale),
+                scaled(options, "attendance", 5_000_000, scale),
+                scaled(options, "tasks", 1_000_000, scale),
+                scaled(options, "notifications", 2_000_000, scale),
+                Integer.parseInt(options.getOrDefault("concurrency", "64")),
+                scaled(options, "clockins", 20_000, scale),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("polling-seconds", "60"))),
+                scaled(options, "claim-tasks", 2_000, scale),
+                Integer.parseInt(options.getOrDefault("claimants", "3")),
+                scaled(options, "payroll", 5_000, scale),
+                switch (options.getOrDefault("threads", "platform")) {
+                    case "platform" -> false;
+                    case "virtual" -> true;
+                    default -> throw new IllegalArgumentException("--threads must be platform or virtual");
+                },
+                Duration.ofMillis(Long.parseLong(options.getOrDefault("smtp-delay-ms", "0"))),
+                scenarios,
+                options.getOrDefault("report", "target/loadtest-report.json"));
+    }
+
+    // An explicit count wins over the scaled default
+    private static int scaled(Map<String, String> options, String name, int defaultValue, double scale) {
+        String value = options.get(name);
+        return value != null ? Integer.parseInt(value) : Math.max(1, (int) Math.round(defaultValue * scale));
+    }
+}
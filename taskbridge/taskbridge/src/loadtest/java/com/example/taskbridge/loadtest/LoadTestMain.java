@@ -0,0 +1,248 @@
+package com.example.taskbridge.loadtest;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.taskbridge.TaskbridgeApplication;
+import com.example.taskbridge.event.UserChangedEvent;
+import com.example.taskbridge.loadtest.LoadDriver.LoadRequest;
+import com.example.taskbridge.security.JwtUtil;
+
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+// Reproducible load test: starts an SMTP stub and the application in this JVM against the
+// database from DB_URL, optionally seeds a synthetic org, then drives the scenarios and
+// prints per-endpoint latency percentiles and throughput (also written as JSON).
+//
+//   mvn -Ploadtest -DskipTests verify -Dloadtest.args="--seed --reset --scale=0.1"
+//
+// Scenarios:
+//   clockin  - morning burst: many employees clock in at once
+//   polling  - employees polling their unread notifications for a fixed time
+//   claims   - several employees race to claim each unclaimed task
+//   payroll  - HR calculates last month's salary for many employees
+//   mixed    - employees poll unread notifications while HR pulls last month's org-wide
+//              attendance report and sends notices (each one an email)
+//
+// --threads=virtual runs the application in virtual-thread mode (spring.threads.virtual.enabled);
+// compare its report with a --threads=platform run of the same scenarios. --smtp-delay-ms makes
+// the SMTP stub a slow relay, and a --concurrency above Tomcat's 200 request threads shows what
+// happens once the platform pool is exhausted, e.g.
+//
+//   -Dloadtest.args="--scenarios=mixed --concurrency=400 --smtp-delay-ms=2000 --threads=virtual"
+//
+// Requests carry tokens minted by the application's own JwtUtil, so no bcrypt logins are
+// part of the measurement. The app and the driver share the JVM; use a machine with
+// spare cores, or lower --concurrency, when comparing runs.
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        int exitCode = 0;
+        try (SmtpStub smtp = new SmtpStub(config.smtpDelay());
+             ConfigurableApplicationContext context = startApplication(smtp.port(), config.virtualThreads())) {
+
+            if (config.seed()) {
+                new SyntheticDataGenerator(context.getBean(DataSource.class), config).generate();
+                // In-memory user snapshots were loaded at startup, before the seed
+                context.publishEvent(new UserChangedEvent(null));
+            }
+
+            Org org = Org.load(context.getBean(JdbcTemplate.class), context.getBean(JwtUtil.class));
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("threads", config.virtualThreads() ? "virtual" : "platform");
+            try (LoadDriver driver = new LoadDriver(URI.create("http://localhost:" + port), config.concurrency())) {
+                for (String scenario : config.scenarios()) {
+                    System.out.println("Running scenario " + scenario + " ...");
+                    switch (scenario) {
+                        case "clockin" -> clockInBurst(driver, org, config);
+                        case "polling" -> notificationPolling(driver, org, config);
+                        case "claims" -> claimStorm(driver, org, config, context.getBean(JdbcTemplate.class));
+                        case "payroll" -> monthEndPayroll(driver, org, config);
+                        case "mixed" -> mixedWorkload(driver, org, config);
+                        default -> throw new IllegalStateException("Unknown scenario " + scenario);
+                    }
+                }
+                driver.stats().forEach((endpoint, stats) -> report.put(endpoint, stats.summary()));
+            }
+            report.put("smtpMessagesReceived", smtp.messagesReceived());
+            printReport(report);
+            writeReport(report, Path.of(config.reportPath()));
+        } catch (Exception e) {
+            e.printStackTrace();
+            exitCode = 1;
+        }
+        System.exit(exitCode);
+    }
+
+    private static ConfigurableApplicationContext startApplication(int smtpPort, boolean virtualThreads) {
+        // Command-line arguments outrank application.properties
+        return new SpringApplicationBuilder(TaskbridgeApplication.class).run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--logging.level.root=WARN",
+                "--spring.mail.host=localhost",
+                "--spring.mail.port=" + smtpPort,
+                "--spring.mail.username=",
+                "--spring.mail.password=",
+                "--spring.mail.properties.mail.smtp.auth=false",
+                "--spring.mail.properties.mail.smtp.starttls.enable=false",
+                "--spring.mail.properties.mail.smtp.starttls.required=false");
+    }
+
+    private static void clockInBurst(LoadDriver driver, Org org, LoadTestConfig config) throws InterruptedException {
+        List<LoadRequest> requests = new ArrayList<>();
+        for (Member employee : org.sample(org.employees(), config.clockIns())) {
+            requests.add(new LoadRequest("POST /api/attendance/clock-in", "POST", "/api/attendance/clock-in",
+                    employee.token(), null));
+        }
+        driver.runAll("clockin", requests);
+    }
+
+    private static void notificationPolling(LoadDriver driver, Org org, LoadTestConfig config)
+            throws InterruptedException {
+        List<Member> employees = org.employees();
+        driver.runFor("polling", config.pollingDuration(), () -> {
+            Member employee = employees.get(ThreadLocalRandom.current().nextInt(employees.size()));
+            return new LoadRequest("GET /api/notifications/unread", "GET", "/api/notifications/unread",
+                    employee.token(), null);
+        });
+    }
+
+    // Each unclaimed task is targeted by several employees at once; losers should get a 4xx
+    private static void claimStorm(LoadDriver driver, Org org, LoadTestConfig config, JdbcTemplate jdbcTemplate)
+            throws InterruptedException {
+        List<Long> taskIds = jdbcTemplate.queryForList(
+                "select id from tasks where manager_id is null and status = 'CREATED' order by id limit ?",
+                Long.class, config.claimTasks());
+        Random random = new Random(7);
+        List<LoadRequest> requests = new ArrayList<>();
+        for (Long taskId : taskIds) {
+            for (int i = 0; i < config.claimantsPerTask(); i++) {
+                Member employee = org.employees().get(random.nextInt(org.employees().size()));
+                requests.add(new LoadRequest("POST /api/tasks/{id}/claim", "POST", "/api/tasks/" + taskId + "/claim",
+                        employee.token(), null));
+            }
+        }
+        Collections.shuffle(requests, random);
+        driver.runAll("claims", requests);
+    }
+
+    private static void monthEndPayroll(LoadDriver driver, Org org, LoadTestConfig config)
+            throws InterruptedException {
+        YearMonth month = YearMonth.from(LocalDate.now()).minusMonths(1);
+        Member hr = org.hr().get(0);
+        List<LoadRequest> requests = new ArrayList<>();
+        for (Member employee : org.sample(org.employees(), config.payrollEmployees())) {
+            String body = "{\"userId\":" + employee.id() + ",\"year\":" + month.getYear()
+                    + ",\"month\":" + month.getMonthValue() + ",\"baseSalary\":42000.00}";
+            requests.add(new LoadRequest("POST /api/hr/salary/calculate", "POST", "/api/hr/salary/calculate",
+                    hr.token(), body));
+        }
+        driver.runAll("payroll", requests);
+    }
+
+    // Interactive polling mixed with slow HR traffic; tail latency of the polling endpoint is the measure
+    private static void mixedWorkload(LoadDriver driver, Org org, LoadTestConfig config) throws InterruptedException {
+        YearMonth month = YearMonth.from(LocalDate.now()).minusMonths(1);
+        String reportPath = "/api/hr/attendance/range?startDate=" + month.atDay(1) + "&endDate=" + month.atEndOfMonth();
+        List<Member> employees = org.employees();
+        Member hr = org.hr().get(0);
+        driver.runFor("mixed", config.pollingDuration(), () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Member employee = employees.get(random.nextInt(employees.size()));
+            int pick = random.nextInt(10);
+            if (pick == 0) {
+                return new LoadRequest("GET /api/hr/attendance/range", "GET", reportPath, hr.token(), null);
+            }
+            if (pick == 1) {
+                String body = "{\"recipientId\":" + employee.id() + ",\"subject\":\"Load test notice\","
+                        + "\"content\":\"Please review the updated policy.\",\"noticeType\":\"GENERAL\"}";
+                return new LoadRequest("POST /api/hr/notice", "POST", "/api/hr/notice", hr.token(), body);
+            }
+            return new LoadRequest("GET /api/notifications/unread", "GET", "/api/notifications/unread",
+                    employee.token(), null);
+        });
+    }
+
+    private static void printReport(Map<String, Object> report) {
+        System.out.printf("%n%-48s %9s %7s %7s %9s %9s %9s %9s %9s%n",
+                "scenario endpoint", "requests", "4xx", "5xx/io", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        report.forEach((endpoint, value) -> {
+            if (value instanceof Map<?, ?> stats) {
+                System.out.printf("%-48s %9d %7d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", endpoint,
+                        stats.get("requests"), stats.get("clientErrors"),
+                        (Long) stats.get("serverErrors") + (Long) stats.get("ioErrors"),
+                        stats.get("throughputPerSecond"), stats.get("p50Millis"), stats.get("p90Millis"),
+                        stats.get("p99Millis"), stats.get("maxMillis"));
+            }
+        });
+        System.out.println("Threads: " + report.get("threads")
+                + ", SMTP messages received: " + report.get("smtpMessagesReceived"));
+    }
+
+    private static void writeReport(Map<String, Object> report, Path path) throws Exception {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        JsonMapper jsonMapper = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+        Files.writeString(path, jsonMapper.writeValueAsString(report));
+        System.out.println("Report written to " + path.toAbsolutePath());
+    }
+
+    private record Member(long id, String token) {
+    }
+
+    // Seeded users by role, each with a ready-made bearer token
+    private record Org(List<Member> hr, List<Member> employees) {
+
+        static Org load(JdbcTemplate jdbcTemplate, JwtUtil jwtUtil) {
+            List<Member> hr = new ArrayList<>();
+            List<Member> employees = new ArrayList<>();
+            jdbcTemplate.query("select id, email, role from app_user where email like ? and active order by id",
+                    rs -> {
+                        Member member = new Member(rs.getLong("id"), jwtUtil.generateToken(rs.getString("email")));
+                        switch (rs.getString("role")) {
+                            case "HR" -> hr.add(member);
+                            case "EMPLOYEE" -> employees.add(member);
+                            default -> {
+                                // Admins and managers are not driven by any scenario
+                            }
+                        }
+                    },
+                    "%" + SyntheticDataGenerator.EMAIL_DOMAIN);
+            if (hr.isEmpty() || employees.isEmpty()) {
+                throw new IllegalStateException("No seeded users found; run with --seed first");
+            }
+            return new Org(hr, employees);
+        }
+
+        // A deterministic subset of at most `count` members
+        List<Member> sample(List<Member> members, int count) {
+            List<Member> copy = new ArrayList<>(members);
+            Collections.shuffle(copy, new Random(11));
+            return copy.subList(0, Math.min(count, copy.size()));
+        }
+    }
+}
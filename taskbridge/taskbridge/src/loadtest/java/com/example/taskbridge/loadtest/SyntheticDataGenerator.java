@@ -0,0 +1,285 @@
+package com.example.taskbridge.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.example.taskbridge.entity.NotificationType;
+import com.example.taskbridge.entity.TaskPriority;
+
+// Seeds a synthetic organisation with COPY ... FROM STDIN, streaming rows in 1 MB chunks.
+//
+// Users are app_user rows with emails user<n>@load.test; index 0 is the admin, then 1% HR,
+// 5% managers and the rest employees. Attendance history ends two days ago so every
+// employee can clock in today without tripping the 24-hour rule. Generation is seeded,
+// so the same options always produce the same data.
+final class SyntheticDataGenerator {
+
+    static final String EMAIL_DOMAIN = "@load.test";
+    static final String PASSWORD = "loadtest";
+
+    private static final int CHUNK_BYTES = 1 << 20;
+
+    private final DataSource dataSource;
+    private final LoadTestConfig config;
+    private final Random random = new Random(20240601L);
+
+    SyntheticDataGenerator(DataSource dataSource, LoadTestConfig config) {
+        this.dataSource = dataSource;
+        this.config = config;
+    }
+
+    static String email(int index) {
+        return "user" + index + EMAIL_DOMAIN;
+    }
+
+    static String role(int index, int users) {
+        int hr = Math.max(1, users / 100);
+        int managers = Math.max(1, users / 20);
+        if (index == 0) {
+            return "ADMIN";
+        }
+        if (index <= hr) {
+            return "HR";
+        }
+        return index <= hr + managers ? "MANAGER" : "EMPLOYEE";
+    }
+
+    void generate() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+
+            if (config.reset()) {
+                try (Statement statement = connection.createStatement()) {
+                    // Cascades to every table that references app_user
+                    statement.execute("truncate table app_user restart identity cascade");
+                }
+                connection.commit();
+            } else if (countSeededUsers(connection) > 0) {
+                throw new IllegalStateException("Database already holds load-test users; pass --reset to reseed");
+            }
+
+            long started = System.nanoTime();
+            copyUsers(copyManager);
+            connection.commit();
+            report("users", config.users(), started);
+
+            List<Long> managers = new ArrayList<>();
+            List<Long> employees = new ArrayList<>();
+            loadUserIds(connection, managers, employees);
+
+            started = System.nanoTime();
+            copyAttendance(copyManager, employees);
+            connection.commit();
+            report("attendance", config.attendanceRows(), started);
+
+            started = System.nanoTime();
+            copyTasks(copyManager, managers, employees);
+            connection.commit();
+            report("tasks", config.tasks(), started);
+
+            started = System.nanoTime();
+            copyNotifications(copyManager, managers, employees);
+            connection.commit();
+            report("notifications", config.notifications(), started);
+
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("analyze app_user, attendance, tasks, notifications");
+            }
+        }
+    }
+
+    private void copyUsers(CopyManager copyManager) throws SQLException {
+        // One hash for everyone: bcrypt is deliberately slow and the value is irrelevant here
+        String hash = new BCryptPasswordEncoder().encode(PASSWORD);
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        try (CopyWriter writer = new CopyWriter(copyManager,
+                "copy app_user (name, email, password, role, active, deleted, created_at, updated_at) from stdin")) {
+            for (int i = 0; i < config.users(); i++) {
+                writer.row("Load User " + i, email(i), hash, role(i, config.users()), "t", "f", now, now);
+            }
+        }
+    }
+
+    private static long countSeededUsers(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "select count(*) from app_user where email like ?")) {
+            statement.setString(1, "%" + EMAIL_DOMAIN);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private void loadUserIds(Connection connection, List<Long> managers, List<Long> employees) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "select id, role from app_user where email like ? order by id")) {
+            statement.setString(1, "%" + EMAIL_DOMAIN);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    String role = rs.getString("role");
+                    if ("MANAGER".equals(role)) {
+                        managers.add(rs.getLong("id"));
+                    } else if ("EMPLOYEE".equals(role)) {
+                        employees.add(rs.getLong("id"));
+                    }
+                }
+            }
+        }
+        if (managers.isEmpty() || employees.isEmpty()) {
+            throw new IllegalStateException("Seed needs at least one manager and one employee; raise --users");
+        }
+    }
+
+    private void copyAttendance(CopyManager copyManager, List<Long> employees) throws SQLException {
+        int perUser = (config.attendanceRows() + employees.size() - 1) / employees.size();
+        LocalDate lastDay = LocalDate.now().minusDays(2);
+        int written = 0;
+        try (CopyWriter writer = new CopyWriter(copyManager,
+                "copy attendance (user_id, attendance_date, clock_in_time, clock_out_time, status, created_at, updated_at) "
+                        + "from stdin")) {
+            for (int day = 0; day < perUser && written < config.attendanceRows(); day++) {
+                LocalDate date = lastDay.minusDays(day);
+                for (int u = 0; u < employees.size() && written < config.attendanceRows(); u++, written++) {
+                    int roll = random.nextInt(100);
+                    if (roll < 90) {
+                        LocalDateTime in = date.atTime(8, 30).plusMinutes(random.nextInt(60));
+                        LocalDateTime out = date.atTime(17, 0).plusMinutes(random.nextInt(90));
+                        writer.row(employees.get(u), date, in, out, "PRESENT", in, out);
+                    } else {
+                        LocalDateTime created = date.atTime(23, 59);
+                        writer.row(employees.get(u), date, null, null, roll < 95 ? "ABSENT" : "ON_LEAVE",
+                                created, created);
+                    }
+                }
+            }
+        }
+    }
+
+    // Roughly 10% of tasks are left unclaimed for the claim-storm scenario
+    private void copyTasks(CopyManager copyManager, List<Long> managers, List<Long> employees) throws SQLException {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        TaskPriority[] priorities = TaskPriority.values();
+        try (CopyWriter writer = new CopyWriter(copyManager,
+                "copy tasks (title, description, priority, status, deadline, creator_id, manager_id, "
+                        + "created_at, updated_at, deleted) from stdin")) {
+            for (int i = 0; i < config.tasks(); i++) {
+                LocalDateTime created = now.minusMinutes(random.nextInt(60 * 24 * 180));
+                boolean claimed = random.nextInt(10) != 0;
+                String status = !claimed ? "CREATED" : random.nextInt(3) == 0 ? "COMPLETED"
+                        : random.nextBoolean() ? "IN_PROGRESS" : "ASSIGNED";
+                writer.row("Synthetic task " + i,
+                        "Generated workload item " + i + " for load testing",
+                        priorities[random.nextInt(priorities.length)].name(),
+                        status,
+                        created.plusDays(3 + random.nextInt(30)),
+                        managers.get(random.nextInt(managers.size())),
+                        claimed ? employees.get(random.nextInt(employees.size())) : null,
+                        created, created, "f");
+            }
+        }
+    }
+
+    private void copyNotifications(CopyManager copyManager, List<Long> managers, List<Long> employees)
+            throws SQLException {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        NotificationType[] types = NotificationType.values();
+        try (CopyWriter writer = new CopyWriter(copyManager,
+                "copy notifications (sender_id, recipient_id, title, message, type, is_read, created_at) from stdin")) {
+            for (int i = 0; i < config.notifications(); i++) {
+                writer.row(managers.get(random.nextInt(managers.size())),
+                        employees.get(random.nextInt(employees.size())),
+                        "Synthetic notification " + i,
+                        "Please review the update attached to item " + i + " before the end of the week.",
+                        types[random.nextInt(types.length)].name(),
+                        random.nextInt(10) == 0 ? "f" : "t",
+                        now.minusMinutes(random.nextInt(60 * 24 * 90)));
+            }
+        }
+    }
+
+    private static void report(String table, int rows, long startedNanos) {
+        long millis = Math.max(1, (System.nanoTime() - startedNanos) / 1_000_000);
+        System.out.printf("Seeded %,d %s rows in %,d ms (%,d rows/s)%n", rows, table, millis, rows * 1000L / millis);
+    }
+
+    // Buffers rows in COPY text format and ships them in chunks; a failed copy is cancelled
+    private static final class CopyWriter implements AutoCloseable {
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(CHUNK_BYTES + 4096);
+        private boolean failed = true;
+
+        CopyWriter(CopyManager copyManager, String sql) throws SQLException {
+            this.copyIn = copyManager.copyIn(sql);
+        }
+
+        void row(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append('\t');
+                }
+                appendValue(values[i]);
+            }
+            buffer.append('\n');
+            if (buffer.length() >= CHUNK_BYTES) {
+                flush();
+            }
+        }
+
+        private void appendValue(Object value) {
+            if (value == null) {
+                buffer.append("\\N");
+                return;
+            }
+            String text = value.toString();
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '\\' -> buffer.append("\\\\");
+                    case '\t' -> buffer.append("\\t");
+                    case '\n' -> buffer.append("\\n");
+                    case '\r' -> buffer.append("\\r");
+                    default -> buffer.append(c);
+                }
+            }
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flush();
+                copyIn.endCopy();
+                failed = false;
+            } finally {
+                if (failed && copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.taskbridge.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    private final boolean virtualThreads;
+
+    public AsyncConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    // Bounded pool for running independent read queries in parallel within one request.
+    // Their statements count toward the submitting request's query budget.
+    @Bean(name = "queryExecutor")
+    public ThreadPoolTaskExecutor queryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("query-");
+        executor.setTaskDecorator(QueryCounter::propagate);
+        blockingWorkers(executor);
+        executor.initialize();
+        return executor;
+    }
+
+    // Outbound mail; a few threads so SMTP latency never reaches request threads
+    @Bean(name = "mailExecutor")
+    public ThreadPoolTaskExecutor mailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("mail-");
+        blockingWorkers(executor);
+        executor.initialize();
+        return executor;
+    }
+
+    // CPU-bound work such as the roster solver; one platform thread per core in either threading mode
+    @Bean(name = "solverExecutor")
+    public ThreadPoolTaskExecutor solverExecutor() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cores);
+        executor.setMaxPoolSize(cores);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("solver-");
+        executor.initialize();
+        return executor;
+    }
+
+    // In virtual-thread mode, workers that block on JDBC or SMTP run on virtual threads so a
+    // waiting task does not hold a platform thread. Pool and queue sizes are unchanged: they
+    // bound concurrent connections and SMTP sessions, not threads.
+    private void blockingWorkers(ThreadPoolTaskExecutor executor) {
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name(executor.getThreadNamePrefix(), 1).factory());
+        }
+    }
+}
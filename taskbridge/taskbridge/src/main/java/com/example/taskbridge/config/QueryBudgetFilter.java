@@ -0,0 +1,144 @@
+package com.example.taskbridge.config;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+// Counts the statements each request executes, including those issued by the security
+// filters, and compares them with the route's budget. Over-budget requests are logged and
+// counted; every request feeds a per-route distribution of statement counts.
+//
+// With taskbridge.query-budget.expose-header=true (meant for development) the response
+// carries the count in X-Query-Count. The header is set just before the body starts, so
+// nothing is buffered and streamed responses such as the .ics feeds stream as before;
+// statements run after that point (while a body is being streamed) are only in the metrics.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "X-Query-Count";
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    private final QueryBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public QueryBudgetFilter(QueryBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.Scope scope = QueryCounter.open();
+        if (!properties.exposeHeader()) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                record(request, scope.count());
+            }
+            return;
+        }
+
+        CountHeaderResponse counted = new CountHeaderResponse(response, scope);
+        try {
+            filterChain.doFilter(request, counted);
+        } finally {
+            counted.addCountHeader();
+            record(request, scope.count());
+        }
+    }
+
+    private void record(HttpServletRequest request, long count) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        // Unmatched requests (404s, static resources, preflights) share one tag value
+        String route = pattern != null ? pattern.toString() : "UNMATCHED";
+        DistributionSummary.builder("taskbridge.sql.queries.per.request")
+                .tag("uri", route)
+                .register(meterRegistry)
+                .record(count);
+
+        int budget = properties.budgetFor(route);
+        if (pattern != null && count > budget) {
+            meterRegistry.counter("taskbridge.sql.budget.exceeded", "uri", route).increment();
+            log.warn("{} {} executed {} statements, budget for {} is {}", request.getMethod(),
+                    request.getRequestURI(), count, route, budget);
+        }
+    }
+
+    // Adds the header the first time the body is opened or the response is about to commit,
+    // and only on the request thread, where the scope's count is meaningful
+    private static final class CountHeaderResponse extends HttpServletResponseWrapper {
+
+        private final QueryCounter.Scope scope;
+        private final Thread requestThread = Thread.currentThread();
+        private boolean added;
+
+        CountHeaderResponse(HttpServletResponse response, QueryCounter.Scope scope) {
+            super(response);
+            this.scope = scope;
+        }
+
+        void addCountHeader() {
+            if (!added && !isCommitted() && Thread.currentThread() == requestThread) {
+                added = true;
+                setHeader(HEADER, Long.toString(scope.count()));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addCountHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addCountHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addCountHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addCountHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addCountHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addCountHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
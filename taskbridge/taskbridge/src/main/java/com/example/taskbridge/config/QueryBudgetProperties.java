@@ -0,0 +1,19 @@
+package com.example.taskbridge.config;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// Per-request statement budgets, keyed by route pattern as matched by Spring MVC
+// (for example "/api/tasks/{id}/claim"); routes without an entry use defaultBudget.
+@ConfigurationProperties(prefix = "taskbridge.query-budget")
+public record QueryBudgetProperties(int defaultBudget, Map<String, Integer> routes, boolean exposeHeader) {
+
+    public QueryBudgetProperties {
+        routes = routes != null ? Map.copyOf(routes) : Map.of();
+    }
+
+    int budgetFor(String route) {
+        return routes.getOrDefault(route, defaultBudget);
+    }
+}
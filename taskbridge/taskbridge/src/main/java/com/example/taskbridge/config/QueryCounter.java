@@ -0,0 +1,58 @@
+package com.example.taskbridge.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Running count of JDBC statement executions on the current thread, fed by the datasource
+// proxy from QueryCountConfig.
+//
+// The count only ever grows; callers open a Scope and read the difference, so scopes nest
+// (a test can wrap a request that the QueryBudgetFilter is also measuring). Tasks run on the
+// query executor add to the count of the thread that submitted them (see propagate), so a
+// request's fan-out queries count toward that request. Other executors, such as mail, count
+// on their own threads.
+public final class QueryCounter {
+
+    private static final ThreadLocal<AtomicLong> EXECUTIONS = ThreadLocal.withInitial(AtomicLong::new);
+
+    private QueryCounter() {
+    }
+
+    static void increment() {
+        EXECUTIONS.get().incrementAndGet();
+    }
+
+    public static Scope open() {
+        return new Scope(EXECUTIONS.get().get());
+    }
+
+    // Task decorator: while the task runs, its statements go to the submitting thread's counter.
+    // A task that outlives the submitter's scope (a timed-out dashboard section) still adds to
+    // that counter, but after the scope has been read.
+    static Runnable propagate(Runnable task) {
+        AtomicLong submitter = EXECUTIONS.get();
+        return () -> {
+            AtomicLong own = EXECUTIONS.get();
+            EXECUTIONS.set(submitter);
+            try {
+                task.run();
+            } finally {
+                EXECUTIONS.set(own);
+            }
+        };
+    }
+
+    public static final class Scope {
+
+        private final long start;
+
+        private Scope(long start) {
+            this.start = start;
+        }
+
+        // Statements executed on this thread, and by tasks it handed to the query executor,
+        // since the scope was opened
+        public long count() {
+            return EXECUTIONS.get().get() - start;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.taskbridge.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// Read replica connection and routing settings. Pool settings for the replica go under
+// taskbridge.datasource.replica.hikari.*, like spring.datasource.hikari.* for the primary.
+@ConfigurationProperties(prefix = "taskbridge.datasource.replica")
+public record ReplicaProperties(String url, String username, String password,
+                                Duration readYourWritesWindow, Duration maxLag) {
+
+    public ReplicaProperties {
+        readYourWritesWindow = readYourWritesWindow != null ? readYourWritesWindow : Duration.ofSeconds(5);
+        maxLag = maxLag != null ? maxLag : Duration.ofSeconds(10);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.taskbridge.config;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Read replica routing, switched on by setting taskbridge.datasource.replica.url. Without it
+// Spring Boot's single DataSource on spring.datasource.* is used unchanged.
+//
+// The two pools are built here rather than registered as beans, so the only DataSource bean is
+// the router and the statement-counting proxy from QueryCountConfig wraps it exactly once.
+@Configuration
+@ConditionalOnProperty(prefix = "taskbridge.datasource.replica", name = "url")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaRoutingConfig {
+
+    private final ObjectProvider<DataSource> dataSource;
+
+    public ReplicaRoutingConfig(ObjectProvider<DataSource> dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Bean
+    public DataSource dataSource(Environment environment, ReplicaProperties replica, MeterRegistry meterRegistry,
+                                 @Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        // An open EntityManager keeps its first connection for the whole request, so a request
+        // would stay on whichever pool its first transaction picked
+        if (openInView) {
+            throw new IllegalStateException("Replica routing needs spring.jpa.open-in-view=false");
+        }
+        HikariDataSource primary = pool(environment, "primary", "spring.datasource",
+                environment.getProperty("spring.datasource.url"),
+                environment.getProperty("spring.datasource.username"),
+                environment.getProperty("spring.datasource.password"), meterRegistry);
+        HikariDataSource replicaPool = pool(environment, "replica", "taskbridge.datasource.replica",
+                replica.url(), replica.username(), replica.password(), meterRegistry);
+        return new ReplicaRoutingDataSource(primary, replicaPool, replica.readYourWritesWindow(), replica.maxLag(),
+                meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${taskbridge.datasource.replica.health-check-interval:10s}")
+    public void checkReplica() throws SQLException {
+        dataSource.getObject().unwrap(ReplicaRoutingDataSource.class).checkReplica();
+    }
+
+    // A Hikari pool for the URL, with any <prefix>.hikari.* settings applied
+    private static HikariDataSource pool(Environment environment, String name, String prefix,
+                                         String url, String username, String password, MeterRegistry meterRegistry) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        pool.setMetricRegistry(meterRegistry);
+        Binder.get(environment).bind(prefix + ".hikari", Bindable.ofInstance(pool));
+        return pool;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.taskbridge.config;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Sends connections for read-only transactions to the replica pool and everything else to the
+// primary. The transaction manager opens the connection before the transaction's read-only
+// flag is published, so the lazy proxy defers choosing a pool until the first statement.
+//
+// Read-only work still goes to the primary while the replica is unhealthy (unreachable, or
+// lagging more than maxLag at the last probe), and for readYourWritesWindow after one of the
+// current user's read-write transactions commits, so nobody reads data older than their own write.
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    // Seconds the replica is behind; 0 when it has replayed everything it received, and on a primary
+    private static final String LAG_SQL = "select case when pg_is_in_recovery() "
+            + "and pg_last_wal_receive_lsn() <> pg_last_wal_replay_lsn() "
+            + "then extract(epoch from now() - pg_last_xact_replay_timestamp()) else 0 end";
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+    private final long readYourWritesNanos;
+    private final double maxLagSeconds;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final AtomicBoolean replicaHealthy = new AtomicBoolean(true);
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, HikariDataSource replica,
+                                    Duration readYourWritesWindow, Duration maxLag, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWritesNanos = readYourWritesWindow.toNanos();
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.meterRegistry = meterRegistry;
+        setTargetDataSource(new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return route();
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                throw new SQLException("Routed connections use the pools' own credentials");
+            }
+        });
+        meterRegistry.gauge("taskbridge.datasource.replica.healthy", replicaHealthy, healthy -> healthy.get() ? 1 : 0);
+    }
+
+    private Connection route() throws SQLException {
+        String user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (user != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        lastWrites.put(user, System.nanoTime());
+                    }
+                });
+            }
+            return routed(primary, "write");
+        }
+
+        if (!replicaHealthy.get()) {
+            return routed(primary, "replica-unhealthy");
+        }
+        Long lastWrite = user != null ? lastWrites.get(user) : null;
+        if (lastWrite != null && System.nanoTime() - lastWrite < readYourWritesNanos) {
+            return routed(primary, "read-your-writes");
+        }
+        try {
+            return routed(replica, "read");
+        } catch (SQLException e) {
+            markReplica(false, e.getMessage());
+            return routed(primary, "replica-unhealthy");
+        }
+    }
+
+    private Connection routed(HikariDataSource pool, String reason) throws SQLException {
+        Connection connection = pool.getConnection();
+        meterRegistry.counter("taskbridge.datasource.route", "target", pool == replica ? "replica" : "primary",
+                "reason", reason).increment();
+        return connection;
+    }
+
+    // Probe the replica directly (not through routing or statement counting) and update its health.
+    // Also forgets writes older than the read-your-writes window.
+    public void checkReplica() {
+        long now = System.nanoTime();
+        lastWrites.values().removeIf(writtenAt -> now - writtenAt >= readYourWritesNanos);
+
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_SQL)) {
+            rs.next();
+            double lag = rs.getDouble(1);
+            markReplica(lag <= maxLagSeconds, lag > maxLagSeconds ? "replication lag " + lag + "s" : null);
+        } catch (SQLException e) {
+            markReplica(false, e.getMessage());
+        }
+    }
+
+    void markReplica(boolean healthy, String reason) {
+        if (replicaHealthy.getAndSet(healthy) != healthy) {
+            if (healthy) {
+                log.info("Read replica is healthy again; read-only transactions use it");
+            } else {
+                log.warn("Read replica marked unhealthy ({}); read-only transactions use the primary", reason);
+            }
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    @Override
+    public void close() {
+        replica.close();
+        primary.close();
+    }
+}
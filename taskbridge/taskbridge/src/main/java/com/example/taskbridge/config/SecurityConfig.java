@@ -1,8 +1,10 @@
 package com.example.taskbridge.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -24,6 +26,10 @@ public class SecurityConfig {
   @Autowired
   private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+  // Separate actuator port (MANAGEMENT_PORT); unset means actuator shares the application port
+  @Value("${management.server.port:#{null}}")
+  private Integer managementPort;
+
   @Bean
   public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 
@@ -40,6 +46,15 @@ public class SecurityConfig {
         // Authorization rules
         .authorizeHttpRequests(auth -> auth
             .requestMatchers("/api/auth/**").permitAll()
+            // Calendar subscriptions: the feed token in the URL stands in for the JWT
+            .requestMatchers(HttpMethod.GET, "/api/roster/feed/*.ics").permitAll()
+            // Health checks are unauthenticated. The Prometheus scraper is too, but only on the separate
+            // management port, which is meant to be reachable from the monitoring network alone;
+            // on the application port it is admin-only like every other actuator endpoint.
+            .requestMatchers("/actuator/health/**").permitAll()
+            .requestMatchers(request -> managementPort != null && request.getLocalPort() == managementPort
+                && "/actuator/prometheus".equals(request.getRequestURI())).permitAll()
+            .requestMatchers("/actuator/**").hasRole("ADMIN")
             .anyRequest().authenticated())
 
         // Add JWT filter before UsernamePasswordAuthenticationFilter
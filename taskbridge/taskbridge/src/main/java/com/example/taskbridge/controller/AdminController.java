@@ -1,7 +1,9 @@
 package com.example.taskbridge.controller;
 
+import java.time.YearMonth;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -12,6 +14,7 @@ import com.example.taskbridge.entity.User;
 import com.example.taskbridge.service.TaskService;
 import com.example.taskbridge.service.UserService;
 import com.example.taskbridge.service.NotificationService;
+import com.example.taskbridge.service.PartitionMaintenanceService;
 import com.example.taskbridge.dto.NotificationRequest;
 import com.example.taskbridge.entity.NotificationType;
 
@@ -25,11 +28,14 @@ public class AdminController {
     private final UserService userService;
     private final TaskService taskService;
     private final NotificationService notificationService;
+    private final PartitionMaintenanceService partitionMaintenanceService;
 
-    public AdminController(UserService userService, TaskService taskService, NotificationService notificationService) {
+    public AdminController(UserService userService, TaskService taskService, NotificationService notificationService,
+                           PartitionMaintenanceService partitionMaintenanceService) {
         this.userService = userService;
         this.taskService = taskService;
         this.notificationService = notificationService;
+        this.partitionMaintenanceService = partitionMaintenanceService;
     }
 
     @GetMapping("/users")
@@ -98,4 +104,18 @@ public class AdminController {
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
     }
+
+    // Months with an attached partition in a partitioned table (attendance, notifications)
+    @GetMapping("/partitions/{table}")
+    public ResponseEntity<List<YearMonth>> getAttachedPartitions(@PathVariable String table) {
+        return ResponseEntity.ok(partitionMaintenanceService.getAttachedMonths(table));
+    }
+
+    // Detach a past month's partition ahead of retention; its rows stay in a standalone table
+    @PostMapping("/partitions/{table}/{month}/detach")
+    public ResponseEntity<Void> detachPartition(@PathVariable String table,
+                                                @PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        partitionMaintenanceService.detachMonth(table, month);
+        return ResponseEntity.noContent().build();
+    }
 }
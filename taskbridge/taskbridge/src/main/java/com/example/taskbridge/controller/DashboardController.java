@@ -0,0 +1,28 @@
+package com.example.taskbridge.controller;
+
+import java.security.Principal;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.taskbridge.dto.DashboardResponse;
+import com.example.taskbridge.service.DashboardService;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    // Tasks, unread count, today's attendance and leaves for the current user in one response
+    @GetMapping
+    public ResponseEntity<DashboardResponse> getDashboard(Principal principal) {
+        return ResponseEntity.ok(dashboardService.getDashboard(principal.getName()));
+    }
+}
@@ -1,28 +1,49 @@
 package com.example.taskbridge.controller;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.security.Principal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-
-import com.example.taskbridge.entity.Attendance;
-import com.example.taskbridge.entity.Leave;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.example.taskbridge.dto.AttendanceView;
+import com.example.taskbridge.dto.AutoRosterPlan;
+import com.example.taskbridge.dto.LeaveView;
+import com.example.taskbridge.dto.NoticeAnalyticsResponse;
+import com.example.taskbridge.dto.NoticeBroadcastResult;
+import com.example.taskbridge.dto.NoticeView;
+import com.example.taskbridge.dto.RosterTemplateApplyResult;
+import com.example.taskbridge.dto.RosterTemplateView;
+import com.example.taskbridge.dto.RosterView;
+import com.example.taskbridge.dto.SalaryView;
+import com.example.taskbridge.dto.ScheduleConflict;
+import com.example.taskbridge.dto.TeamCalendarResponse;
+import com.example.taskbridge.dto.UserRef;
 import com.example.taskbridge.entity.Notice;
-import com.example.taskbridge.entity.Roster;
-import com.example.taskbridge.entity.Salary;
+import com.example.taskbridge.entity.RoleType;
 import com.example.taskbridge.entity.User;
 import com.example.taskbridge.exception.ResourceNotFoundException;
 import com.example.taskbridge.repository.UserRepository;
 import com.example.taskbridge.service.AttendanceService;
+import com.example.taskbridge.service.AutoRosterService;
+import com.example.taskbridge.service.LeaveBalanceService;
 import com.example.taskbridge.service.LeaveService;
 import com.example.taskbridge.service.NoticeService;
+import com.example.taskbridge.service.RosterFeedService;
 import com.example.taskbridge.service.RosterService;
+import com.example.taskbridge.service.RosterTemplateService;
+import com.example.taskbridge.service.ScheduleConflictIndex;
 import com.example.taskbridge.service.SalaryService;
+import com.example.taskbridge.service.TeamCalendarService;
+
+import jakarta.servlet.http.HttpServletResponse;
 
 @RestController
 @RequestMapping("/api/hr")
@@ -31,19 +52,36 @@ public class HRController {
 
     private final AttendanceService attendanceService;
     private final LeaveService leaveService;
+    private final LeaveBalanceService leaveBalanceService;
     private final SalaryService salaryService;
     private final RosterService rosterService;
+    private final RosterTemplateService rosterTemplateService;
+    private final RosterFeedService rosterFeedService;
+    private final AutoRosterService autoRosterService;
+    private final ScheduleConflictIndex scheduleConflictIndex;
     private final NoticeService noticeService;
+    private final TeamCalendarService teamCalendarService;
     private final UserRepository userRepository;
 
     public HRController(AttendanceService attendanceService, LeaveService leaveService, 
+                      LeaveBalanceService leaveBalanceService,
                       SalaryService salaryService, RosterService rosterService, 
-                      NoticeService noticeService, UserRepository userRepository) {
+                      RosterTemplateService rosterTemplateService, RosterFeedService rosterFeedService,
+                      AutoRosterService autoRosterService,
+                      ScheduleConflictIndex scheduleConflictIndex,
+                      NoticeService noticeService, TeamCalendarService teamCalendarService,
+                      UserRepository userRepository) {
         this.attendanceService = attendanceService;
         this.leaveService = leaveService;
+        this.leaveBalanceService = leaveBalanceService;
         this.salaryService = salaryService;
         this.rosterService = rosterService;
+        this.rosterTemplateService = rosterTemplateService;
+        this.rosterFeedService = rosterFeedService;
+        this.autoRosterService = autoRosterService;
+        this.scheduleConflictIndex = scheduleConflictIndex;
         this.noticeService = noticeService;
+        this.teamCalendarService = teamCalendarService;
         this.userRepository = userRepository;
     }
 
@@ -51,10 +89,8 @@ public class HRController {
 
     // Get all active employees and managers (HR accessible endpoint)
     @GetMapping("/users")
-    public ResponseEntity<List<User>> getAllActiveEmployees() {
-        List<User> users = userRepository.findAll().stream()
-                .filter(u -> u.isActive() && (u.getRole().name().equals("EMPLOYEE") || u.getRole().name().equals("MANAGER")))
-                .toList();
+    public ResponseEntity<List<UserRef>> getAllActiveEmployees() {
+        List<UserRef> users = userRepository.findActiveRefsByRoleIn(List.of(RoleType.EMPLOYEE, RoleType.MANAGER));
         return ResponseEntity.ok(users);
     }
 
@@ -62,27 +98,27 @@ public class HRController {
 
     // Get attendance for a specific employee
     @GetMapping("/attendance/user/{userId}")
-    public ResponseEntity<List<Attendance>> getEmployeeAttendance(@PathVariable Long userId) {
-        List<Attendance> attendance = attendanceService.getUserAttendance(userId);
+    public ResponseEntity<List<AttendanceView>> getEmployeeAttendance(@PathVariable Long userId) {
+        List<AttendanceView> attendance = attendanceService.getUserAttendance(userId);
         return ResponseEntity.ok(attendance);
     }
 
     // Get attendance for a specific employee in date range
     @GetMapping("/attendance/user/{userId}/range")
-    public ResponseEntity<List<Attendance>> getEmployeeAttendanceByDateRange(
+    public ResponseEntity<List<AttendanceView>> getEmployeeAttendanceByDateRange(
             @PathVariable Long userId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        List<Attendance> attendance = attendanceService.getUserAttendanceByDateRange(userId, startDate, endDate);
+        List<AttendanceView> attendance = attendanceService.getUserAttendanceByDateRange(userId, startDate, endDate);
         return ResponseEntity.ok(attendance);
     }
 
     // Get all attendance for a date range
     @GetMapping("/attendance/range")
-    public ResponseEntity<List<Attendance>> getAllAttendanceByDateRange(
+    public ResponseEntity<List<AttendanceView>> getAllAttendanceByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        List<Attendance> attendance = attendanceService.getAllAttendanceByDateRange(startDate, endDate);
+        List<AttendanceView> attendance = attendanceService.getAllAttendanceByDateRange(startDate, endDate);
         return ResponseEntity.ok(attendance);
     }
 
@@ -90,31 +126,31 @@ public class HRController {
 
     // Get all pending leaves
     @GetMapping("/leaves/pending")
-    public ResponseEntity<List<Leave>> getAllPendingLeaves() {
-        List<Leave> leaves = leaveService.getAllPendingLeaves();
+    public ResponseEntity<List<LeaveView>> getAllPendingLeaves() {
+        List<LeaveView> leaves = leaveService.getAllPendingLeaves();
         return ResponseEntity.ok(leaves);
     }
 
     // Get leaves for a specific employee
     @GetMapping("/leaves/user/{userId}")
-    public ResponseEntity<List<Leave>> getEmployeeLeaves(@PathVariable Long userId) {
-        List<Leave> leaves = leaveService.getUserLeaves(userId);
+    public ResponseEntity<List<LeaveView>> getEmployeeLeaves(@PathVariable Long userId) {
+        List<LeaveView> leaves = leaveService.getUserLeaves(userId);
         return ResponseEntity.ok(leaves);
     }
 
     // Get pending leaves for a specific employee
     @GetMapping("/leaves/user/{userId}/pending")
-    public ResponseEntity<List<Leave>> getEmployeePendingLeaves(@PathVariable Long userId) {
-        List<Leave> leaves = leaveService.getPendingLeaves(userId);
+    public ResponseEntity<List<LeaveView>> getEmployeePendingLeaves(@PathVariable Long userId) {
+        List<LeaveView> leaves = leaveService.getPendingLeaves(userId);
         return ResponseEntity.ok(leaves);
     }
 
     // Apply for leave (accessible by employees)
     @PostMapping("/leaves/apply")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Leave> applyForLeave(
+    public ResponseEntity<LeaveView> applyForLeave(
             @RequestBody ApplyLeaveRequest request) {
-        Leave leave = leaveService.applyForLeave(
+        LeaveView leave = leaveService.applyForLeave(
                 request.getUserId(),
                 request.getStartDate(),
                 request.getEndDate(),
@@ -126,45 +162,58 @@ public class HRController {
 
     // Approve a leave request
     @PostMapping("/leaves/{leaveId}/approve")
-    public ResponseEntity<Leave> approveLeave(
+    public ResponseEntity<LeaveView> approveLeave(
             @PathVariable Long leaveId,
             @RequestBody ApproveLeaveRequest request,
             Principal principal) {
         User approver = userRepository.findByEmail(principal.getName())
                 .orElseThrow(() -> new ResourceNotFoundException("Approver not found"));
         
-        Leave leave = leaveService.approveLeave(leaveId, approver.getId(), request.getNotes());
+        LeaveView leave = leaveService.approveLeave(leaveId, approver.getId(), request.getNotes());
         return ResponseEntity.ok(leave);
     }
 
     // Reject a leave request
     @PostMapping("/leaves/{leaveId}/reject")
-    public ResponseEntity<Leave> rejectLeave(
+    public ResponseEntity<LeaveView> rejectLeave(
             @PathVariable Long leaveId,
             @RequestBody ApproveLeaveRequest request,
             Principal principal) {
         User approver = userRepository.findByEmail(principal.getName())
                 .orElseThrow(() -> new ResourceNotFoundException("Approver not found"));
         
-        Leave leave = leaveService.rejectLeave(leaveId, approver.getId(), request.getNotes());
+        LeaveView leave = leaveService.rejectLeave(leaveId, approver.getId(), request.getNotes());
         return ResponseEntity.ok(leave);
     }
 
     // Get leaves in date range
     @GetMapping("/leaves/range")
-    public ResponseEntity<List<Leave>> getLeavesInDateRange(
+    public ResponseEntity<List<LeaveView>> getLeavesInDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        List<Leave> leaves = leaveService.getAllLeavesInDateRange(startDate, endDate);
+        List<LeaveView> leaves = leaveService.getAllLeavesInDateRange(startDate, endDate);
         return ResponseEntity.ok(leaves);
     }
 
+    // Get leave balances for a specific employee
+    @GetMapping("/leaves/balance/user/{userId}")
+    public ResponseEntity<Map<String, Integer>> getEmployeeLeaveBalances(@PathVariable Long userId) {
+        return ResponseEntity.ok(leaveBalanceService.getBalances(userId));
+    }
+
+    // Run the yearly leave accrual manually (normally scheduled for 1 January)
+    @PostMapping("/leaves/accrual")
+    public ResponseEntity<Map<String, Integer>> runLeaveAccrual(@RequestParam Integer year) {
+        int credited = leaveBalanceService.runYearlyAccrual(year);
+        return ResponseEntity.ok(Map.of("credited", credited));
+    }
+
     // ========== SALARY MANAGEMENT ==========
 
     // Calculate salary for an employee for a specific month
     @PostMapping("/salary/calculate")
-    public ResponseEntity<Salary> calculateSalary(@RequestBody CalculateSalaryRequest request) {
-        Salary salary = salaryService.calculateAndCreateSalary(
+    public ResponseEntity<SalaryView> calculateSalary(@RequestBody CalculateSalaryRequest request) {
+        SalaryView salary = salaryService.calculateAndCreateSalary(
                 request.getUserId(), 
                 request.getYear(), 
                 request.getMonth(), 
@@ -175,36 +224,36 @@ public class HRController {
 
     // Get salary records for an employee
     @GetMapping("/salary/user/{userId}")
-    public ResponseEntity<List<Salary>> getEmployeeSalaryRecords(@PathVariable Long userId) {
-        List<Salary> salaries = salaryService.getUserSalaryRecords(userId);
+    public ResponseEntity<List<SalaryView>> getEmployeeSalaryRecords(@PathVariable Long userId) {
+        List<SalaryView> salaries = salaryService.getUserSalaryRecords(userId);
         return ResponseEntity.ok(salaries);
     }
 
     // Get salary for a specific month
     @GetMapping("/salary/user/{userId}/month")
-    public ResponseEntity<Salary> getSalaryForMonth(
+    public ResponseEntity<SalaryView> getSalaryForMonth(
             @PathVariable Long userId,
             @RequestParam Integer year,
             @RequestParam Integer month) {
-        Salary salary = salaryService.getSalaryForMonth(userId, year, month);
+        SalaryView salary = salaryService.getSalaryForMonth(userId, year, month);
         return ResponseEntity.ok(salary);
     }
 
     // Get all salaries for a month
     @GetMapping("/salary/month")
-    public ResponseEntity<List<Salary>> getAllSalariesForMonth(
+    public ResponseEntity<List<SalaryView>> getAllSalariesForMonth(
             @RequestParam Integer year,
             @RequestParam Integer month) {
-        List<Salary> salaries = salaryService.getAllSalariesForMonth(year, month);
+        List<SalaryView> salaries = salaryService.getAllSalariesForMonth(year, month);
         return ResponseEntity.ok(salaries);
     }
 
     // Update salary record
     @PutMapping("/salary/{salaryId}")
-    public ResponseEntity<Salary> updateSalary(
+    public ResponseEntity<SalaryView> updateSalary(
             @PathVariable Long salaryId,
             @RequestBody UpdateSalaryRequest request) {
-        Salary salary = salaryService.updateSalary(salaryId, request.getNetSalary(), request.getNotes());
+        SalaryView salary = salaryService.updateSalary(salaryId, request.getNetSalary(), request.getNotes());
         return ResponseEntity.ok(salary);
     }
 
@@ -212,13 +261,13 @@ public class HRController {
 
     // Create or update roster entry
     @PostMapping("/roster")
-    public ResponseEntity<Roster> createRosterEntry(
+    public ResponseEntity<RosterView> createRosterEntry(
             @RequestBody CreateRosterRequest request,
             Principal principal) {
         User createdBy = userRepository.findByEmail(principal.getName())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         
-        Roster roster = rosterService.createOrUpdateRosterEntry(
+        RosterView roster = rosterService.createOrUpdateRosterEntry(
                 request.getUserId(),
                 request.getShiftDate(),
                 request.getShiftType(),
@@ -231,38 +280,66 @@ public class HRController {
 
     // Get roster for a user
     @GetMapping("/roster/user/{userId}")
-    public ResponseEntity<List<Roster>> getUserRoster(@PathVariable Long userId) {
-        List<Roster> roster = rosterService.getUserRoster(userId);
+    public ResponseEntity<List<RosterView>> getUserRoster(@PathVariable Long userId) {
+        List<RosterView> roster = rosterService.getUserRoster(userId);
         return ResponseEntity.ok(roster);
     }
 
     // Get roster for a user in date range
     @GetMapping("/roster/user/{userId}/range")
-    public ResponseEntity<List<Roster>> getUserRosterInDateRange(
+    public ResponseEntity<List<RosterView>> getUserRosterInDateRange(
             @PathVariable Long userId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        List<Roster> roster = rosterService.getUserRosterInDateRange(userId, startDate, endDate);
+        List<RosterView> roster = rosterService.getUserRosterInDateRange(userId, startDate, endDate);
         return ResponseEntity.ok(roster);
     }
 
+    // iCalendar feed of a user's shifts and approved leave
+    @GetMapping("/roster/user/{userId}/calendar.ics")
+    public void getUserRosterFeed(@PathVariable Long userId, ServletWebRequest webRequest,
+                                  HttpServletResponse response) throws IOException {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+        RosterFeedController.writeRosterFeed(rosterFeedService, userId, webRequest, response);
+    }
+
+    // iCalendar feed of my shifts and approved leave (accessible by any authenticated user)
+    @GetMapping("/roster/my/calendar.ics")
+    @PreAuthorize("isAuthenticated()")
+    public void getMyRosterFeed(Principal principal, ServletWebRequest webRequest,
+                                HttpServletResponse response) throws IOException {
+        User user = userRepository.findByEmail(principal.getName())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        RosterFeedController.writeRosterFeed(rosterFeedService, user.getId(), webRequest, response);
+    }
+
     // Get all roster entries for a date
     @GetMapping("/roster/date")
-    public ResponseEntity<List<Roster>> getRosterForDate(
+    public ResponseEntity<List<RosterView>> getRosterForDate(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate shiftDate) {
-        List<Roster> roster = rosterService.getRosterForDate(shiftDate);
+        List<RosterView> roster = rosterService.getRosterForDate(shiftDate);
         return ResponseEntity.ok(roster);
     }
 
     // Get all roster entries for a date range
     @GetMapping("/roster/range")
-    public ResponseEntity<List<Roster>> getAllRosterInDateRange(
+    public ResponseEntity<List<RosterView>> getAllRosterInDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        List<Roster> roster = rosterService.getAllRosterInDateRange(startDate, endDate);
+        List<RosterView> roster = rosterService.getAllRosterInDateRange(startDate, endDate);
         return ResponseEntity.ok(roster);
     }
 
+    // Report every working shift rostered on an approved leave day in a date range
+    @GetMapping("/roster/conflicts")
+    public ResponseEntity<List<ScheduleConflict>> getRosterConflicts(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(scheduleConflictIndex.findConflicts(startDate, endDate));
+    }
+
     // Delete roster entry
     @DeleteMapping("/roster/{rosterId}")
     public ResponseEntity<Void> deleteRosterEntry(@PathVariable Long rosterId) {
@@ -270,17 +347,108 @@ public class HRController {
         return ResponseEntity.noContent().build();
     }
 
+    // Create a weekly roster template
+    @PostMapping("/roster/templates")
+    public ResponseEntity<RosterTemplateView> createRosterTemplate(
+            @RequestBody CreateRosterTemplateRequest request,
+            Principal principal) {
+        User createdBy = userRepository.findByEmail(principal.getName())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        RosterTemplateView template = rosterTemplateService.createTemplate(
+                request.getName(),
+                request.getWeeklyPattern(),
+                request.getLocation(),
+                request.getNotes(),
+                createdBy.getId()
+        );
+        return ResponseEntity.ok(template);
+    }
+
+    // Get all roster templates
+    @GetMapping("/roster/templates")
+    public ResponseEntity<List<RosterTemplateView>> getRosterTemplates() {
+        return ResponseEntity.ok(rosterTemplateService.getAllTemplates());
+    }
+
+    // Delete a roster template
+    @DeleteMapping("/roster/templates/{templateId}")
+    public ResponseEntity<Void> deleteRosterTemplate(@PathVariable Long templateId) {
+        rosterTemplateService.deleteTemplate(templateId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // Apply a template to users and/or a role over a date range in one batch
+    @PostMapping("/roster/templates/{templateId}/apply")
+    public ResponseEntity<RosterTemplateApplyResult> applyRosterTemplate(
+            @PathVariable Long templateId,
+            @RequestBody ApplyRosterTemplateRequest request,
+            Principal principal) {
+        User createdBy = userRepository.findByEmail(principal.getName())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        RosterTemplateApplyResult result = rosterTemplateService.applyTemplate(
+                templateId,
+                request.getUserIds(),
+                request.getRole(),
+                request.getStartDate(),
+                request.getEndDate(),
+                request.isOverwrite(),
+                createdBy.getId()
+        );
+        return ResponseEntity.ok(result);
+    }
+
+    // Generate a roster from per-location coverage requirements (preview only, nothing is saved)
+    @PostMapping("/roster/auto/preview")
+    public ResponseEntity<AutoRosterPlan> previewAutoRoster(@RequestBody AutoRosterRequest request) {
+        List<AutoRosterService.LocationRequirement> locations = request.getLocations() == null ? List.of()
+                : request.getLocations().stream()
+                        .map(l -> new AutoRosterService.LocationRequirement(l.getLocation(), l.getUserIds(), l.getCoverage()))
+                        .toList();
+
+        AutoRosterPlan plan = autoRosterService.preview(
+                request.getStartDate(),
+                request.getEndDate(),
+                locations,
+                request.getMaxConsecutiveDays(),
+                request.getSeed()
+        );
+        return ResponseEntity.ok(plan);
+    }
+
+    // Commit a previewed roster plan
+    @PostMapping("/roster/auto/{planId}/commit")
+    public ResponseEntity<Map<String, Integer>> commitAutoRoster(@PathVariable String planId, Principal principal) {
+        User createdBy = userRepository.findByEmail(principal.getName())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        int written = autoRosterService.commit(planId, createdBy.getId());
+        return ResponseEntity.ok(Map.of("written", written));
+    }
+
+    // ========== TEAM CALENDAR ==========
+
+    // Users x days matrix of shift, leave status and attendance status (replaces three range calls)
+    @GetMapping("/calendar")
+    @PreAuthorize("hasRole('HR') or hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<TeamCalendarResponse> getTeamCalendar(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(teamCalendarService.getCalendar(startDate, endDate));
+    }
+
     // ========== NOTICE MANAGEMENT ==========
 
     // Send notice to an employee
     @PostMapping("/notice")
-    public ResponseEntity<Notice> sendNotice(
+    public ResponseEntity<NoticeView> sendNotice(
             @RequestBody SendNoticeRequest request,
             Principal principal) {
         User sender = userRepository.findByEmail(principal.getName())
                 .orElseThrow(() -> new ResourceNotFoundException("Sender not found"));
         
-        Notice notice = noticeService.sendNotice(
+        NoticeView notice = noticeService.sendNotice(
                 sender.getId(),
                 request.getRecipientId(),
                 request.getSubject(),
@@ -290,13 +458,48 @@ public class HRController {
         return ResponseEntity.ok(notice);
     }
 
+    // Send one notice to a role, a list of users, or every active user
+    @PostMapping("/notice/broadcast")
+    public ResponseEntity<NoticeBroadcastResult> broadcastNotice(
+            @RequestBody BroadcastNoticeRequest request,
+            Principal principal) {
+        User sender = userRepository.findByEmail(principal.getName())
+                .orElseThrow(() -> new ResourceNotFoundException("Sender not found"));
+
+        NoticeBroadcastResult result = noticeService.broadcastNotice(
+                sender.getId(),
+                request.getSubject(),
+                request.getContent(),
+                request.getNoticeType() != null
+                        ? Notice.NoticeType.valueOf(request.getNoticeType())
+                        : Notice.NoticeType.GENERAL,
+                request.getRole() != null ? RoleType.valueOf(request.getRole()) : null,
+                request.getRecipientIds(),
+                Boolean.TRUE.equals(request.getAllActive())
+        );
+        return ResponseEntity.ok(result);
+    }
+
+    // Read/acknowledge statistics for my notices, per notice (paginated) and per type
+    @GetMapping("/notice/analytics")
+    public ResponseEntity<NoticeAnalyticsResponse> getNoticeAnalytics(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            Principal principal) {
+        User hr = userRepository.findByEmail(principal.getName())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return ResponseEntity.ok(noticeService.getNoticeAnalytics(hr.getId(), startDate, endDate, page, size));
+    }
+
     // Get notices sent by HR
     @GetMapping("/notice/sent")
-    public ResponseEntity<List<Notice>> getNoticesSent(Principal principal) {
+    public ResponseEntity<List<NoticeView>> getNoticesSent(Principal principal) {
         User hr = userRepository.findByEmail(principal.getName())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         
-        List<Notice> notices = noticeService.getNoticesSentByHR(hr.getId());
+        List<NoticeView> notices = noticeService.getNoticesSentByHR(hr.getId());
         return ResponseEntity.ok(notices);
     }
 
@@ -423,6 +626,171 @@ public class HRController {
         }
     }
 
+    public static class CreateRosterTemplateRequest {
+        private String name;
+        private List<String> weeklyPattern;
+        private String location;
+        private String notes;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<String> getWeeklyPattern() {
+            return weeklyPattern;
+        }
+
+        public void setWeeklyPattern(List<String> weeklyPattern) {
+            this.weeklyPattern = weeklyPattern;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        public void setLocation(String location) {
+            this.location = location;
+        }
+
+        public String getNotes() {
+            return notes;
+        }
+
+        public void setNotes(String notes) {
+            this.notes = notes;
+        }
+    }
+
+    public static class ApplyRosterTemplateRequest {
+        private List<Long> userIds;
+        private RoleType role;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private boolean overwrite;
+
+        public List<Long> getUserIds() {
+            return userIds;
+        }
+
+        public void setUserIds(List<Long> userIds) {
+            this.userIds = userIds;
+        }
+
+        public RoleType getRole() {
+            return role;
+        }
+
+        public void setRole(RoleType role) {
+            this.role = role;
+        }
+
+        public LocalDate getStartDate() {
+            return startDate;
+        }
+
+        public void setStartDate(LocalDate startDate) {
+            this.startDate = startDate;
+        }
+
+        public LocalDate getEndDate() {
+            return endDate;
+        }
+
+        public void setEndDate(LocalDate endDate) {
+            this.endDate = endDate;
+        }
+
+        public boolean isOverwrite() {
+            return overwrite;
+        }
+
+        public void setOverwrite(boolean overwrite) {
+            this.overwrite = overwrite;
+        }
+    }
+
+    public static class AutoRosterRequest {
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private Integer maxConsecutiveDays;
+        private Long seed;
+        private List<LocationCoverage> locations;
+
+        public LocalDate getStartDate() {
+            return startDate;
+        }
+
+        public void setStartDate(LocalDate startDate) {
+            this.startDate = startDate;
+        }
+
+        public LocalDate getEndDate() {
+            return endDate;
+        }
+
+        public void setEndDate(LocalDate endDate) {
+            this.endDate = endDate;
+        }
+
+        public Integer getMaxConsecutiveDays() {
+            return maxConsecutiveDays;
+        }
+
+        public void setMaxConsecutiveDays(Integer maxConsecutiveDays) {
+            this.maxConsecutiveDays = maxConsecutiveDays;
+        }
+
+        public Long getSeed() {
+            return seed;
+        }
+
+        public void setSeed(Long seed) {
+            this.seed = seed;
+        }
+
+        public List<LocationCoverage> getLocations() {
+            return locations;
+        }
+
+        public void setLocations(List<LocationCoverage> locations) {
+            this.locations = locations;
+        }
+    }
+
+    public static class LocationCoverage {
+        private String location;
+        private List<Long> userIds;
+        private Map<String, Integer> coverage; // Minimum staff per shift type per day
+
+        public String getLocation() {
+            return location;
+        }
+
+        public void setLocation(String location) {
+            this.location = location;
+        }
+
+        public List<Long> getUserIds() {
+            return userIds;
+        }
+
+        public void setUserIds(List<Long> userIds) {
+            this.userIds = userIds;
+        }
+
+        public Map<String, Integer> getCoverage() {
+            return coverage;
+        }
+
+        public void setCoverage(Map<String, Integer> coverage) {
+            this.coverage = coverage;
+        }
+    }
+
     public static class SendNoticeRequest {
         private Long recipientId;
         private String subject;
@@ -462,6 +830,63 @@ public class HRController {
         }
     }
 
+    public static class BroadcastNoticeRequest {
+        private String subject;
+        private String content;
+        private String noticeType;
+        private String role;
+        private List<Long> recipientIds;
+        private Boolean allActive;
+
+        public String getSubject() {
+            return subject;
+        }
+
+        public void setSubject(String subject) {
+            this.subject = subject;
+        }
+
+        public String getContent() {
+            return content;
+        }
+
+        public void setContent(String content) {
+            this.content = content;
+        }
+
+        public String getNoticeType() {
+            return noticeType;
+        }
+
+        public void setNoticeType(String noticeType) {
+            this.noticeType = noticeType;
+        }
+
+        public String getRole() {
+            return role;
+        }
+
+        public void setRole(String role) {
+            this.role = role;
+        }
+
+        public List<Long> getRecipientIds() {
+            return recipientIds;
+        }
+
+        public void setRecipientIds(List<Long> recipientIds) {
+            this.recipientIds = recipientIds;
+        }
+
+        public Boolean getAllActive() {
+            return allActive;
+        }
+
+        public void setAllActive(Boolean allActive) {
+            this.allActive = allActive;
+        }
+    }
+
     public static class ApplyLeaveRequest {
         private Long userId;
         private LocalDate startDate;
@@ -3,15 +3,18 @@ package com.example.taskbridge.controller;
 import java.security.Principal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import com.example.taskbridge.entity.Leave;
+import com.example.taskbridge.dto.LeaveView;
+import com.example.taskbridge.entity.LeaveLedgerEntry;
 import com.example.taskbridge.entity.User;
 import com.example.taskbridge.exception.ResourceNotFoundException;
 import com.example.taskbridge.repository.UserRepository;
+import com.example.taskbridge.service.LeaveBalanceService;
 import com.example.taskbridge.service.LeaveService;
 
 @RestController
@@ -19,40 +22,59 @@ import com.example.taskbridge.service.LeaveService;
 public class LeaveController {
 
     private final LeaveService leaveService;
+    private final LeaveBalanceService leaveBalanceService;
     private final UserRepository userRepository;
 
-    public LeaveController(LeaveService leaveService, UserRepository userRepository) {
+    public LeaveController(LeaveService leaveService, LeaveBalanceService leaveBalanceService,
+                           UserRepository userRepository) {
         this.leaveService = leaveService;
+        this.leaveBalanceService = leaveBalanceService;
         this.userRepository = userRepository;
     }
 
     // Get my leaves (accessible by any authenticated user)
     @GetMapping("/my-leaves")
-    public ResponseEntity<List<Leave>> getMyLeaves(Principal principal) {
+    public ResponseEntity<List<LeaveView>> getMyLeaves(Principal principal) {
         User user = userRepository.findByEmail(principal.getName())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        List<Leave> leaves = leaveService.getUserLeaves(user.getId());
+        List<LeaveView> leaves = leaveService.getUserLeaves(user.getId());
         return ResponseEntity.ok(leaves);
     }
 
     // Get my pending leaves
     @GetMapping("/my-leaves/pending")
-    public ResponseEntity<List<Leave>> getMyPendingLeaves(Principal principal) {
+    public ResponseEntity<List<LeaveView>> getMyPendingLeaves(Principal principal) {
         User user = userRepository.findByEmail(principal.getName())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        List<Leave> leaves = leaveService.getPendingLeaves(user.getId());
+        List<LeaveView> leaves = leaveService.getPendingLeaves(user.getId());
         return ResponseEntity.ok(leaves);
     }
 
+    // Get my available days per leave type
+    @GetMapping("/balance")
+    public ResponseEntity<Map<String, Integer>> getMyBalances(Principal principal) {
+        User user = userRepository.findByEmail(principal.getName())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return ResponseEntity.ok(leaveBalanceService.getBalances(user.getId()));
+    }
+
+    // Get my leave ledger (accruals, consumption, reversals)
+    @GetMapping("/ledger")
+    public ResponseEntity<List<LeaveLedgerEntry>> getMyLedger(Principal principal) {
+        User user = userRepository.findByEmail(principal.getName())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return ResponseEntity.ok(leaveBalanceService.getLedger(user.getId()));
+    }
+
     // Apply for leave (accessible by authenticated users)
     @PostMapping("/apply")
-    public ResponseEntity<Leave> applyForLeave(
+    public ResponseEntity<LeaveView> applyForLeave(
             @RequestBody ApplyLeaveRequest request,
             Principal principal) {
         User user = userRepository.findByEmail(principal.getName())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         
-        Leave leave = leaveService.applyForLeave(
+        LeaveView leave = leaveService.applyForLeave(
                 user.getId(),
                 request.getStartDate(),
                 request.getEndDate(),
@@ -64,10 +86,10 @@ public class LeaveController {
 
     // Get leaves in date range
     @GetMapping("/range")
-    public ResponseEntity<List<Leave>> getLeavesInDateRange(
+    public ResponseEntity<List<LeaveView>> getLeavesInDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        List<Leave> leaves = leaveService.getAllLeavesInDateRange(startDate, endDate);
+        List<LeaveView> leaves = leaveService.getAllLeavesInDateRange(startDate, endDate);
         return ResponseEntity.ok(leaves);
     }
 
@@ -8,7 +8,7 @@ import org.springframework.web.bind.annotation.*;
 
 import com.example.taskbridge.dto.NotificationRequest;
 import com.example.taskbridge.dto.NotificationResponse;
-import com.example.taskbridge.entity.User;
+import com.example.taskbridge.dto.UserRef;
 import com.example.taskbridge.service.NotificationService;
 
 @RestController
@@ -29,10 +29,13 @@ public class NotificationController {
         return ResponseEntity.ok(notification);
     }
 
-    // Get my notifications
+    // Get my notifications; includeArchived adds archived ones
     @GetMapping
-    public ResponseEntity<List<NotificationResponse>> getMyNotifications(Principal principal) {
-        List<NotificationResponse> notifications = notificationService.getMyNotifications(principal.getName());
+    public ResponseEntity<List<NotificationResponse>> getMyNotifications(
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            Principal principal) {
+        List<NotificationResponse> notifications =
+                notificationService.getMyNotifications(principal.getName(), includeArchived);
         return ResponseEntity.ok(notifications);
     }
 
@@ -52,8 +55,8 @@ public class NotificationController {
 
     // Get allowed recipients for messaging based on user's role
     @GetMapping("/allowed-recipients")
-    public ResponseEntity<List<User>> getAllowedRecipients(Principal principal) {
-        List<User> recipients = notificationService.getAllowedRecipients(principal.getName());
+    public ResponseEntity<List<UserRef>> getAllowedRecipients(Principal principal) {
+        List<UserRef> recipients = notificationService.getAllowedRecipients(principal.getName());
         return ResponseEntity.ok(recipients);
     }
 }
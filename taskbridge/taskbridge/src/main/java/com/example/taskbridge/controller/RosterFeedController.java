@@ -0,0 +1,70 @@
+package com.example.taskbridge.controller;
+
+import java.io.IOException;
+import java.security.Principal;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.example.taskbridge.dto.RosterFeedSubscription;
+import com.example.taskbridge.entity.User;
+import com.example.taskbridge.exception.ResourceNotFoundException;
+import com.example.taskbridge.repository.UserRepository;
+import com.example.taskbridge.service.RosterFeedService;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+// Calendar subscriptions to the roster feed. The .ics endpoint is public (see SecurityConfig):
+// calendar clients poll it without a JWT, and the feed token in the URL identifies the user.
+@RestController
+@RequestMapping("/api/roster/feed")
+public class RosterFeedController {
+
+    private final RosterFeedService rosterFeedService;
+    private final UserRepository userRepository;
+
+    public RosterFeedController(RosterFeedService rosterFeedService, UserRepository userRepository) {
+        this.rosterFeedService = rosterFeedService;
+        this.userRepository = userRepository;
+    }
+
+    // Issue my feed token (accessible by any authenticated user); replaces and revokes the previous one
+    @PostMapping("/token")
+    public ResponseEntity<RosterFeedSubscription> issueMyFeedToken(Principal principal) {
+        User user = userRepository.findByEmail(principal.getName())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return ResponseEntity.ok(RosterFeedSubscription.of(rosterFeedService.issueToken(user.getId())));
+    }
+
+    // Revoke my feed token
+    @DeleteMapping("/token")
+    public ResponseEntity<Void> revokeMyFeedToken(Principal principal) {
+        User user = userRepository.findByEmail(principal.getName())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        rosterFeedService.revokeToken(user.getId());
+        return ResponseEntity.noContent().build();
+    }
+
+    // iCalendar feed of the token owner's shifts and approved leave (no authentication)
+    @GetMapping("/{token}.ics")
+    public void getRosterFeed(@PathVariable String token, ServletWebRequest webRequest,
+                              HttpServletResponse response) throws IOException {
+        Long userId = rosterFeedService.findUserIdByToken(token)
+                .orElseThrow(() -> new ResourceNotFoundException("Roster feed not found"));
+        writeRosterFeed(rosterFeedService, userId, webRequest, response);
+    }
+
+    // Answer 304 when the client's ETag is current; otherwise stream the feed
+    static void writeRosterFeed(RosterFeedService rosterFeedService, Long userId, ServletWebRequest webRequest,
+                                HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        if (webRequest.checkNotModified(rosterFeedService.getETag(userId))) {
+            return;
+        }
+        response.setContentType("text/calendar;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"roster.ics\"");
+        rosterFeedService.writeFeed(userId, response.getWriter());
+    }
+}
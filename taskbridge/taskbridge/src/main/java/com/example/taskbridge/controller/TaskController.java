@@ -45,10 +45,12 @@ public class TaskController {
         return ResponseEntity.ok(task);
     }
 
-    // Get my tasks (Employee: claimed, Manager: created)
+    // Get my tasks (Employee: claimed, Manager: created); includeArchived adds archived tasks
     @GetMapping
-    public ResponseEntity<List<TaskResponse>> getMyTasks(Principal principal) {
-        List<TaskResponse> tasks = taskService.getMyTasks(principal.getName());
+    public ResponseEntity<List<TaskResponse>> getMyTasks(
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            Principal principal) {
+        List<TaskResponse> tasks = taskService.getMyTasks(principal.getName(), includeArchived);
         return ResponseEntity.ok(tasks);
     }
 
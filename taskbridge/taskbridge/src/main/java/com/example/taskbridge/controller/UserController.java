@@ -5,27 +5,48 @@ import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.example.taskbridge.dto.DirectoryEntry;
+import com.example.taskbridge.dto.DirectoryPage;
 import com.example.taskbridge.entity.RoleType;
 import com.example.taskbridge.entity.User;
 import com.example.taskbridge.repository.UserRepository;
+import com.example.taskbridge.service.UserDirectoryService;
 
 @RestController
 @RequestMapping("/api/users")
 public class UserController {
 
     private final UserRepository userRepository;
+    private final UserDirectoryService userDirectoryService;
 
-    public UserController(UserRepository userRepository) {
+    public UserController(UserRepository userRepository, UserDirectoryService userDirectoryService) {
         this.userRepository = userRepository;
+        this.userDirectoryService = userDirectoryService;
     }
 
     // Get all employees (accessible to authenticated users)
     @GetMapping("/employees")
     public ResponseEntity<List<User>> getAllEmployees() {
-        List<User> users = userRepository.findAll().stream()
-                .filter(User::isActive)
-                .filter(u -> u.getRole() == RoleType.EMPLOYEE || u.getRole() == RoleType.HR)
-                .toList();
-        return ResponseEntity.ok(users);
+        return ResponseEntity.ok(userRepository.findActiveByRoleIn(List.of(RoleType.EMPLOYEE, RoleType.HR)));
+    }
+
+    // Search the directory by name or email prefix; pass nextCursor back to get the following page
+    @GetMapping("/directory")
+    public ResponseEntity<DirectoryPage> searchDirectory(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) RoleType role,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(userDirectoryService.search(q, role, active, cursor, limit));
+    }
+
+    // Type-ahead suggestions among active users
+    @GetMapping("/directory/typeahead")
+    public ResponseEntity<List<DirectoryEntry>> directoryTypeahead(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) RoleType role,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(userDirectoryService.typeahead(q, role, limit));
     }
 }
@@ -0,0 +1,29 @@
+package com.example.taskbridge.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.example.taskbridge.entity.Attendance;
+import com.example.taskbridge.entity.RoleType;
+
+public record AttendanceView(Long id, UserRef user, LocalDate attendanceDate, LocalDateTime clockInTime,
+                             LocalDateTime clockOutTime, String status, String notes,
+                             LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    // Flat form used by AttendanceRepository constructor queries
+    public AttendanceView(Long id, Long userId, String userName, String userEmail, RoleType userRole,
+                          LocalDate attendanceDate, LocalDateTime clockInTime, LocalDateTime clockOutTime,
+                          String status, String notes, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, new UserRef(userId, userName, userEmail, userRole), attendanceDate, clockInTime, clockOutTime,
+                status, notes, createdAt, updatedAt);
+    }
+
+    public static AttendanceView of(Attendance attendance) {
+        if (attendance == null) {
+            return null;
+        }
+        return new AttendanceView(attendance.getId(), UserRef.of(attendance.getUser()),
+                attendance.getAttendanceDate(), attendance.getClockInTime(), attendance.getClockOutTime(),
+                attendance.getStatus(), attendance.getNotes(), attendance.getCreatedAt(), attendance.getUpdatedAt());
+    }
+}
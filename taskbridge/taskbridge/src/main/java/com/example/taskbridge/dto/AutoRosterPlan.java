@@ -0,0 +1,41 @@
+package com.example.taskbridge.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Preview of an auto-generated roster. Commit it with the planId before it expires.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoRosterPlan {
+    private String planId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<LocationPlan> locations;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LocationPlan {
+        private String location;
+        private int shortfall; // Required shift slots that could not be filled
+        private int minShifts;
+        private int maxShifts;
+        private int minNights;
+        private int maxNights;
+        private List<Row> rows;
+    }
+
+    // shifts[d] is the shift for startDate + d days, or null when the user is on approved leave
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+        private Long userId;
+        private List<String> shifts;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.taskbridge.dto;
+
+import java.util.List;
+
+// Everything the dashboard shows on first paint. A section that timed out or failed is null
+// and named in incomplete; availableTasks is also null for users who cannot claim tasks.
+public record DashboardResponse(UserInfoResponse user, List<TaskResponse> myTasks,
+                                List<TaskResponse> availableTasks, Long unreadNotifications,
+                                AttendanceView todayAttendance, List<LeaveView> leaves,
+                                List<String> incomplete) {
+}
@@ -0,0 +1,6 @@
+package com.example.taskbridge.dto;
+
+import com.example.taskbridge.entity.RoleType;
+
+public record DirectoryEntry(Long id, String name, String email, RoleType role, boolean active) {
+}
@@ -0,0 +1,8 @@
+package com.example.taskbridge.dto;
+
+import java.util.List;
+
+// One page of the employee directory. Pass nextCursor back as cursor for the following page;
+// it is null on the last page.
+public record DirectoryPage(List<DirectoryEntry> items, String nextCursor) {
+}
@@ -0,0 +1,29 @@
+package com.example.taskbridge.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.example.taskbridge.entity.Leave;
+import com.example.taskbridge.entity.Leave.LeaveStatus;
+import com.example.taskbridge.entity.RoleType;
+
+public record LeaveView(Long id, UserRef user, LocalDate startDate, LocalDate endDate, String leaveType,
+                        String reason, LeaveStatus status, String approverNotes, UserRef approvedBy,
+                        LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    // Flat form used by LeaveRepository constructor queries
+    public LeaveView(Long id, Long userId, String userName, String userEmail, RoleType userRole,
+                     LocalDate startDate, LocalDate endDate, String leaveType, String reason, LeaveStatus status,
+                     String approverNotes, Long approverId, String approverName, String approverEmail,
+                     RoleType approverRole, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, new UserRef(userId, userName, userEmail, userRole), startDate, endDate, leaveType, reason, status,
+                approverNotes, UserRef.ofNullable(approverId, approverName, approverEmail, approverRole),
+                createdAt, updatedAt);
+    }
+
+    public static LeaveView of(Leave leave) {
+        return new LeaveView(leave.getId(), UserRef.of(leave.getUser()), leave.getStartDate(), leave.getEndDate(),
+                leave.getLeaveType(), leave.getReason(), leave.getStatus(), leave.getApproverNotes(),
+                UserRef.of(leave.getApprovedBy()), leave.getCreatedAt(), leave.getUpdatedAt());
+    }
+}
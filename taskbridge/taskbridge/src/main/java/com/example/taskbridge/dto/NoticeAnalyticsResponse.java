@@ -0,0 +1,47 @@
+package com.example.taskbridge.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Delivery statistics for notices sent by one HR user. A broadcast counts as one notice.
+// read includes acknowledged notices; medianSecondsToAcknowledge is null until something is acknowledged.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoticeAnalyticsResponse {
+    private List<TypeStats> byType;
+    private List<NoticeStats> notices;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class NoticeStats {
+        private String noticeKey; // broadcast id, or the notice id for a single notice
+        private String subject;
+        private String noticeType;
+        private LocalDateTime sentAt;
+        private long sent;
+        private long read;
+        private long acknowledged;
+        private Long medianSecondsToAcknowledge;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TypeStats {
+        private String noticeType;
+        private long sent;
+        private long read;
+        private long acknowledged;
+        private Long medianSecondsToAcknowledge;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.taskbridge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoticeBroadcastResult {
+    private String broadcastId;
+    private int recipients;
+}
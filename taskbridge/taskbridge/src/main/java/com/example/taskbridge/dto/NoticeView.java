@@ -0,0 +1,30 @@
+package com.example.taskbridge.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.taskbridge.entity.Notice;
+import com.example.taskbridge.entity.Notice.NoticeStatus;
+import com.example.taskbridge.entity.Notice.NoticeType;
+import com.example.taskbridge.entity.RoleType;
+
+public record NoticeView(Long id, UserRef sender, UserRef recipient, String subject, String content,
+                         NoticeType noticeType, NoticeStatus status, String broadcastId, LocalDateTime readAt,
+                         LocalDateTime acknowledgedAt, LocalDateTime createdAt) {
+
+    // Flat form used by NoticeRepository constructor queries
+    public NoticeView(Long id, Long senderId, String senderName, String senderEmail, RoleType senderRole,
+                      Long recipientId, String recipientName, String recipientEmail, RoleType recipientRole,
+                      String subject, String content, NoticeType noticeType, NoticeStatus status,
+                      String broadcastId, LocalDateTime readAt, LocalDateTime acknowledgedAt,
+                      LocalDateTime createdAt) {
+        this(id, new UserRef(senderId, senderName, senderEmail, senderRole),
+                new UserRef(recipientId, recipientName, recipientEmail, recipientRole), subject, content,
+                noticeType, status, broadcastId, readAt, acknowledgedAt, createdAt);
+    }
+
+    public static NoticeView of(Notice notice) {
+        return new NoticeView(notice.getId(), UserRef.of(notice.getSender()), UserRef.of(notice.getRecipient()),
+                notice.getSubject(), notice.getContent(), notice.getNoticeType(), notice.getStatus(),
+                notice.getBroadcastId(), notice.getReadAt(), notice.getAcknowledgedAt(), notice.getCreatedAt());
+    }
+}
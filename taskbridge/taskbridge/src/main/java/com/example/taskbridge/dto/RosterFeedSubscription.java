@@ -0,0 +1,10 @@
+package com.example.taskbridge.dto;
+
+// A newly issued roster feed token and the path calendar clients subscribe to. The token is
+// only returned here; the server keeps a hash of it.
+public record RosterFeedSubscription(String token, String path) {
+
+    public static RosterFeedSubscription of(String token) {
+        return new RosterFeedSubscription(token, "/api/roster/feed/" + token + ".ics");
+    }
+}
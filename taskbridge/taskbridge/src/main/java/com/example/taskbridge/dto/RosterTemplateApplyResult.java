@@ -0,0 +1,34 @@
+package com.example.taskbridge.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RosterTemplateApplyResult {
+
+    // existingShift value for cells skipped because the user has approved leave
+    public static final String LEAVE = "LEAVE";
+
+    private int created;
+    private int updated;
+    private int skipped;
+    private List<Conflict> conflicts;
+
+    // An existing entry whose shift differs from the template, or an approved leave day
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Conflict {
+        private Long userId;
+        private LocalDate shiftDate;
+        private String existingShift;
+        private String templateShift;
+        private boolean overwritten;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.taskbridge.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.taskbridge.entity.RosterTemplate;
+
+public record RosterTemplateView(Long id, String name, String weeklyPattern, String location, String notes,
+                                 UserRef createdBy, LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    public static RosterTemplateView of(RosterTemplate template) {
+        return new RosterTemplateView(template.getId(), template.getName(), template.getWeeklyPattern(),
+                template.getLocation(), template.getNotes(), UserRef.of(template.getCreatedBy()),
+                template.getCreatedAt(), template.getUpdatedAt());
+    }
+}
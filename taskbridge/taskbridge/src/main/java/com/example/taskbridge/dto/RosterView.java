@@ -0,0 +1,26 @@
+package com.example.taskbridge.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.example.taskbridge.entity.RoleType;
+import com.example.taskbridge.entity.Roster;
+
+public record RosterView(Long id, UserRef user, LocalDate shiftDate, String shiftType, String location,
+                         String notes, UserRef createdBy, LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    // Flat form used by RosterRepository constructor queries
+    public RosterView(Long id, Long userId, String userName, String userEmail, RoleType userRole,
+                      LocalDate shiftDate, String shiftType, String location, String notes,
+                      Long creatorId, String creatorName, String creatorEmail, RoleType creatorRole,
+                      LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, new UserRef(userId, userName, userEmail, userRole), shiftDate, shiftType, location, notes,
+                UserRef.ofNullable(creatorId, creatorName, creatorEmail, creatorRole), createdAt, updatedAt);
+    }
+
+    public static RosterView of(Roster roster) {
+        return new RosterView(roster.getId(), UserRef.of(roster.getUser()), roster.getShiftDate(),
+                roster.getShiftType(), roster.getLocation(), roster.getNotes(), UserRef.of(roster.getCreatedBy()),
+                roster.getCreatedAt(), roster.getUpdatedAt());
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.taskbridge.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.example.taskbridge.entity.RoleType;
+import com.example.taskbridge.entity.Salary;
+
+public record SalaryView(Long id, UserRef user, Integer year, Integer month, BigDecimal baseSalary,
+                         Integer totalWorkingDays, Integer presentDays, Integer absentDays, Integer leaveDays,
+                         BigDecimal salaryPerDay, BigDecimal earnedSalary, BigDecimal deductions,
+                         BigDecimal netSalary, String notes, LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    // Flat form used by SalaryRepository constructor queries
+    public SalaryView(Long id, Long userId, String userName, String userEmail, RoleType userRole,
+                      Integer year, Integer month, BigDecimal baseSalary, Integer totalWorkingDays,
+                      Integer presentDays, Integer absentDays, Integer leaveDays, BigDecimal salaryPerDay,
+                      BigDecimal earnedSalary, BigDecimal deductions, BigDecimal netSalary, String notes,
+                      LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, new UserRef(userId, userName, userEmail, userRole), year, month, baseSalary, totalWorkingDays,
+                presentDays, absentDays, leaveDays, salaryPerDay, earnedSalary, deductions, netSalary, notes,
+                createdAt, updatedAt);
+    }
+
+    public static SalaryView of(Salary salary) {
+        return new SalaryView(salary.getId(), UserRef.of(salary.getUser()), salary.getYear(), salary.getMonth(),
+                salary.getBaseSalary(), salary.getTotalWorkingDays(), salary.getPresentDays(),
+                salary.getAbsentDays(), salary.getLeaveDays(), salary.getSalaryPerDay(), salary.getEarnedSalary(),
+                salary.getDeductions(), salary.getNetSalary(), salary.getNotes(), salary.getCreatedAt(),
+                salary.getUpdatedAt());
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.taskbridge.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// A working shift rostered on a day the user has approved leave
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleConflict {
+    private Long userId;
+    private LocalDate shiftDate;
+    private String shiftType;
+}
@@ -0,0 +1,40 @@
+package com.example.taskbridge.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Users x days matrix for the manager/HR week view.
+// rows[i].cells[d] is the cell for startDate + d days, or null when nothing is recorded.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamCalendarResponse {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<Row> rows;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+        private Long userId;
+        private String name;
+        private List<Cell> cells;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Cell {
+        private String shift;      // MORNING, AFTERNOON, NIGHT, OFF
+        private String leave;      // PENDING, APPROVED, REJECTED
+        private String attendance; // PRESENT, ABSENT, ON_LEAVE
+    }
+}
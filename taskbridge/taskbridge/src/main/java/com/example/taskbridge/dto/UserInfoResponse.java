@@ -1,5 +1,7 @@
 package com.example.taskbridge.dto;
 
+import com.example.taskbridge.entity.User;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -13,5 +15,9 @@ public class UserInfoResponse {
     private String email;
     private String role;
     private boolean active;
+
+    public static UserInfoResponse of(User user) {
+        return new UserInfoResponse(user.getId(), user.getName(), user.getEmail(), user.getRole().name(), user.isActive());
+    }
 }
 
@@ -0,0 +1,17 @@
+package com.example.taskbridge.dto;
+
+import com.example.taskbridge.entity.RoleType;
+import com.example.taskbridge.entity.User;
+
+// The parts of a user that read models embed; never carries the password hash
+public record UserRef(Long id, String name, String email, RoleType role) {
+
+    // For left-joined users: null when the association is empty
+    static UserRef ofNullable(Long id, String name, String email, RoleType role) {
+        return id != null ? new UserRef(id, name, email, role) : null;
+    }
+
+    public static UserRef of(User user) {
+        return user != null ? new UserRef(user.getId(), user.getName(), user.getEmail(), user.getRole()) : null;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.taskbridge.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Running total of the leave ledger for one user and leave type.
+// Kept in step with every ledger write so balances never require a ledger scan.
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "leave_balance", uniqueConstraints = @UniqueConstraint(columnNames = { "user_id", "leave_type" }))
+public class LeaveBalance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "leave_balance_id_seq")
+    @SequenceGenerator(name = "leave_balance_id_seq", sequenceName = "leave_balance_id_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private String leaveType;
+
+    @Column(nullable = false)
+    private Integer balance = 0; // Days currently available
+
+    @Column
+    private Integer accrualYear; // Last year for which the annual allowance was credited
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column
+    private LocalDateTime updatedAt = LocalDateTime.now();
+}
@@ -0,0 +1,79 @@
+package com.example.taskbridge.entity;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Append-only record of every change to a user's leave balance.
+// Rows are never updated; corrections are written as new REVERSAL entries, and days that lapse
+// at the yearly accrual as EXPIRY entries.
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "leave_ledger")
+public class LeaveLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "leave_ledger_id_seq")
+    @SequenceGenerator(name = "leave_ledger_id_seq", sequenceName = "leave_ledger_id_seq", allocationSize = 50)
+    private Long id;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private String leaveType; // CASUAL, SICK, EARNED, MATERNITY, PATERNITY
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private EntryType entryType; // ACCRUAL, CONSUMPTION, REVERSAL, EXPIRY
+
+    @Column(nullable = false, updatable = false)
+    private Integer days; // Signed: positive credits the balance, negative debits it
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "leave_id")
+    private Leave leave; // Set for CONSUMPTION and REVERSAL entries
+
+    @Column
+    private Integer accrualYear; // Set for ACCRUAL and EXPIRY entries
+
+    @Column
+    private String notes;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    // Exposed in place of the lazy leave association; reading the id does not load the leave
+    @JsonProperty("leaveId")
+    public Long getLeaveId() {
+        return leave != null ? leave.getId() : null;
+    }
+
+    public enum EntryType {
+        ACCRUAL, CONSUMPTION, REVERSAL, EXPIRY
+    }
+}
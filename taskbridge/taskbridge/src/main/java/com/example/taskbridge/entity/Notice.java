@@ -6,11 +6,14 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -22,18 +25,21 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "notice")
+@Table(name = "notice", indexes = {
+        @Index(name = "idx_notice_sender_created", columnList = "sender_id, created_at")
+})
 public class Notice {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notice_id_seq")
+    @SequenceGenerator(name = "notice_id_seq", sequenceName = "notice_id_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sender_id", nullable = false)
     private User sender; // HR or Admin who is sending the notice
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "recipient_id", nullable = false)
     private User recipient; // Employee or Manager receiving the notice
 
@@ -51,6 +57,10 @@ public class Notice {
     @Column
     private NoticeStatus status = NoticeStatus.SENT; // SENT, READ, ACKNOWLEDGED
 
+    // Shared by every notice created by one broadcast; null for individually sent notices
+    @Column(length = 36)
+    private String broadcastId;
+
     @Column
     private LocalDateTime readAt;
 
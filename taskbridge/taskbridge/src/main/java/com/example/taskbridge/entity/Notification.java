@@ -1,6 +1,7 @@
 package com.example.taskbridge.entity;
 
 import jakarta.persistence.*;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -15,8 +16,12 @@ import java.time.LocalDateTime;
 @Table(name = "notifications")
 public class Notification {
     
+    // The primary key is (id, created_at), but the id is unique on its own. findById (only used by
+    // markAsRead) cannot be pruned, so it probes the primary-key index of each attached partition:
+    // one cheap probe per month kept, which is why old months are detached rather than kept forever.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_id_seq")
+    @SequenceGenerator(name = "notifications_id_seq", sequenceName = "notifications_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -33,7 +38,8 @@ public class Notification {
     @Column(columnDefinition = "TEXT")
     private String message;
 
-    @ManyToOne
+    // Lazy so that listing notifications reads only task_id and never loads a soft-deleted task
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id")
     private Task task; // Optional: notification related to a task
 
@@ -2,6 +2,14 @@ package com.example.taskbridge.entity;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.SQLRestriction;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -9,27 +17,38 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import lombok.Setter;
 
+// Rows flagged deleted are invisible to every query. Removing someone from the organisation
+// is deactivation (active = false), which stays visible and reversible.
+// Users are read on almost every request and rarely change, so rows and email lookups are
+// kept in the second-level cache; updates through JPA refresh the cached copy on commit.
 @Entity
 @Table(name = "app_user")
+@SQLRestriction("deleted = false")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 @Getter
 @Setter
 public class User extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "app_user_id_seq")
+	@SequenceGenerator(name = "app_user_id_seq", sequenceName = "app_user_id_seq", allocationSize = 50)
 	private Long id;
 
 	@NotBlank
 	private String name;
 
+	@NaturalId
 	@Column(unique = true)
 	private String email;
 
+	@JsonIgnore
 	private String password;
 
 	@Enumerated(EnumType.STRING)
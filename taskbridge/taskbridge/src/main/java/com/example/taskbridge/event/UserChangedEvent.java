@@ -0,0 +1,6 @@
+package com.example.taskbridge.event;
+
+// Published after a user is created or their name, role or active flag changes,
+// so in-memory views of the user table can rebuild
+public record UserChangedEvent(Long userId) {
+}
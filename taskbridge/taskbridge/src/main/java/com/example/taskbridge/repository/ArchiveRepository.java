@@ -0,0 +1,135 @@
+package com.example.taskbridge.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.example.taskbridge.dto.NotificationResponse;
+import com.example.taskbridge.dto.TaskResponse;
+import com.example.taskbridge.entity.NotificationType;
+import com.example.taskbridge.entity.TaskPriority;
+import com.example.taskbridge.entity.TaskStatus;
+
+// Moves cold rows from tasks and notifications into their archive tables, and reads them back.
+// Each move is one DELETE ... RETURNING feeding an INSERT, limited to a batch of the oldest
+// candidates; SKIP LOCKED leaves rows that a request is updating for the next batch.
+// Soft-deleted tasks are not archived but purged outright, in the same batched way.
+@Repository
+public class ArchiveRepository {
+
+    private static final String TASK_COLUMNS = "id, title, description, priority, status, deadline, "
+            + "creator_id, manager_id, deleted, created_at, updated_at";
+    private static final String NOTIFICATION_COLUMNS = "id, sender_id, recipient_id, title, message, task_id, "
+            + "type, is_read, created_at";
+
+    // Finished tasks no live notification refers to; soft-deleted ones are purged instead
+    private static final String ARCHIVE_TASKS_SQL = "with moved as (delete from tasks where id in ("
+            + "select t.id from tasks t where t.status in ('COMPLETED', 'CANCELLED') and t.deleted = false "
+            + "and t.updated_at < ? "
+            + "and not exists (select 1 from notifications n where n.task_id = t.id) "
+            + "order by t.updated_at limit ? for update of t skip locked) returning " + TASK_COLUMNS + ") "
+            + "insert into tasks_archive (" + TASK_COLUMNS + ", archived_at) select " + TASK_COLUMNS + ", ? from moved";
+
+    private static final String ARCHIVE_NOTIFICATIONS_SQL = "with moved as (delete from notifications "
+            + "where (id, created_at) in (select n.id, n.created_at from notifications n "
+            + "where n.is_read and n.created_at < ? order by n.created_at limit ? for update skip locked) "
+            + "returning " + NOTIFICATION_COLUMNS + ") "
+            + "insert into notifications_archive (" + NOTIFICATION_COLUMNS + ", archived_at) "
+            + "select " + NOTIFICATION_COLUMNS + ", ? from moved";
+
+    // Soft-deleted tasks are dropped for good; notifications that pointed at them keep their text
+    private static final String PURGE_DELETED_TASKS_SQL = "with doomed as (select t.id from tasks t "
+            + "where t.deleted and t.updated_at < ? order by t.updated_at limit ? for update skip locked), "
+            + "unlinked as (update notifications set task_id = null where task_id in (select id from doomed)) "
+            + "delete from tasks where id in (select id from doomed)";
+
+    private static final String TASK_SELECT = "select t.id, t.title, t.description, t.priority, t.status, "
+            + "t.deadline, t.created_at, c.id as creator_id, c.name as creator_name, c.email as creator_email, "
+            + "c.role as creator_role, m.id as manager_id, m.name as manager_name, m.email as manager_email, "
+            + "m.role as manager_role from tasks_archive t join app_user c on c.id = t.creator_id "
+            + "left join app_user m on m.id = t.manager_id ";
+
+    private static final String NOTIFICATION_SELECT = "select n.id, n.title, n.message, n.task_id, n.type, "
+            + "n.is_read, n.created_at, s.id as sender_id, s.name as sender_name, s.email as sender_email, "
+            + "s.role as sender_role, r.id as recipient_id, r.name as recipient_name, r.email as recipient_email, "
+            + "r.role as recipient_role from notifications_archive n join app_user s on s.id = n.sender_id "
+            + "join app_user r on r.id = n.recipient_id ";
+
+    private static final RowMapper<TaskResponse> TASK_MAPPER = (rs, rowNum) -> TaskResponse.builder()
+            .id(rs.getLong("id"))
+            .title(rs.getString("title"))
+            .description(rs.getString("description"))
+            .priority(rs.getString("priority") != null ? TaskPriority.valueOf(rs.getString("priority")) : null)
+            .status(rs.getString("status") != null ? TaskStatus.valueOf(rs.getString("status")) : null)
+            .deadline(rs.getObject("deadline", LocalDateTime.class))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .creator(taskUser(rs, "creator"))
+            .manager(taskUser(rs, "manager"))
+            .build();
+
+    private static final RowMapper<NotificationResponse> NOTIFICATION_MAPPER = (rs, rowNum) ->
+            NotificationResponse.builder()
+                    .id(rs.getLong("id"))
+                    .sender(notificationUser(rs, "sender"))
+                    .recipient(notificationUser(rs, "recipient"))
+                    .title(rs.getString("title"))
+                    .message(rs.getString("message"))
+                    .taskId(rs.getObject("task_id", Long.class))
+                    .type(rs.getString("type") != null ? NotificationType.valueOf(rs.getString("type")) : null)
+                    .isRead(rs.getObject("is_read", Boolean.class))
+                    .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                    .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ArchiveRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Move up to batchSize finished tasks last updated before the cutoff; returns the number moved
+    public int archiveTasks(LocalDateTime updatedBefore, int batchSize) {
+        return jdbcTemplate.update(ARCHIVE_TASKS_SQL, updatedBefore, batchSize, LocalDateTime.now());
+    }
+
+    // Move up to batchSize read notifications created before the cutoff; returns the number moved
+    public int archiveNotifications(LocalDateTime createdBefore, int batchSize) {
+        return jdbcTemplate.update(ARCHIVE_NOTIFICATIONS_SQL, createdBefore, batchSize, LocalDateTime.now());
+    }
+
+    // Hard-delete up to batchSize tasks soft-deleted before the cutoff; returns the number removed
+    public int purgeDeletedTasks(LocalDateTime deletedBefore, int batchSize) {
+        return jdbcTemplate.update(PURGE_DELETED_TASKS_SQL, deletedBefore, batchSize);
+    }
+
+    public List<TaskResponse> findTasksByCreator(Long userId) {
+        return jdbcTemplate.query(TASK_SELECT + "where t.creator_id = ? order by t.id", TASK_MAPPER, userId);
+    }
+
+    public List<TaskResponse> findTasksByManager(Long userId) {
+        return jdbcTemplate.query(TASK_SELECT + "where t.manager_id = ? order by t.id", TASK_MAPPER, userId);
+    }
+
+    public List<NotificationResponse> findNotificationsByRecipient(Long userId) {
+        return jdbcTemplate.query(NOTIFICATION_SELECT + "where n.recipient_id = ? order by n.created_at desc",
+                NOTIFICATION_MAPPER, userId);
+    }
+
+    private static TaskResponse.UserResponse taskUser(ResultSet rs, String prefix) throws SQLException {
+        long id = rs.getLong(prefix + "_id");
+        if (rs.wasNull()) {
+            return null;
+        }
+        return new TaskResponse.UserResponse(id, rs.getString(prefix + "_name"), rs.getString(prefix + "_email"),
+                rs.getString(prefix + "_role"));
+    }
+
+    private static NotificationResponse.UserResponse notificationUser(ResultSet rs, String prefix) throws SQLException {
+        return new NotificationResponse.UserResponse(rs.getLong(prefix + "_id"), rs.getString(prefix + "_name"),
+                rs.getString(prefix + "_email"), rs.getString(prefix + "_role"));
+    }
+}
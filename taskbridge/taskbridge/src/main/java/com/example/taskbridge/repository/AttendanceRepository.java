@@ -5,14 +5,53 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.example.taskbridge.dto.AttendanceView;
 import com.example.taskbridge.entity.Attendance;
 import com.example.taskbridge.entity.User;
+import com.example.taskbridge.repository.projection.AttendanceCell;
 
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
+
+    // Read model: one query with the user's columns joined in
+    String VIEW_SELECT = "select new com.example.taskbridge.dto.AttendanceView(a.id, u.id, u.name, u.email, u.role, "
+            + "a.attendanceDate, a.clockInTime, a.clockOutTime, a.status, a.notes, a.createdAt, a.updatedAt) "
+            + "from Attendance a join a.user u ";
+
     List<Attendance> findByUser(User user);
     List<Attendance> findByUserAndAttendanceDateBetween(User user, LocalDate startDate, LocalDate endDate);
     Optional<Attendance> findByUserAndAttendanceDate(User user, LocalDate attendanceDate);
     List<Attendance> findByAttendanceDateBetween(LocalDate startDate, LocalDate endDate);
     Optional<Attendance> findTopByUserOrderByAttendanceDateDesc(User user);
+
+    // Calendar projection: no user rows are loaded
+    @Query("select a.user.id as userId, a.attendanceDate as attendanceDate, a.status as status "
+            + "from Attendance a where a.attendanceDate between :startDate and :endDate")
+    List<AttendanceCell> findCellsBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query(VIEW_SELECT + "where u.id = :userId order by a.attendanceDate desc")
+    List<AttendanceView> findViewsByUserId(@Param("userId") Long userId);
+
+    @Query(VIEW_SELECT + "where u.email = :email order by a.attendanceDate desc")
+    List<AttendanceView> findViewsByUserEmail(@Param("email") String email);
+
+    @Query(VIEW_SELECT + "where u.id = :userId and a.attendanceDate between :startDate and :endDate "
+            + "order by a.attendanceDate")
+    List<AttendanceView> findViewsByUserIdBetween(@Param("userId") Long userId, @Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
+
+    @Query(VIEW_SELECT + "where u.email = :email and a.attendanceDate between :startDate and :endDate "
+            + "order by a.attendanceDate")
+    List<AttendanceView> findViewsByUserEmailBetween(@Param("email") String email,
+                                                     @Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate);
+
+    @Query(VIEW_SELECT + "where u.email = :email and a.attendanceDate = :attendanceDate")
+    Optional<AttendanceView> findViewByUserEmailAndDate(@Param("email") String email,
+                                                        @Param("attendanceDate") LocalDate attendanceDate);
+
+    @Query(VIEW_SELECT + "where a.attendanceDate between :startDate and :endDate order by a.attendanceDate, u.name")
+    List<AttendanceView> findViewsBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 }
@@ -0,0 +1,69 @@
+package com.example.taskbridge.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// Previewed auto-roster plans awaiting commit (see the V10 migration).
+// Entries are written in JDBC batches in the same shape RosterBatchRepository upserts them.
+@Repository
+public class AutoRosterPlanRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_ENTRY_SQL = "insert into auto_roster_plan_entry "
+            + "(plan_id, user_id, shift_date, shift_type, location, notes) values (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AutoRosterPlanRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Store a plan and its entries; call inside a transaction so a plan is never stored half-written
+    public void save(String planId, LocalDate startDate, LocalDate endDate, LocalDateTime expiresAt,
+                     List<RosterBatchRepository.Entry> entries) {
+        jdbcTemplate.update("insert into auto_roster_plan (id, start_date, end_date, expires_at, created_at) "
+                + "values (?, ?, ?, ?, ?)", planId, startDate, endDate, expiresAt, LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_ENTRY_SQL, entries, BATCH_SIZE, (ps, entry) -> {
+            ps.setString(1, planId);
+            ps.setLong(2, entry.userId());
+            ps.setObject(3, entry.shiftDate());
+            ps.setString(4, entry.shiftType());
+            ps.setString(5, entry.location());
+            ps.setString(6, entry.notes());
+        });
+    }
+
+    // Remove and return an unexpired plan. The plan row is locked first, so of two concurrent
+    // commits of the same plan one gets it and the other finds nothing once the first commits.
+    public Optional<StoredPlan> claim(String planId, LocalDateTime now) {
+        List<StoredPlan> plans = jdbcTemplate.query(
+                "select start_date, end_date from auto_roster_plan where id = ? and expires_at > ? for update",
+                (rs, rowNum) -> new StoredPlan(rs.getObject(1, LocalDate.class), rs.getObject(2, LocalDate.class),
+                        null), planId, now);
+        if (plans.isEmpty()) {
+            return Optional.empty();
+        }
+        List<RosterBatchRepository.Entry> entries = jdbcTemplate.query(
+                "select user_id, shift_date, shift_type, location, notes from auto_roster_plan_entry "
+                        + "where plan_id = ? order by user_id, shift_date",
+                (rs, rowNum) -> new RosterBatchRepository.Entry(rs.getLong(1), rs.getObject(2, LocalDate.class),
+                        rs.getString(3), rs.getString(4), rs.getString(5)), planId);
+        jdbcTemplate.update("delete from auto_roster_plan where id = ?", planId);
+        StoredPlan plan = plans.get(0);
+        return Optional.of(new StoredPlan(plan.startDate(), plan.endDate(), entries));
+    }
+
+    // Drop plans that expired uncommitted; their entries go with them
+    public int deleteExpired(LocalDateTime now) {
+        return jdbcTemplate.update("delete from auto_roster_plan where expires_at <= ?", now);
+    }
+
+    public record StoredPlan(LocalDate startDate, LocalDate endDate, List<RosterBatchRepository.Entry> entries) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.taskbridge.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.taskbridge.entity.LeaveBalance;
+import com.example.taskbridge.entity.User;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface LeaveBalanceRepository extends JpaRepository<LeaveBalance, Long> {
+
+    List<LeaveBalance> findByUser(User user);
+
+    Optional<LeaveBalance> findByUserIdAndLeaveType(Long userId, String leaveType);
+
+    // Lock the users' balances not yet accrued for the year, in id order so overlapping runs
+    // cannot deadlock; approvals lock the same rows through findForUpdate
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from LeaveBalance b where b.user.id in :userIds "
+            + "and (b.accrualYear is null or b.accrualYear < :year) order by b.id")
+    List<LeaveBalance> findForAccrual(@Param("userIds") Collection<Long> userIds, @Param("year") int year);
+
+    // Row lock so concurrent approvals for the same user cannot overdraw a balance
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from LeaveBalance b where b.user.id = :userId and b.leaveType = :leaveType")
+    Optional<LeaveBalance> findForUpdate(@Param("userId") Long userId, @Param("leaveType") String leaveType);
+
+    // Insert an opening balance unless the user already has one for this type; 1 if this call inserted it
+    @Modifying
+    @Query(value = "insert into leave_balance (user_id, leave_type, balance, accrual_year, created_at, updated_at) "
+            + "values (:userId, :leaveType, :balance, :year, localtimestamp, localtimestamp) "
+            + "on conflict (user_id, leave_type) do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("leaveType") String leaveType,
+                       @Param("balance") int balance, @Param("year") int year);
+
+    // Insert an empty balance, last accrued in :year, for each of the users that has none of this type.
+    // A concurrent first write for the same user makes this row a no-op instead of a key violation.
+    @Modifying
+    @Query(value = "insert into leave_balance (user_id, leave_type, balance, accrual_year, created_at, updated_at) "
+            + "select u.id, :leaveType, 0, :year, localtimestamp, localtimestamp from app_user u "
+            + "where u.id in (:userIds) "
+            + "on conflict (user_id, leave_type) do nothing", nativeQuery = true)
+    int insertMissing(@Param("userIds") Collection<Long> userIds, @Param("leaveType") String leaveType,
+                      @Param("year") int year);
+}
@@ -0,0 +1,17 @@
+package com.example.taskbridge.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.taskbridge.entity.LeaveLedgerEntry;
+import com.example.taskbridge.entity.User;
+
+@Repository
+public interface LeaveLedgerRepository extends JpaRepository<LeaveLedgerEntry, Long> {
+
+    List<LeaveLedgerEntry> findByUserOrderByCreatedAtDesc(User user);
+
+    List<LeaveLedgerEntry> findByUserAndLeaveTypeOrderByCreatedAtDesc(User user, String leaveType);
+}
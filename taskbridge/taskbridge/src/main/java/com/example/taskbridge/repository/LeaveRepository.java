@@ -1,18 +1,35 @@
 package com.example.taskbridge.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import com.example.taskbridge.dto.LeaveView;
 import com.example.taskbridge.entity.Leave;
 import com.example.taskbridge.entity.User;
 import com.example.taskbridge.entity.Leave.LeaveStatus;
+import com.example.taskbridge.repository.projection.FeedVersion;
+import com.example.taskbridge.repository.projection.LeaveFeedRow;
+import com.example.taskbridge.repository.projection.LeaveSpan;
 
 @Repository
 public interface LeaveRepository extends JpaRepository<Leave, Long> {
+
+    // Read model: one query with the applicant and approver columns joined in
+    String VIEW_SELECT = "select new com.example.taskbridge.dto.LeaveView(l.id, u.id, u.name, u.email, u.role, "
+            + "l.startDate, l.endDate, l.leaveType, l.reason, l.status, l.approverNotes, "
+            + "a.id, a.name, a.email, a.role, l.createdAt, l.updatedAt) "
+            + "from Leave l join l.user u left join l.approvedBy a ";
     
     List<Leave> findByUser(User user);
     
@@ -23,4 +40,55 @@ public interface LeaveRepository extends JpaRepository<Leave, Long> {
     List<Leave> findByStartDateBetween(LocalDate startDate, LocalDate endDate);
     
     Optional<Leave> findByIdAndUser(Long id, User user);
+
+    // Calendar projection: every leave overlapping the range, not just those starting in it
+    @Query("select l.id as id, l.user.id as userId, l.startDate as startDate, l.endDate as endDate, l.status as status "
+            + "from Leave l where l.startDate <= :endDate and l.endDate >= :startDate")
+    List<LeaveSpan> findSpansOverlapping(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // The status is part of the query text so idx_leave_request_approved (a partial index) applies
+    @Query("select l.id as id, l.user.id as userId, l.startDate as startDate, l.endDate as endDate, l.status as status "
+            + "from Leave l where l.status = APPROVED and l.startDate <= :endDate and l.endDate >= :startDate")
+    List<LeaveSpan> findApprovedSpansOverlapping(@Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate);
+
+    // True when a leave with the status covers the given day (pass the same date twice)
+    boolean existsByUserIdAndStatusAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+            Long userId, LeaveStatus status, LocalDate startOnOrBefore, LocalDate endOnOrAfter);
+
+    @Query("select l.id as id, l.user.id as userId, l.startDate as startDate, l.endDate as endDate, l.status as status "
+            + "from Leave l where l.user.id in :userIds and l.status = :status "
+            + "and l.startDate <= :endDate and l.endDate >= :startDate")
+    List<LeaveSpan> findSpansForUsersOverlapping(@Param("userIds") Collection<Long> userIds,
+                                                 @Param("status") LeaveStatus status,
+                                                 @Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate);
+
+    @Query("select max(l.updatedAt) as lastUpdated, count(l) as entries from Leave l "
+            + "where l.user.id = :userId and l.status = :status "
+            + "and l.startDate <= :endDate and l.endDate >= :startDate")
+    FeedVersion findFeedVersion(@Param("userId") Long userId, @Param("status") LeaveStatus status,
+                                @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // Streamed row by row for the iCalendar feed; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "200"))
+    @Query("select l.id as id, l.startDate as startDate, l.endDate as endDate, l.leaveType as leaveType, "
+            + "l.updatedAt as updatedAt from Leave l where l.user.id = :userId and l.status = :status "
+            + "and l.startDate <= :endDate and l.endDate >= :startDate order by l.startDate")
+    Stream<LeaveFeedRow> streamFeedRows(@Param("userId") Long userId, @Param("status") LeaveStatus status,
+                                        @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query(VIEW_SELECT + "where u.id = :userId order by l.startDate desc")
+    List<LeaveView> findViewsByUserId(@Param("userId") Long userId);
+
+    @Query(VIEW_SELECT + "where u.id = :userId and l.status = :status order by l.startDate desc")
+    List<LeaveView> findViewsByUserIdAndStatus(@Param("userId") Long userId, @Param("status") LeaveStatus status);
+
+    // HR's review queue; the literal status matches the partial idx_leave_request_pending
+    @Query(VIEW_SELECT + "where l.status = PENDING order by l.startDate")
+    List<LeaveView> findPendingViews();
+
+    @Query(VIEW_SELECT + "where l.startDate between :startDate and :endDate order by l.startDate")
+    List<LeaveView> findViewsStartingBetween(@Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
 }
@@ -0,0 +1,76 @@
+package com.example.taskbridge.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.taskbridge.dto.NoticeAnalyticsResponse;
+
+// Grouped notice statistics computed in the database. Every query is bounded by
+// sender_id and a created_at range so it runs on idx_notice_sender_created, and
+// none of them touch the content column.
+@Repository
+public class NoticeAnalyticsRepository {
+
+    // Rows from one broadcast share broadcast_id; a single notice is its own group
+    private static final String NOTICE_KEY = "coalesce(n.broadcast_id, cast(n.id as varchar))";
+
+    private static final String COUNTS = "count(*) as sent, "
+            + "count(*) filter (where n.status in ('READ', 'ACKNOWLEDGED')) as read_count, "
+            + "count(*) filter (where n.status = 'ACKNOWLEDGED') as acknowledged, "
+            + "percentile_cont(0.5) within group (order by extract(epoch from (n.acknowledged_at - n.created_at))) "
+            + "as median_ack_seconds ";
+
+    private static final String WHERE = "from notice n where n.sender_id = ? and n.created_at >= ? and n.created_at < ? ";
+
+    private static final String NOTICE_SQL = "select " + NOTICE_KEY + " as notice_key, min(n.subject) as subject, "
+            + "min(n.notice_type) as notice_type, min(n.created_at) as sent_at, " + COUNTS + WHERE
+            + "group by " + NOTICE_KEY + " order by sent_at desc, notice_key limit ? offset ?";
+
+    private static final String NOTICE_COUNT_SQL = "select count(distinct " + NOTICE_KEY + ") " + WHERE;
+
+    private static final String TYPE_SQL = "select n.notice_type as notice_type, " + COUNTS + WHERE
+            + "group by n.notice_type order by n.notice_type";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NoticeAnalyticsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<NoticeAnalyticsResponse.NoticeStats> findNoticeStats(Long senderId, LocalDateTime from,
+                                                                     LocalDateTime to, int limit, long offset) {
+        return jdbcTemplate.query(NOTICE_SQL, (rs, rowNum) -> new NoticeAnalyticsResponse.NoticeStats(
+                rs.getString("notice_key"),
+                rs.getString("subject"),
+                rs.getString("notice_type"),
+                rs.getObject("sent_at", LocalDateTime.class),
+                rs.getLong("sent"),
+                rs.getLong("read_count"),
+                rs.getLong("acknowledged"),
+                medianSeconds(rs)), senderId, from, to, limit, offset);
+    }
+
+    public long countNotices(Long senderId, LocalDateTime from, LocalDateTime to) {
+        Long count = jdbcTemplate.queryForObject(NOTICE_COUNT_SQL, Long.class, senderId, from, to);
+        return count != null ? count : 0;
+    }
+
+    public List<NoticeAnalyticsResponse.TypeStats> findTypeStats(Long senderId, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(TYPE_SQL, (rs, rowNum) -> new NoticeAnalyticsResponse.TypeStats(
+                rs.getString("notice_type"),
+                rs.getLong("sent"),
+                rs.getLong("read_count"),
+                rs.getLong("acknowledged"),
+                medianSeconds(rs)), senderId, from, to);
+    }
+
+    private static Long medianSeconds(ResultSet rs) throws SQLException {
+        double seconds = rs.getDouble("median_ack_seconds");
+        return rs.wasNull() ? null : Math.round(seconds);
+    }
+}
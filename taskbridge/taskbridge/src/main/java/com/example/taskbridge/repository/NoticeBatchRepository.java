@@ -0,0 +1,65 @@
+package com.example.taskbridge.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.taskbridge.entity.Notice;
+import com.example.taskbridge.entity.RoleType;
+
+// Broadcast notice writes that bypass the entity manager.
+// One INSERT ... SELECT creates a notice row per matching active user and returns
+// the recipients' names and emails for the mail queue, so a broadcast is a single
+// round trip regardless of audience size.
+@Repository
+public class NoticeBatchRepository {
+
+    private static final String INSERT_SQL = "with inserted as ("
+            + "insert into notice (sender_id, recipient_id, subject, content, notice_type, status, "
+            + "broadcast_id, created_at, updated_at) "
+            + "select :senderId, u.id, :subject, :content, :noticeType, :status, :broadcastId, :now, :now "
+            + "from app_user u where u.active = true and u.deleted = false and u.id <> :senderId";
+
+    private static final String RETURNING_SQL = " returning recipient_id) "
+            + "select u.name, u.email from inserted i join app_user u on u.id = i.recipient_id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public NoticeBatchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Insert the notice for every active user matching the role and/or id filter (null means no filter).
+    // The sender is never a recipient.
+    public List<Recipient> insertForAudience(Long senderId, String subject, String content,
+                                             Notice.NoticeType noticeType, String broadcastId,
+                                             RoleType role, Collection<Long> userIds) {
+        StringBuilder sql = new StringBuilder(INSERT_SQL);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("senderId", senderId)
+                .addValue("subject", subject)
+                .addValue("content", content)
+                .addValue("noticeType", noticeType.name())
+                .addValue("status", Notice.NoticeStatus.SENT.name())
+                .addValue("broadcastId", broadcastId)
+                .addValue("now", LocalDateTime.now());
+        if (role != null) {
+            sql.append(" and u.role = :role");
+            params.addValue("role", role.name());
+        }
+        if (userIds != null) {
+            sql.append(" and u.id in (:userIds)");
+            params.addValue("userIds", userIds);
+        }
+        sql.append(RETURNING_SQL);
+        return jdbcTemplate.query(sql.toString(), params,
+                (rs, rowNum) -> new Recipient(rs.getString("name"), rs.getString("email")));
+    }
+
+    public record Recipient(String name, String email) {
+    }
+}
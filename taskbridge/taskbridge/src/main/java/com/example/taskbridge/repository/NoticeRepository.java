@@ -4,14 +4,22 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.taskbridge.dto.NoticeView;
 import com.example.taskbridge.entity.Notice;
 import com.example.taskbridge.entity.User;
 import com.example.taskbridge.entity.Notice.NoticeType;
 
 @Repository
 public interface NoticeRepository extends JpaRepository<Notice, Long> {
+
+    // Read model: one query with the sender and recipient columns joined in
+    String VIEW_SELECT = "select new com.example.taskbridge.dto.NoticeView(n.id, s.id, s.name, s.email, s.role, "
+            + "r.id, r.name, r.email, r.role, n.subject, n.content, n.noticeType, n.status, n.broadcastId, "
+            + "n.readAt, n.acknowledgedAt, n.createdAt) from Notice n join n.sender s join n.recipient r ";
     
     List<Notice> findByRecipient(User recipient);
     
@@ -22,4 +30,7 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
     List<Notice> findByRecipientAndCreatedAtAfter(User recipient, LocalDateTime createdAt);
     
     List<Notice> findByNoticeType(NoticeType noticeType);
+
+    @Query(VIEW_SELECT + "where s.id = :senderId order by n.createdAt desc")
+    List<NoticeView> findViewsBySenderId(@Param("senderId") Long senderId);
 }
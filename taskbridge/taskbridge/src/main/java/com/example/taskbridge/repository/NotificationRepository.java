@@ -10,4 +10,5 @@ import com.example.taskbridge.entity.User;
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findByRecipient(User recipient);
     List<Notification> findByRecipientAndIsReadFalse(User recipient);
+    long countByRecipientAndIsReadFalse(User recipient);
 }
@@ -0,0 +1,60 @@
+package com.example.taskbridge.repository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// Monthly partitions of the range-partitioned tables (see the V3 migration).
+// Partitions are named <table>_pYYYY_MM; creation goes through the ensure_monthly_partition
+// database function so the migration and the scheduled job build them the same way.
+@Repository
+public class PartitionRepository {
+
+    public static final List<String> PARTITIONED_TABLES = List.of("attendance", "notifications");
+
+    private static final String MONTHS_SQL = "select c.relname from pg_inherits i "
+            + "join pg_class c on c.oid = i.inhrelid "
+            + "where i.inhparent = cast(? as regclass) and c.relname ~ '_p[0-9]{4}_[0-9]{2}$' order by c.relname";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PartitionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Create and attach the month's partition unless it exists; true when it was created
+    public boolean ensureMonth(String table, YearMonth month) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("select ensure_monthly_partition(?, ?)",
+                Boolean.class, checked(table), month.atDay(1)));
+    }
+
+    // Months with an attached partition, oldest first
+    public List<YearMonth> findAttachedMonths(String table) {
+        return jdbcTemplate.query(MONTHS_SQL, (rs, rowNum) -> {
+            String name = rs.getString(1);
+            return YearMonth.of(Integer.parseInt(name.substring(name.length() - 7, name.length() - 3)),
+                    Integer.parseInt(name.substring(name.length() - 2)));
+        }, checked(table));
+    }
+
+    // Detach the month's partition; it stays behind as a standalone table with the same name.
+    // Takes a brief ACCESS EXCLUSIVE lock on the parent, so callers should bound the wait
+    // with lock_timeout in the same transaction.
+    public void detachMonth(String table, YearMonth month) {
+        jdbcTemplate.execute("alter table " + checked(table) + " detach partition " + partitionName(table, month));
+    }
+
+    public static String partitionName(String table, YearMonth month) {
+        return String.format("%s_p%04d_%02d", checked(table), month.getYear(), month.getMonthValue());
+    }
+
+    // Table names end up in DDL, so only the known partitioned tables are accepted
+    private static String checked(String table) {
+        if (!PARTITIONED_TABLES.contains(table)) {
+            throw new IllegalStateException("Not a partitioned table: " + table);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.taskbridge.repository;
+
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// Bulk roster writes that bypass the entity manager.
+// Rows are upserted on the unique (user_id, shift_date) key in JDBC batches,
+// so a month of shifts for hundreds of users is a handful of round trips.
+@Repository
+public class RosterBatchRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL = "insert into roster "
+            + "(user_id, shift_date, shift_type, location, notes, created_by_id, created_at, updated_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?) on conflict (user_id, shift_date) ";
+
+    private static final String ON_CONFLICT_UPDATE = "do update set shift_type = excluded.shift_type, "
+            + "location = excluded.location, notes = excluded.notes, updated_at = excluded.updated_at";
+
+    private static final String ON_CONFLICT_SKIP = "do nothing";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RosterBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Upsert entries; existing rows are overwritten only when overwrite is true
+    public void upsert(List<Entry> entries, Long createdById, boolean overwrite) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        String sql = INSERT_SQL + (overwrite ? ON_CONFLICT_UPDATE : ON_CONFLICT_SKIP);
+        jdbcTemplate.batchUpdate(sql, entries, BATCH_SIZE, (ps, entry) -> {
+            ps.setLong(1, entry.userId());
+            ps.setObject(2, entry.shiftDate());
+            ps.setString(3, entry.shiftType());
+            ps.setString(4, entry.location());
+            ps.setString(5, entry.notes());
+            if (createdById != null) {
+                ps.setLong(6, createdById);
+            } else {
+                ps.setNull(6, Types.BIGINT);
+            }
+            ps.setObject(7, now);
+            ps.setObject(8, now);
+        });
+    }
+
+    public record Entry(Long userId, LocalDate shiftDate, String shiftType, String location, String notes) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.taskbridge.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// Roster feed subscription tokens (see the V8 migration), one per user, stored as SHA-256 hashes
+@Repository
+public class RosterFeedTokenRepository {
+
+    private static final String UPSERT_SQL = "insert into roster_feed_token (user_id, token_hash, created_at) "
+            + "values (?, ?, localtimestamp) "
+            + "on conflict (user_id) do update set token_hash = excluded.token_hash, created_at = excluded.created_at";
+
+    // Tokens of deactivated or deleted users stop resolving without having to be revoked
+    private static final String FIND_USER_SQL = "select t.user_id from roster_feed_token t "
+            + "join app_user u on u.id = t.user_id "
+            + "where t.token_hash = ? and u.active = true and u.deleted = false";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RosterFeedTokenRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Store the user's token hash, replacing (and so revoking) any previous one
+    public void save(Long userId, String tokenHash) {
+        jdbcTemplate.update(UPSERT_SQL, userId, tokenHash);
+    }
+
+    // True when the user had a token
+    public boolean delete(Long userId) {
+        return jdbcTemplate.update("delete from roster_feed_token where user_id = ?", userId) > 0;
+    }
+
+    public Optional<Long> findUserIdByHash(String tokenHash) {
+        List<Long> ids = jdbcTemplate.queryForList(FIND_USER_SQL, Long.class, tokenHash);
+        return ids.stream().findFirst();
+    }
+}
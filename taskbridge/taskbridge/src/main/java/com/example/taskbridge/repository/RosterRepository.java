@@ -1,17 +1,33 @@
 package com.example.taskbridge.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import com.example.taskbridge.dto.RosterView;
 import com.example.taskbridge.entity.Roster;
 import com.example.taskbridge.entity.User;
+import com.example.taskbridge.repository.projection.FeedVersion;
+import com.example.taskbridge.repository.projection.RosterCell;
+import com.example.taskbridge.repository.projection.RosterFeedRow;
 
 @Repository
 public interface RosterRepository extends JpaRepository<Roster, Long> {
+
+    // Read model: one query with the user and creator columns joined in
+    String VIEW_SELECT = "select new com.example.taskbridge.dto.RosterView(r.id, u.id, u.name, u.email, u.role, "
+            + "r.shiftDate, r.shiftType, r.location, r.notes, c.id, c.name, c.email, c.role, "
+            + "r.createdAt, r.updatedAt) from Roster r join r.user u left join r.createdBy c ";
     
     List<Roster> findByUser(User user);
     
@@ -22,4 +38,38 @@ public interface RosterRepository extends JpaRepository<Roster, Long> {
     List<Roster> findByUserAndShiftDateBetween(User user, LocalDate startDate, LocalDate endDate);
     
     List<Roster> findByShiftDateBetween(LocalDate startDate, LocalDate endDate);
+
+    // Calendar projection: no user or creator rows are loaded
+    @Query("select r.user.id as userId, r.shiftDate as shiftDate, r.shiftType as shiftType "
+            + "from Roster r where r.shiftDate between :startDate and :endDate")
+    List<RosterCell> findCellsBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("select r.user.id as userId, r.shiftDate as shiftDate, r.shiftType as shiftType "
+            + "from Roster r where r.user.id in :userIds and r.shiftDate between :startDate and :endDate")
+    List<RosterCell> findCellsForUsersBetween(@Param("userIds") Collection<Long> userIds,
+                                              @Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate);
+
+    @Query("select max(r.updatedAt) as lastUpdated, count(r) as entries from Roster r "
+            + "where r.user.id = :userId and r.shiftDate between :startDate and :endDate")
+    FeedVersion findFeedVersion(@Param("userId") Long userId, @Param("startDate") LocalDate startDate,
+                                @Param("endDate") LocalDate endDate);
+
+    // Streamed row by row for the iCalendar feed; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "200"))
+    @Query("select r.id as id, r.shiftDate as shiftDate, r.shiftType as shiftType, r.location as location, "
+            + "r.notes as notes, r.updatedAt as updatedAt from Roster r "
+            + "where r.user.id = :userId and r.shiftDate between :startDate and :endDate order by r.shiftDate")
+    Stream<RosterFeedRow> streamFeedRows(@Param("userId") Long userId, @Param("startDate") LocalDate startDate,
+                                         @Param("endDate") LocalDate endDate);
+
+    @Query(VIEW_SELECT + "where u.id = :userId order by r.shiftDate")
+    List<RosterView> findViewsByUserId(@Param("userId") Long userId);
+
+    @Query(VIEW_SELECT + "where u.id = :userId and r.shiftDate between :startDate and :endDate order by r.shiftDate")
+    List<RosterView> findViewsByUserIdBetween(@Param("userId") Long userId, @Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate);
+
+    @Query(VIEW_SELECT + "where r.shiftDate between :startDate and :endDate order by r.shiftDate, u.name")
+    List<RosterView> findViewsBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 }
@@ -0,0 +1,10 @@
+package com.example.taskbridge.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.taskbridge.entity.RosterTemplate;
+
+@Repository
+public interface RosterTemplateRepository extends JpaRepository<RosterTemplate, Long> {
+}
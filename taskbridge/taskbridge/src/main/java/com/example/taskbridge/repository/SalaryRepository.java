@@ -5,13 +5,22 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.taskbridge.dto.SalaryView;
 import com.example.taskbridge.entity.Salary;
 import com.example.taskbridge.entity.User;
 
 @Repository
 public interface SalaryRepository extends JpaRepository<Salary, Long> {
+
+    // Read model: one query with the user's columns joined in
+    String VIEW_SELECT = "select new com.example.taskbridge.dto.SalaryView(s.id, u.id, u.name, u.email, u.role, "
+            + "s.year, s.month, s.baseSalary, s.totalWorkingDays, s.presentDays, s.absentDays, s.leaveDays, "
+            + "s.salaryPerDay, s.earnedSalary, s.deductions, s.netSalary, s.notes, s.createdAt, s.updatedAt) "
+            + "from Salary s join s.user u ";
     
     List<Salary> findByUser(User user);
     
@@ -22,4 +31,14 @@ public interface SalaryRepository extends JpaRepository<Salary, Long> {
     List<Salary> findByYear(Integer year);
     
     List<Salary> findByYearAndMonth(Integer year, Integer month);
+
+    @Query(VIEW_SELECT + "where u.id = :userId order by s.year desc, s.month desc")
+    List<SalaryView> findViewsByUserId(@Param("userId") Long userId);
+
+    @Query(VIEW_SELECT + "where u.id = :userId and s.year = :year and s.month = :month")
+    Optional<SalaryView> findViewByUserIdAndMonth(@Param("userId") Long userId, @Param("year") Integer year,
+                                                  @Param("month") Integer month);
+
+    @Query(VIEW_SELECT + "where s.year = :year and s.month = :month order by u.name")
+    List<SalaryView> findViewsByMonth(@Param("year") Integer year, @Param("month") Integer month);
 }
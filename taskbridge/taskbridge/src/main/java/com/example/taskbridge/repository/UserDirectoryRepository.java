@@ -0,0 +1,76 @@
+package com.example.taskbridge.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.example.taskbridge.dto.DirectoryEntry;
+import com.example.taskbridge.entity.RoleType;
+
+// Directory reads over app_user ordered by (lower(name) collate "C", id).
+// The C collation makes the order match Java's String ordering, so database pages and
+// the in-memory snapshot agree, and lets the expression indexes from the V2 migration
+// serve both the prefix LIKE and the keyset ORDER BY.
+@Repository
+public class UserDirectoryRepository {
+
+    private static final String NAME_KEY = "lower(u.name) collate \"C\"";
+    private static final String EMAIL_KEY = "lower(u.email) collate \"C\"";
+
+    private static final String SELECT = "select u.id, u.name, u.email, u.role, u.active from app_user u "
+            + "where u.deleted = false";
+
+    private static final RowMapper<DirectoryEntry> ENTRY_MAPPER = (rs, rowNum) -> new DirectoryEntry(
+            rs.getLong("id"),
+            rs.getString("name"),
+            rs.getString("email"),
+            rs.getString("role") != null ? RoleType.valueOf(rs.getString("role")) : null,
+            rs.getBoolean("active"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserDirectoryRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Up to limit entries after the (afterNameKey, afterId) position; prefix, role and active are optional
+    public List<DirectoryEntry> findPage(String prefix, RoleType role, Boolean active,
+                                         String afterNameKey, Long afterId, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT);
+        List<Object> params = new ArrayList<>();
+        if (prefix != null && !prefix.isEmpty()) {
+            sql.append(" and (" + NAME_KEY + " like ? escape '\\' or " + EMAIL_KEY + " like ? escape '\\')");
+            String pattern = escapeLike(prefix) + "%";
+            params.add(pattern);
+            params.add(pattern);
+        }
+        if (role != null) {
+            sql.append(" and u.role = ?");
+            params.add(role.name());
+        }
+        if (active != null) {
+            sql.append(" and u.active = ?");
+            params.add(active);
+        }
+        if (afterNameKey != null) {
+            sql.append(" and (" + NAME_KEY + ", u.id) > (?, ?)");
+            params.add(afterNameKey);
+            params.add(afterId);
+        }
+        sql.append(" order by " + NAME_KEY + ", u.id limit ?");
+        params.add(limit);
+        return jdbcTemplate.query(sql.toString(), ENTRY_MAPPER, params.toArray());
+    }
+
+    // Every active user in directory order, for the type-ahead snapshot
+    public List<DirectoryEntry> findAllActive() {
+        return jdbcTemplate.query(SELECT + " and u.active = true order by " + NAME_KEY + ", u.id", ENTRY_MAPPER);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.taskbridge.repository;
+
+import java.util.Optional;
+
+import com.example.taskbridge.entity.User;
+
+// Email lookups by natural id, so repeated lookups of the same user are answered from the
+// second-level cache instead of a query (see UserNaturalIdRepositoryImpl)
+public interface UserNaturalIdRepository {
+
+    Optional<User> findByEmail(String email);
+}
@@ -0,0 +1,36 @@
+package com.example.taskbridge.repository;
+
+import java.util.Optional;
+
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.taskbridge.entity.User;
+
+import jakarta.persistence.EntityManager;
+
+// A derived findByEmail query always goes to the database. Loading by natural id resolves
+// email -> id through the natural-id cache and the row through the entity cache, so the
+// lookups JwtAuthenticationFilter and the services make on every request cost no SQL once warm.
+class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    UserNaturalIdRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    // Callers include the JWT filter and the non-transactional auth paths, and without
+    // open-session-in-view the shared EntityManager can only be unwrapped inside a transaction
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email)
+                .filter(user -> !user.isDeleted());
+    }
+}
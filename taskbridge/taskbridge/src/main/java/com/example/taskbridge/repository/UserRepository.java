@@ -1,20 +1,63 @@
 package com.example.taskbridge.repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.taskbridge.dto.UserRef;
 import com.example.taskbridge.entity.RoleType;
 import com.example.taskbridge.entity.User;
+import com.example.taskbridge.repository.projection.UserSummary;
+
+import jakarta.persistence.QueryHint;
+
+// findByEmail comes from UserNaturalIdRepository. The role/active list queries are cached in
+// the query cache; any write to app_user through JPA invalidates every cached result.
 @Repository
 public interface UserRepository
-extends JpaRepository<User, Long> {
+extends JpaRepository<User, Long>, UserNaturalIdRepository {
 
-Optional<User> findByEmail(String email);
+@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 List<User> findByRole(RoleType role);
+
+@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 List<User> findByActive(boolean active);
+
+Slice<User> findByActive(boolean active, Pageable pageable);
+
+@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 List<User> findByRoleAndActive(RoleType role, boolean active);
-}
 
+@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+@Query("select u from User u where u.active = true and u.role in :roles order by u.name, u.id")
+List<User> findActiveByRoleIn(@Param("roles") List<RoleType> roles);
+
+@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+@Query("select u.id as id, u.name as name from User u where u.active = true and u.role in :roles order by u.name, u.id")
+List<UserSummary> findActiveSummariesByRoleIn(@Param("roles") List<RoleType> roles);
+
+@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+@Query("select new com.example.taskbridge.dto.UserRef(u.id, u.name, u.email, u.role) from User u "
+        + "where u.active = true and u.role in :roles order by u.name, u.id")
+List<UserRef> findActiveRefsByRoleIn(@Param("roles") List<RoleType> roles);
+
+@Query("select u.id from User u where u.id in :ids")
+List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+// Serialises roster/leave writes per user for the rest of the transaction (ScheduleConflictIndex.lockUsers).
+// FOR NO KEY UPDATE leaves foreign-key checks against these rows unblocked.
+@Query(value = "select id from app_user where id in :ids order by id for no key update", nativeQuery = true)
+List<Long> lockForScheduleWrite(@Param("ids") Collection<Long> ids);
+
+@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+@Query("select u.id from User u where u.active = true and u.role = :role")
+List<Long> findActiveIdsByRole(@Param("role") RoleType role);
+}
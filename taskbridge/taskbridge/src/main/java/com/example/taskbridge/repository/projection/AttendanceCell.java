@@ -0,0 +1,9 @@
+package com.example.taskbridge.repository.projection;
+
+import java.time.LocalDate;
+
+public interface AttendanceCell {
+    Long getUserId();
+    LocalDate getAttendanceDate();
+    String getStatus();
+}
@@ -0,0 +1,9 @@
+package com.example.taskbridge.repository.projection;
+
+import java.time.LocalDateTime;
+
+// Latest change and row count for a feed's source rows; together they change on insert, update and delete
+public interface FeedVersion {
+    LocalDateTime getLastUpdated();
+    long getEntries();
+}
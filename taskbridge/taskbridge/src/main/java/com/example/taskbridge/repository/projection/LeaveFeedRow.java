@@ -0,0 +1,12 @@
+package com.example.taskbridge.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface LeaveFeedRow {
+    Long getId();
+    LocalDate getStartDate();
+    LocalDate getEndDate();
+    String getLeaveType();
+    LocalDateTime getUpdatedAt();
+}
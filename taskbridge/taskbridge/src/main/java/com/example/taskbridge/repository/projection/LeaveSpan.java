@@ -0,0 +1,13 @@
+package com.example.taskbridge.repository.projection;
+
+import java.time.LocalDate;
+
+import com.example.taskbridge.entity.Leave.LeaveStatus;
+
+public interface LeaveSpan {
+    Long getId();
+    Long getUserId();
+    LocalDate getStartDate();
+    LocalDate getEndDate();
+    LeaveStatus getStatus();
+}
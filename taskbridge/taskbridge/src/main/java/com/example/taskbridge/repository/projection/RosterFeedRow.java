@@ -0,0 +1,13 @@
+package com.example.taskbridge.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface RosterFeedRow {
+    Long getId();
+    LocalDate getShiftDate();
+    String getShiftType();
+    String getLocation();
+    String getNotes();
+    LocalDateTime getUpdatedAt();
+}
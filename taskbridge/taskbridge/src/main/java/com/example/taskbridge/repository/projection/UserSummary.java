@@ -0,0 +1,7 @@
+package com.example.taskbridge.repository.projection;
+
+// Id and display name only, for lookups that must not load full users
+public interface UserSummary {
+    Long getId();
+    String getName();
+}
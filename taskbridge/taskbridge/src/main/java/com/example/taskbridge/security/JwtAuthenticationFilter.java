@@ -1,6 +1,7 @@
 package com.example.taskbridge.security;
 
 import java.io.IOException;
+import java.util.Date;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -14,6 +15,11 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import com.example.taskbridge.entity.User;
 import com.example.taskbridge.repository.UserRepository;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -31,22 +37,35 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
         String authHeader = request.getHeader("Authorization");
-        String token = null;
         String email = null;
+        boolean tokenValid = false;
 
-        // Extract token from Bearer header
+        // Extract token from Bearer header; signature and expiry are checked in a single parse
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            token = authHeader.substring(7);
+            String token = authHeader.substring(7);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome;
             try {
-                email = jwtUtil.extractEmail(token);
+                Claims claims = jwtUtil.parseClaims(token);
+                email = claims.getSubject();
+                tokenValid = claims.getExpiration() != null && claims.getExpiration().after(new Date());
+                outcome = tokenValid ? "valid" : "expired";
+            } catch (ExpiredJwtException e) {
+                outcome = "expired";
+                logger.debug("JWT token expired");
             } catch (Exception e) {
+                outcome = "invalid";
                 logger.error("JWT token extraction failed", e);
             }
+            sample.stop(meterRegistry.timer("taskbridge.jwt.verification", "outcome", outcome));
         }
 
         // Validate token and set authentication
@@ -65,6 +84,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 // Allow access to notification endpoints and the reactivation/auth endpoints
                 boolean allowedForInactive = uri.startsWith("/api/notifications") || uri.equals("/api/auth/me") || uri.startsWith("/api/auth");
                 if (!allowedForInactive) {
+                    meterRegistry.counter("taskbridge.jwt.inactive.rejected").increment();
                     response.setStatus(HttpServletResponse.SC_FORBIDDEN);
                     response.setContentType("application/json");
                     response.getWriter().write("{\"error\":\"Account is deactivated\"}");
@@ -75,7 +95,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             UserDetails userDetails = userDetailsService.loadUserByUsername(email);
 
-            if (jwtUtil.isTokenValid(token) && !jwtUtil.isTokenExpired(token)) {
+            if (tokenValid) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails,
                         null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -5,6 +5,7 @@ import java.util.Date;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -27,6 +28,15 @@ public class JwtUtil {
    .compact();
  }
 
+ // Verify the signature and expiry once and return the claims; throws on an invalid or expired token
+ public Claims parseClaims(String token){
+  return Jwts.parserBuilder()
+   .setSigningKey(Keys.hmacShaKeyFor(secret.getBytes()))
+   .build()
+   .parseClaimsJws(token)
+   .getBody();
+ }
+
  public String extractEmail(String token){
   return Jwts.parserBuilder()
    .setSigningKey(Keys.hmacShaKeyFor(secret.getBytes()))
@@ -0,0 +1,88 @@
+package com.example.taskbridge.service;
+
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.taskbridge.repository.ArchiveRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Moves cold rows out of the hot tables so their indexes stay small enough to stay cached:
+// COMPLETED/CANCELLED tasks untouched for archive.tasks.after-days, and read notifications
+// older than archive.notifications.after-days. Runs nightly in batches of archive.batch-size,
+// each in its own short transaction, until a batch comes back short. Tasks soft-deleted more
+// than archive.deleted-tasks.after-days ago are hard-deleted the same way.
+@Service
+public class ArchivalService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchivalService.class);
+
+    private final ArchiveRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int taskDays;
+    private final int notificationDays;
+    private final int deletedTaskDays;
+    private final int batchSize;
+
+    public ArchivalService(ArchiveRepository archiveRepository,
+                           TransactionTemplate transactionTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${archive.tasks.after-days:90}") int taskDays,
+                           @Value("${archive.notifications.after-days:30}") int notificationDays,
+                           @Value("${archive.deleted-tasks.after-days:30}") int deletedTaskDays,
+                           @Value("${archive.batch-size:1000}") int batchSize) {
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.taskDays = taskDays;
+        this.notificationDays = notificationDays;
+        this.deletedTaskDays = deletedTaskDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${archive.cron:0 0 3 * * *}")
+    public void runScheduledArchival() {
+        archiveTasks();
+        archiveNotifications();
+        purgeDeletedTasks();
+    }
+
+    public int archiveTasks() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(taskDays);
+        return drain("tasks", "archived", () -> archiveRepository.archiveTasks(cutoff, batchSize));
+    }
+
+    public int archiveNotifications() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(notificationDays);
+        return drain("notifications", "archived", () -> archiveRepository.archiveNotifications(cutoff, batchSize));
+    }
+
+    public int purgeDeletedTasks() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(deletedTaskDays);
+        return drain("tasks", "purged", () -> archiveRepository.purgeDeletedTasks(cutoff, batchSize));
+    }
+
+    // Repeat the batch until it moves fewer rows than a full batch
+    private int drain(String table, String action, IntSupplier batch) {
+        int total = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> batch.getAsInt());
+            total += moved;
+        } while (moved == batchSize);
+
+        if (total > 0) {
+            meterRegistry.counter("taskbridge.archive.rows", "table", table, "action", action).increment(total);
+            log.info("{} {} rows from {}", action, total, table);
+        }
+        return total;
+    }
+}
@@ -5,26 +5,35 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.taskbridge.dto.AttendanceView;
 import com.example.taskbridge.entity.Attendance;
 import com.example.taskbridge.entity.User;
 import com.example.taskbridge.exception.ResourceNotFoundException;
 import com.example.taskbridge.repository.AttendanceRepository;
 import com.example.taskbridge.repository.UserRepository;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Service
 public class AttendanceService {
 
     private final AttendanceRepository attendanceRepository;
     private final UserRepository userRepository;
+    private final Counter clockIns;
 
-    public AttendanceService(AttendanceRepository attendanceRepository, UserRepository userRepository) {
+    public AttendanceService(AttendanceRepository attendanceRepository, UserRepository userRepository,
+                             MeterRegistry meterRegistry) {
         this.attendanceRepository = attendanceRepository;
         this.userRepository = userRepository;
+        this.clockIns = meterRegistry.counter("taskbridge.attendance.clockins");
     }
 
     // Clock in for the current user
-    public Attendance clockIn(String userEmail) {
+    @Transactional
+    public AttendanceView clockIn(String userEmail) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
@@ -59,11 +68,14 @@ public class AttendanceService {
         attendance.setClockInTime(now);
         attendance.setStatus("PRESENT");
 
-        return attendanceRepository.save(attendance);
+        Attendance saved = attendanceRepository.save(attendance);
+        clockIns.increment();
+        return AttendanceView.of(saved);
     }
 
     // Clock out for the current user
-    public Attendance clockOut(String userEmail) {
+    @Transactional
+    public AttendanceView clockOut(String userEmail) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
@@ -78,54 +90,43 @@ public class AttendanceService {
 
         attendance.setClockOutTime(LocalDateTime.now());
 
-        return attendanceRepository.save(attendance);
+        return AttendanceView.of(attendanceRepository.save(attendance));
     }
 
     // Get my attendance records
-    public List<Attendance> getMyAttendance(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-        return attendanceRepository.findByUser(user);
+    @Transactional(readOnly = true)
+    public List<AttendanceView> getMyAttendance(String userEmail) {
+        return attendanceRepository.findViewsByUserEmail(userEmail);
     }
 
     // Get my attendance for a date range
-    public List<Attendance> getMyAttendanceByDateRange(String userEmail, LocalDate startDate, LocalDate endDate) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-        return attendanceRepository.findByUserAndAttendanceDateBetween(user, startDate, endDate);
+    @Transactional(readOnly = true)
+    public List<AttendanceView> getMyAttendanceByDateRange(String userEmail, LocalDate startDate, LocalDate endDate) {
+        return attendanceRepository.findViewsByUserEmailBetween(userEmail, startDate, endDate);
     }
 
     // Get attendance for a specific user (admin/manager)
-    public List<Attendance> getUserAttendance(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-        return attendanceRepository.findByUser(user);
+    @Transactional(readOnly = true)
+    public List<AttendanceView> getUserAttendance(Long userId) {
+        return attendanceRepository.findViewsByUserId(userId);
     }
 
     // Get attendance for a specific user by date range (admin/manager)
-    public List<Attendance> getUserAttendanceByDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-        return attendanceRepository.findByUserAndAttendanceDateBetween(user, startDate, endDate);
+    @Transactional(readOnly = true)
+    public List<AttendanceView> getUserAttendanceByDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
+        return attendanceRepository.findViewsByUserIdBetween(userId, startDate, endDate);
     }
 
     // Get all attendance records for a date range (admin only)
-    public List<Attendance> getAllAttendanceByDateRange(LocalDate startDate, LocalDate endDate) {
-        return attendanceRepository.findByAttendanceDateBetween(startDate, endDate);
+    @Transactional(readOnly = true)
+    public List<AttendanceView> getAllAttendanceByDateRange(LocalDate startDate, LocalDate endDate) {
+        return attendanceRepository.findViewsBetween(startDate, endDate);
     }
 
     // Get today's attendance
-    public Attendance getTodayAttendance(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-        LocalDate today = LocalDate.now();
-        
-        return attendanceRepository.findByUserAndAttendanceDate(user, today)
+    @Transactional(readOnly = true)
+    public AttendanceView getTodayAttendance(String userEmail) {
+        return attendanceRepository.findViewByUserEmailAndDate(userEmail, LocalDate.now())
                 .orElse(null);
     }
 }
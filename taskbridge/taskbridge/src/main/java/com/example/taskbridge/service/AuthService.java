@@ -1,13 +1,16 @@
 package com.example.taskbridge.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.taskbridge.dto.AuthResponse;
 import com.example.taskbridge.dto.LoginRequest;
 import com.example.taskbridge.dto.RegisterRequest;
 import com.example.taskbridge.entity.RoleType;
 import com.example.taskbridge.entity.User;
+import com.example.taskbridge.event.UserChangedEvent;
 import com.example.taskbridge.exception.InvalidCredentialsException;
 import com.example.taskbridge.exception.ResourceAlreadyExistsException;
 import com.example.taskbridge.exception.ResourceNotFoundException;
@@ -20,13 +23,17 @@ public class AuthService {
   private final UserRepository repo;
   private final PasswordEncoder encoder;
   private final JwtUtil jwt;
+  private final ApplicationEventPublisher events;
 
-  public AuthService(UserRepository repo, PasswordEncoder encoder, JwtUtil jwt) {
+  public AuthService(UserRepository repo, PasswordEncoder encoder, JwtUtil jwt, ApplicationEventPublisher events) {
     this.repo = repo;
     this.encoder = encoder;
     this.jwt = jwt;
+    this.events = events;
   }
 
+  // register and login are deliberately not transactional: the bcrypt hash takes longer than
+  // the queries around it, and a surrounding transaction would hold a pooled connection throughout
   public AuthResponse register(RegisterRequest req) {
 
     if (repo.findByEmail(req.email).isPresent()) {
@@ -41,6 +48,7 @@ public class AuthService {
     u.setActive(true);
 
     User savedUser = repo.save(u);
+    events.publishEvent(new UserChangedEvent(savedUser.getId()));
 
     String token = jwt.generateToken(savedUser.getEmail());
 
@@ -78,15 +86,18 @@ public class AuthService {
       user.isActive());
   }
 
+  @Transactional(readOnly = true)
   public com.example.taskbridge.dto.UserInfoResponse getCurrentUser(String email) {
     User user = repo.findByEmail(email).orElseThrow(() -> new ResourceNotFoundException("User not found"));
-    return new com.example.taskbridge.dto.UserInfoResponse(user.getId(), user.getName(), user.getEmail(), user.getRole().name(), user.isActive());
+    return com.example.taskbridge.dto.UserInfoResponse.of(user);
   }
 
+  @Transactional
   public void logout(String email) {
     User user = repo.findByEmail(email)
         .orElseThrow(() -> new ResourceNotFoundException("User not found"));
     user.setActive(false);
     repo.save(user);
+    events.publishEvent(new UserChangedEvent(user.getId()));
   }
 }
@@ -0,0 +1,249 @@
+package com.example.taskbridge.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.taskbridge.dto.AutoRosterPlan;
+import com.example.taskbridge.entity.Leave.LeaveStatus;
+import com.example.taskbridge.exception.ResourceNotFoundException;
+import com.example.taskbridge.repository.AutoRosterPlanRepository;
+import com.example.taskbridge.repository.LeaveRepository;
+import com.example.taskbridge.repository.RosterBatchRepository;
+import com.example.taskbridge.repository.RosterRepository;
+import com.example.taskbridge.repository.UserRepository;
+import com.example.taskbridge.repository.projection.LeaveSpan;
+import com.example.taskbridge.repository.projection.RosterCell;
+
+@Service
+public class AutoRosterService {
+
+    static final int MAX_DAYS = 62;
+    static final int DEFAULT_MAX_CONSECUTIVE_DAYS = 6;
+
+    // Local-search moves per staff-day; enough to flatten fairness on realistic inputs
+    private static final int ITERATIONS_PER_CELL = 20;
+
+    // Previewed plans are held this long for a follow-up commit
+    private static final long PLAN_TTL_MINUTES = 30;
+
+    private static final String NOTES = "Auto-rostered";
+
+    private final UserRepository userRepository;
+    private final LeaveRepository leaveRepository;
+    private final RosterRepository rosterRepository;
+    private final RosterBatchRepository rosterBatchRepository;
+    private final AutoRosterPlanRepository autoRosterPlanRepository;
+    private final ScheduleConflictIndex scheduleConflictIndex;
+    private final Executor solverExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final RosterSolver rosterSolver = new RosterSolver();
+
+    public AutoRosterService(UserRepository userRepository, LeaveRepository leaveRepository,
+                             RosterRepository rosterRepository, RosterBatchRepository rosterBatchRepository,
+                             AutoRosterPlanRepository autoRosterPlanRepository,
+                             ScheduleConflictIndex scheduleConflictIndex,
+                             @Qualifier("solverExecutor") Executor solverExecutor,
+                             TransactionTemplate transactionTemplate) {
+        this.userRepository = userRepository;
+        this.leaveRepository = leaveRepository;
+        this.rosterRepository = rosterRepository;
+        this.rosterBatchRepository = rosterBatchRepository;
+        this.autoRosterPlanRepository = autoRosterPlanRepository;
+        this.scheduleConflictIndex = scheduleConflictIndex;
+        this.solverExecutor = solverExecutor;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // Coverage requirement for one location: the staff who work there and the
+    // minimum headcount per shift type per day (MORNING, AFTERNOON, NIGHT)
+    public record LocationRequirement(String location, List<Long> userIds, Map<String, Integer> coverage) {
+    }
+
+    // Solve every location in parallel and store the result for a later commit.
+    // Plans live in the database, so the commit may be served by any instance.
+    public AutoRosterPlan preview(LocalDate startDate, LocalDate endDate, List<LocationRequirement> locations,
+                                  Integer maxConsecutiveDays, Long seed) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalStateException("End date cannot be before start date");
+        }
+        int days = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        if (days > MAX_DAYS) {
+            throw new IllegalStateException("Auto-roster range cannot exceed " + MAX_DAYS + " days");
+        }
+        if (locations == null || locations.isEmpty()) {
+            throw new IllegalStateException("At least one location is required");
+        }
+
+        Set<Long> allStaff = new HashSet<>();
+        for (LocationRequirement location : locations) {
+            if (location.userIds() == null || location.userIds().isEmpty()) {
+                throw new IllegalStateException("Location " + location.location() + " has no staff");
+            }
+            for (Long userId : location.userIds()) {
+                if (!allStaff.add(userId)) {
+                    throw new IllegalStateException("User " + userId + " is listed for more than one location");
+                }
+            }
+        }
+        List<Long> found = userRepository.findExistingIds(allStaff);
+        if (found.size() != allStaff.size()) {
+            allStaff.removeAll(found);
+            throw new ResourceNotFoundException("Users not found: " + allStaff);
+        }
+
+        Map<Long, List<LeaveSpan>> leavesByUser = new HashMap<>();
+        for (LeaveSpan leave : leaveRepository.findSpansForUsersOverlapping(allStaff, LeaveStatus.APPROVED,
+                startDate, endDate)) {
+            leavesByUser.computeIfAbsent(leave.getUserId(), id -> new ArrayList<>()).add(leave);
+        }
+        Set<Long> nightBefore = new HashSet<>();
+        LocalDate dayBefore = startDate.minusDays(1);
+        for (RosterCell cell : rosterRepository.findCellsForUsersBetween(allStaff, dayBefore, dayBefore)) {
+            if ("NIGHT".equals(cell.getShiftType())) {
+                nightBefore.add(cell.getUserId());
+            }
+        }
+
+        int maxConsecutive = maxConsecutiveDays != null ? maxConsecutiveDays : DEFAULT_MAX_CONSECUTIVE_DAYS;
+        long baseSeed = seed != null ? seed : startDate.toEpochDay();
+
+        List<CompletableFuture<RosterSolver.Solution>> futures = new ArrayList<>();
+        for (LocationRequirement location : locations) {
+            RosterSolver.Problem problem = buildProblem(location, startDate, days, leavesByUser, nightBefore,
+                    maxConsecutive, baseSeed);
+            futures.add(CompletableFuture.supplyAsync(() -> rosterSolver.solve(problem), solverExecutor));
+        }
+        List<RosterSolver.Solution> solutions = futures.stream().map(CompletableFuture::join).toList();
+
+        String planId = UUID.randomUUID().toString();
+        List<RosterBatchRepository.Entry> entries = toEntries(startDate, solutions);
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(PLAN_TTL_MINUTES);
+        transactionTemplate.executeWithoutResult(status ->
+                autoRosterPlanRepository.save(planId, startDate, endDate, expiresAt, entries));
+        return toPlan(planId, startDate, endDate, solutions);
+    }
+
+    // Write a previewed plan into the roster, replacing existing entries for the same user-days.
+    // Working shifts on leave approved since the preview are left out.
+    @Transactional
+    public int commit(String planId, Long createdByUserId) {
+        AutoRosterPlanRepository.StoredPlan plan = autoRosterPlanRepository.claim(planId, LocalDateTime.now())
+                .orElseThrow(() -> new ResourceNotFoundException("Roster plan not found or expired"));
+
+        Set<Long> staff = new HashSet<>();
+        for (RosterBatchRepository.Entry entry : plan.entries()) {
+            staff.add(entry.userId());
+        }
+        scheduleConflictIndex.lockUsers(staff);
+        Map<Long, Set<LocalDate>> leaveDays = scheduleConflictIndex.findLeaveDays(staff, plan.startDate(),
+                plan.endDate());
+
+        List<RosterBatchRepository.Entry> entries = new ArrayList<>();
+        for (RosterBatchRepository.Entry entry : plan.entries()) {
+            if (!"OFF".equals(entry.shiftType())
+                    && leaveDays.getOrDefault(entry.userId(), Set.of()).contains(entry.shiftDate())) {
+                continue;
+            }
+            entries.add(entry);
+        }
+        rosterBatchRepository.upsert(entries, createdByUserId, true);
+        scheduleConflictIndex.shiftsWritten(entries);
+        return entries.size();
+    }
+
+    // Previews nobody committed; they could not be committed anyway once expired
+    @Scheduled(cron = "${taskbridge.auto-roster.purge-cron:0 */15 * * * *}")
+    public void purgeExpiredPlans() {
+        autoRosterPlanRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    // Roster rows for the solved plan; cells the solver left to approved leave are not written
+    private List<RosterBatchRepository.Entry> toEntries(LocalDate startDate, List<RosterSolver.Solution> solutions) {
+        List<RosterBatchRepository.Entry> entries = new ArrayList<>();
+        for (RosterSolver.Solution solution : solutions) {
+            for (int i = 0; i < solution.staffIds().size(); i++) {
+                Long staffId = solution.staffIds().get(i);
+                for (int d = 0; d < solution.shifts()[i].length; d++) {
+                    int shift = solution.shifts()[i][d];
+                    if (shift == RosterSolver.LEAVE) {
+                        continue;
+                    }
+                    entries.add(new RosterBatchRepository.Entry(staffId, startDate.plusDays(d),
+                            RosterSolver.SHIFT_NAMES[shift], solution.location(), NOTES));
+                }
+            }
+        }
+        return entries;
+    }
+
+    private RosterSolver.Problem buildProblem(LocationRequirement location, LocalDate startDate, int days,
+                                              Map<Long, List<LeaveSpan>> leavesByUser, Set<Long> nightBefore,
+                                              int maxConsecutive, long baseSeed) {
+        List<Long> staffIds = List.copyOf(location.userIds());
+        int[] required = new int[4];
+        if (location.coverage() != null) {
+            for (Map.Entry<String, Integer> entry : location.coverage().entrySet()) {
+                int code = Arrays.asList(RosterSolver.SHIFT_NAMES).indexOf(entry.getKey());
+                if (code <= RosterSolver.OFF) {
+                    throw new IllegalStateException("Unknown coverage shift type: " + entry.getKey());
+                }
+                required[code] = entry.getValue() != null ? entry.getValue() : 0;
+            }
+        }
+
+        boolean[][] onLeave = new boolean[staffIds.size()][days];
+        boolean[] nights = new boolean[staffIds.size()];
+        LocalDate endDate = startDate.plusDays(days - 1L);
+        for (int i = 0; i < staffIds.size(); i++) {
+            nights[i] = nightBefore.contains(staffIds.get(i));
+            for (LeaveSpan leave : leavesByUser.getOrDefault(staffIds.get(i), List.of())) {
+                LocalDate from = leave.getStartDate().isBefore(startDate) ? startDate : leave.getStartDate();
+                LocalDate to = leave.getEndDate().isAfter(endDate) ? endDate : leave.getEndDate();
+                for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                    onLeave[i][(int) ChronoUnit.DAYS.between(startDate, date)] = true;
+                }
+            }
+        }
+
+        // Mix the location into the seed so locations do not share a move sequence
+        long seed = baseSeed * 31 + String.valueOf(location.location()).hashCode();
+        int iterations = ITERATIONS_PER_CELL * staffIds.size() * days;
+        return new RosterSolver.Problem(location.location(), staffIds, days, required, onLeave, nights,
+                maxConsecutive, seed, iterations);
+    }
+
+    private AutoRosterPlan toPlan(String planId, LocalDate startDate, LocalDate endDate,
+                                  List<RosterSolver.Solution> solutions) {
+        List<AutoRosterPlan.LocationPlan> locationPlans = new ArrayList<>();
+        for (RosterSolver.Solution solution : solutions) {
+            List<AutoRosterPlan.Row> rows = new ArrayList<>();
+            for (int i = 0; i < solution.staffIds().size(); i++) {
+                List<String> shifts = new ArrayList<>(solution.shifts()[i].length);
+                for (int shift : solution.shifts()[i]) {
+                    shifts.add(shift == RosterSolver.LEAVE ? null : RosterSolver.SHIFT_NAMES[shift]);
+                }
+                rows.add(new AutoRosterPlan.Row(solution.staffIds().get(i), shifts));
+            }
+            locationPlans.add(new AutoRosterPlan.LocationPlan(solution.location(), solution.shortfall(),
+                    solution.minShifts(), solution.maxShifts(), solution.minNights(), solution.maxNights(), rows));
+        }
+        return new AutoRosterPlan(planId, startDate, endDate, locationPlans);
+    }
+}
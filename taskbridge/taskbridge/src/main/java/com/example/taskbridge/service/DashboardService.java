@@ -0,0 +1,123 @@
+package com.example.taskbridge.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Service;
+
+import com.example.taskbridge.dto.AttendanceView;
+import com.example.taskbridge.dto.DashboardResponse;
+import com.example.taskbridge.dto.LeaveView;
+import com.example.taskbridge.dto.TaskResponse;
+import com.example.taskbridge.dto.UserInfoResponse;
+import com.example.taskbridge.entity.RoleType;
+import com.example.taskbridge.entity.User;
+import com.example.taskbridge.exception.ResourceNotFoundException;
+import com.example.taskbridge.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// First-paint data for the dashboard in one call. The user is resolved once, then the
+// independent sections run concurrently on the bounded query executor, each in its own
+// read-only transaction. A section that has not finished within the section timeout, or
+// that fails, is left out and named in the response, so one slow query cannot hold back
+// the rest of the page; the UI loads that section on its own afterwards.
+//
+// There is deliberately no outer transaction: it would hold a connection on the request
+// thread while the sections wait for theirs.
+@Service
+public class DashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+
+    private final UserRepository userRepository;
+    private final TaskService taskService;
+    private final NotificationService notificationService;
+    private final AttendanceService attendanceService;
+    private final LeaveService leaveService;
+    private final Executor queryExecutor;
+    private final Duration sectionTimeout;
+    private final MeterRegistry meterRegistry;
+
+    public DashboardService(UserRepository userRepository, TaskService taskService,
+                            NotificationService notificationService, AttendanceService attendanceService,
+                            LeaveService leaveService, @Qualifier("queryExecutor") Executor queryExecutor,
+                            @Value("${taskbridge.dashboard.section-timeout:2s}") Duration sectionTimeout,
+                            MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.taskService = taskService;
+        this.notificationService = notificationService;
+        this.attendanceService = attendanceService;
+        this.leaveService = leaveService;
+        // Sections carry the caller's security context, so replica routing still knows whose read it is
+        this.queryExecutor = new DelegatingSecurityContextExecutor(queryExecutor);
+        this.sectionTimeout = sectionTimeout;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Build the dashboard for the user with this email
+    public DashboardResponse getDashboard(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        CompletableFuture<List<TaskResponse>> myTasks = section(() -> taskService.getMyTasks(user, false));
+        CompletableFuture<List<TaskResponse>> availableTasks = user.getRole() == RoleType.EMPLOYEE
+                ? section(taskService::getAvailableTasks)
+                : null;
+        CompletableFuture<Long> unread = section(() -> notificationService.countUnreadNotifications(user));
+        CompletableFuture<AttendanceView> today = section(() -> attendanceService.getTodayAttendance(email));
+        CompletableFuture<List<LeaveView>> leaves = section(() -> leaveService.getUserLeaves(user.getId()));
+
+        List<String> incomplete = new ArrayList<>();
+        return new DashboardResponse(
+                UserInfoResponse.of(user),
+                result("myTasks", myTasks, incomplete),
+                availableTasks != null ? result("availableTasks", availableTasks, incomplete) : null,
+                result("unreadNotifications", unread, incomplete),
+                result("todayAttendance", today, incomplete),
+                result("leaves", leaves, incomplete),
+                incomplete);
+    }
+
+    private <T> CompletableFuture<T> section(Supplier<T> query) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(query, queryExecutor);
+        } catch (RejectedExecutionException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.orTimeout(sectionTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // The section's value, or null after recording it as incomplete. A timed-out query is not
+    // interrupted; it finishes in the background and its result is dropped.
+    private <T> T result(String name, CompletableFuture<T> future, List<String> incomplete) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            String outcome = cause instanceof TimeoutException ? "timeout"
+                    : cause instanceof RejectedExecutionException ? "rejected" : "error";
+            meterRegistry.counter("taskbridge.dashboard.incomplete", "section", name, "outcome", outcome).increment();
+            if (outcome.equals("error")) {
+                log.warn("Dashboard section {} failed", name, cause);
+            }
+            incomplete.add(name);
+            return null;
+        }
+    }
+}
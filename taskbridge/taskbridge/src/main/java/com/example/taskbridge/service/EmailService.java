@@ -1,25 +1,63 @@
 package com.example.taskbridge.service;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 import com.example.taskbridge.entity.Notice;
 import com.example.taskbridge.entity.User;
+import com.example.taskbridge.repository.NoticeBatchRepository;
 import com.example.taskbridge.repository.UserRepository;
-import com.example.taskbridge.exception.ResourceNotFoundException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 @Service
 public class EmailService {
 
+    private static final Logger log = LoggerFactory.getLogger(EmailService.class);
+
+    // Messages handed to the mail server per send call, so one connection carries many emails
+    private static final int SEND_CHUNK_SIZE = 50;
+
     private final JavaMailSender mailSender;
     private final UserRepository userRepository;
+    private final Executor mailExecutor;
+    private final MeterRegistry meterRegistry;
 
-    public EmailService(JavaMailSender mailSender, UserRepository userRepository) {
+    public EmailService(JavaMailSender mailSender, UserRepository userRepository,
+                        @Qualifier("mailExecutor") Executor mailExecutor, MeterRegistry meterRegistry) {
         this.mailSender = mailSender;
         this.userRepository = userRepository;
+        this.mailExecutor = mailExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Queue the notice email on the mail executor; the caller does not wait for SMTP
+    public void queueNoticeEmail(Notice notice) {
+        submit(() -> sendNoticeEmail(notice.getId(), notice));
+    }
+
+    // Queue the HR notification for a new leave request; the applicant's request does not wait for SMTP
+    public void queueLeaveRequestNotificationToHR(User applicant, String leaveType, String startDate, String endDate,
+                                                  String reason) {
+        submit(() -> sendLeaveRequestNotificationToHR(applicant, leaveType, startDate, endDate, reason));
+    }
+
+    // Queue the emails for a broadcast notice as one background job
+    public void queueBroadcastNoticeEmails(List<NoticeBatchRepository.Recipient> recipients, String subject,
+                                           String content, Notice.NoticeType noticeType) {
+        if (recipients.isEmpty()) {
+            return;
+        }
+        submit(() -> sendBroadcastNoticeEmails(recipients, subject, content, noticeType));
     }
 
     // Send email notification for a notice
@@ -28,18 +66,70 @@ public class EmailService {
             SimpleMailMessage message = new SimpleMailMessage();
             message.setTo(notice.getRecipient().getEmail());
             message.setSubject("TaskBridge Notice: " + notice.getSubject());
-            message.setText(buildNoticeEmailBody(notice));
+            message.setText(buildNoticeEmailBody(notice.getRecipient().getName(), notice.getSubject(),
+                    notice.getNoticeType(), notice.getContent()));
             message.setFrom("noreply@taskbridge.com");
 
-            mailSender.send(message);
-            System.out.println("Notice email sent to " + notice.getRecipient().getEmail());
+            send("notice", message);
+            log.debug("Notice email sent to {}", notice.getRecipient().getEmail());
         } catch (Exception e) {
-            System.err.println("Failed to send notice email: " + e.getMessage());
-            e.printStackTrace();
+            log.warn("Failed to send notice email for notice {}", noticeId, e);
             // Don't throw exception - email failure shouldn't block the notice from being created
         }
     }
 
+    // Send broadcast notice emails in chunks; a failed chunk is logged and the rest still go out
+    private void sendBroadcastNoticeEmails(List<NoticeBatchRepository.Recipient> recipients, String subject,
+                                           String content, Notice.NoticeType noticeType) {
+        int sent = 0;
+        for (int from = 0; from < recipients.size(); from += SEND_CHUNK_SIZE) {
+            List<NoticeBatchRepository.Recipient> chunk =
+                    recipients.subList(from, Math.min(from + SEND_CHUNK_SIZE, recipients.size()));
+            SimpleMailMessage[] messages = new SimpleMailMessage[chunk.size()];
+            for (int i = 0; i < chunk.size(); i++) {
+                NoticeBatchRepository.Recipient recipient = chunk.get(i);
+                SimpleMailMessage message = new SimpleMailMessage();
+                message.setTo(recipient.email());
+                message.setSubject("TaskBridge Notice: " + subject);
+                message.setText(buildNoticeEmailBody(recipient.name(), subject, noticeType, content));
+                message.setFrom("noreply@taskbridge.com");
+                messages[i] = message;
+            }
+            try {
+                send("broadcast", messages);
+                sent += messages.length;
+            } catch (Exception e) {
+                log.warn("Failed to send a chunk of {} broadcast notice emails", messages.length, e);
+            }
+        }
+        log.info("Broadcast notice emails sent to {} of {} recipients", sent, recipients.size());
+    }
+
+    private void submit(Runnable task) {
+        try {
+            mailExecutor.execute(task);
+        } catch (TaskRejectedException e) {
+            meterRegistry.counter("taskbridge.mail.dropped").increment();
+            log.warn("Mail queue is full, email dropped: {}", e.getMessage());
+        }
+    }
+
+    // One SMTP round trip, timed per email kind and outcome; failures are counted and rethrown to the caller
+    private void send(String kind, SimpleMailMessage... messages) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            mailSender.send(messages);
+            meterRegistry.counter("taskbridge.mail.sent", "kind", kind).increment(messages.length);
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            meterRegistry.counter("taskbridge.mail.failures", "kind", kind).increment(messages.length);
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("taskbridge.mail.send", "kind", kind, "outcome", outcome));
+        }
+    }
+
     // Send attendance alert email
     public void sendAttendanceAlert(User user, String message) {
         try {
@@ -49,9 +139,9 @@ public class EmailService {
             mailMessage.setText(buildAttendanceAlertBody(user, message));
             mailMessage.setFrom("noreply@taskbridge.com");
 
-            mailSender.send(mailMessage);
+            send("attendance_alert", mailMessage);
         } catch (Exception e) {
-            System.err.println("Failed to send attendance alert email: " + e.getMessage());
+            log.warn("Failed to send attendance alert email: {}", e.getMessage());
         }
     }
 
@@ -64,9 +154,9 @@ public class EmailService {
             message.setText(buildLeaveDecisionBody(user, leaveType, decision, notes));
             message.setFrom("noreply@taskbridge.com");
 
-            mailSender.send(message);
+            send("leave_decision", message);
         } catch (Exception e) {
-            System.err.println("Failed to send leave decision email: " + e.getMessage());
+            log.warn("Failed to send leave decision email: {}", e.getMessage());
         }
     }
 
@@ -83,12 +173,12 @@ public class EmailService {
                 message.setText(buildLeaveRequestBody(applicant, leaveType, startDate, endDate, reason));
                 message.setFrom("noreply@taskbridge.com");
 
-                mailSender.send(message);
+                send("leave_request", message);
             }
             
-            System.out.println("Leave request notification sent to HR team");
+            log.debug("Leave request notification sent to HR team");
         } catch (Exception e) {
-            System.err.println("Failed to send leave request notification: " + e.getMessage());
+            log.warn("Failed to send leave request notification: {}", e.getMessage());
         }
     }
 
@@ -101,9 +191,9 @@ public class EmailService {
             message.setText(buildSalaryEmailBody(user, month, year, salaryDetails));
             message.setFrom("noreply@taskbridge.com");
 
-            mailSender.send(message);
+            send("salary", message);
         } catch (Exception e) {
-            System.err.println("Failed to send salary email: " + e.getMessage());
+            log.warn("Failed to send salary email: {}", e.getMessage());
         }
     }
 
@@ -116,28 +206,29 @@ public class EmailService {
             message.setText(buildRosterEmailBody(user, rosterDetails));
             message.setFrom("noreply@taskbridge.com");
 
-            mailSender.send(message);
+            send("roster", message);
         } catch (Exception e) {
-            System.err.println("Failed to send roster email: " + e.getMessage());
+            log.warn("Failed to send roster email: {}", e.getMessage());
         }
     }
 
-    // Helper methods to build email bodies
-    private String buildNoticeEmailBody(Notice notice) {
+    // Helper methods to build email bodies (package-private for the benchmarks)
+    String buildNoticeEmailBody(String recipientName, String subject, Notice.NoticeType noticeType,
+                                        String content) {
         StringBuilder body = new StringBuilder();
-        body.append("Dear ").append(notice.getRecipient().getName()).append(",\n\n");
+        body.append("Dear ").append(recipientName).append(",\n\n");
         body.append("You have received a new notice from the HR department.\n\n");
-        body.append("Subject: ").append(notice.getSubject()).append("\n");
-        body.append("Type: ").append(notice.getNoticeType()).append("\n\n");
+        body.append("Subject: ").append(subject).append("\n");
+        body.append("Type: ").append(noticeType).append("\n\n");
         body.append("Message:\n");
-        body.append(notice.getContent()).append("\n\n");
+        body.append(content).append("\n\n");
         body.append("Please log in to TaskBridge to view and acknowledge this notice.\n\n");
         body.append("Best regards,\n");
         body.append("TaskBridge HR System");
         return body.toString();
     }
 
-    private String buildAttendanceAlertBody(User user, String message) {
+    String buildAttendanceAlertBody(User user, String message) {
         StringBuilder body = new StringBuilder();
         body.append("Dear ").append(user.getName()).append(",\n\n");
         body.append("Attendance Alert:\n");
@@ -148,7 +239,7 @@ public class EmailService {
         return body.toString();
     }
 
-    private String buildLeaveDecisionBody(User user, String leaveType, String decision, String notes) {
+    String buildLeaveDecisionBody(User user, String leaveType, String decision, String notes) {
         StringBuilder body = new StringBuilder();
         body.append("Dear ").append(user.getName()).append(",\n\n");
         body.append("Your leave request has been ").append(decision.toLowerCase()).append(".\n\n");
@@ -162,7 +253,7 @@ public class EmailService {
         return body.toString();
     }
 
-    private String buildLeaveRequestBody(User applicant, String leaveType, String startDate, String endDate, String reason) {
+    String buildLeaveRequestBody(User applicant, String leaveType, String startDate, String endDate, String reason) {
         StringBuilder body = new StringBuilder();
         body.append("Dear HR Team,\n\n");
         body.append("A new leave request has been submitted for your review.\n\n");
@@ -178,7 +269,7 @@ public class EmailService {
         return body.toString();
     }
 
-    private String buildSalaryEmailBody(User user, Integer month, Integer year, String salaryDetails) {
+    String buildSalaryEmailBody(User user, Integer month, Integer year, String salaryDetails) {
         StringBuilder body = new StringBuilder();
         body.append("Dear ").append(user.getName()).append(",\n\n");
         body.append("Your salary report for ").append(getMonthName(month)).append(" ").append(year).append(" is ready.\n\n");
@@ -189,7 +280,7 @@ public class EmailService {
         return body.toString();
     }
 
-    private String buildRosterEmailBody(User user, String rosterDetails) {
+    String buildRosterEmailBody(User user, String rosterDetails) {
         StringBuilder body = new StringBuilder();
         body.append("Dear ").append(user.getName()).append(",\n\n");
         body.append("Your roster has been updated.\n\n");
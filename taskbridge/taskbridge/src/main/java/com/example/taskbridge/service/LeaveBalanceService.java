@@ -0,0 +1,283 @@
+package com.example.taskbridge.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.taskbridge.entity.Leave;
+import com.example.taskbridge.entity.LeaveBalance;
+import com.example.taskbridge.entity.LeaveLedgerEntry;
+import com.example.taskbridge.entity.LeaveLedgerEntry.EntryType;
+import com.example.taskbridge.entity.User;
+import com.example.taskbridge.exception.ResourceNotFoundException;
+import com.example.taskbridge.repository.LeaveBalanceRepository;
+import com.example.taskbridge.repository.LeaveLedgerRepository;
+import com.example.taskbridge.repository.UserRepository;
+
+@Service
+public class LeaveBalanceService {
+
+    // Days credited per leave type at the start of each year.
+    // Leave types not listed here (e.g. OTHER) are not balance-tracked.
+    static final Map<String, Integer> ANNUAL_ALLOWANCE = Map.of(
+            "CASUAL", 12,
+            "SICK", 10,
+            "EARNED", 15,
+            "MATERNITY", 180,
+            "PATERNITY", 15);
+
+    // Days that may carry over into the next year per leave type; anything above lapses at the
+    // yearly accrual. Types not listed here reset to the new allowance.
+    static final Map<String, Integer> CARRY_OVER_CAP = Map.of(
+            "EARNED", 30);
+
+    private static final int ACCRUAL_BATCH_SIZE = 500;
+
+    private final LeaveBalanceRepository leaveBalanceRepository;
+    private final LeaveLedgerRepository leaveLedgerRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // Hot cache of available days per user and leave type, backed by the leave_balance table
+    private final Map<BalanceKey, Integer> balanceCache = new ConcurrentHashMap<>();
+
+    // Bumped before every eviction, so a load that raced one can tell its value may be stale
+    private final AtomicLong evictions = new AtomicLong();
+
+    public LeaveBalanceService(LeaveBalanceRepository leaveBalanceRepository,
+                               LeaveLedgerRepository leaveLedgerRepository,
+                               UserRepository userRepository,
+                               TransactionTemplate transactionTemplate) {
+        this.leaveBalanceRepository = leaveBalanceRepository;
+        this.leaveLedgerRepository = leaveLedgerRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // Whether a leave type is subject to balance checks
+    public boolean isTracked(String leaveType) {
+        return leaveType != null && ANNUAL_ALLOWANCE.containsKey(leaveType);
+    }
+
+    // Number of calendar days covered by a leave, inclusive of both ends
+    public static int daysRequested(LocalDate startDate, LocalDate endDate) {
+        return (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+    }
+
+    // Available days for a user and leave type; served from cache after the first lookup.
+    // A user with no balance row yet has the opening allowance. The row itself is created by
+    // the first write (consume, reverse or the yearly accrual), so reads never insert.
+    public int getAvailableDays(Long userId, String leaveType) {
+        BalanceKey key = new BalanceKey(userId, leaveType);
+        Integer cached = balanceCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long seen = evictions.get();
+        Integer balance = leaveBalanceRepository.findByUserIdAndLeaveType(userId, leaveType)
+                .map(LeaveBalance::getBalance)
+                .orElseGet(() -> ANNUAL_ALLOWANCE.getOrDefault(leaveType, 0));
+        balanceCache.putIfAbsent(key, balance);
+        // A write may have committed and evicted between our read and our put; if any eviction
+        // ran meanwhile, take the value back out rather than serve it until the next write
+        if (evictions.get() != seen) {
+            balanceCache.remove(key, balance);
+        }
+        return balance;
+    }
+
+    // Reject a request up front if it exceeds the user's current balance
+    public void ensureSufficientBalance(Long userId, String leaveType, int days) {
+        if (!isTracked(leaveType)) {
+            return;
+        }
+        int available = getAvailableDays(userId, leaveType);
+        if (days > available) {
+            throw new IllegalStateException("Insufficient " + leaveType + " leave balance: requested "
+                    + days + " day(s), available " + available);
+        }
+    }
+
+    // Get all balances for a user
+    public Map<String, Integer> getBalances(Long userId) {
+        if (userRepository.findById(userId).isEmpty()) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        Map<String, Integer> balances = new HashMap<>();
+        for (String leaveType : ANNUAL_ALLOWANCE.keySet()) {
+            balances.put(leaveType, getAvailableDays(userId, leaveType));
+        }
+        return balances;
+    }
+
+    // Get the ledger history for a user, newest first
+    @Transactional(readOnly = true)
+    public List<LeaveLedgerEntry> getLedger(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return leaveLedgerRepository.findByUserOrderByCreatedAtDesc(user);
+    }
+
+    // Debit the balance when a leave is approved
+    @Transactional
+    public void consume(Leave leave) {
+        if (!isTracked(leave.getLeaveType())) {
+            return;
+        }
+        int days = daysRequested(leave.getStartDate(), leave.getEndDate());
+        LeaveBalance balance = lockBalance(leave.getUser().getId(), leave.getLeaveType());
+        if (days > balance.getBalance()) {
+            throw new IllegalStateException("Insufficient " + leave.getLeaveType() + " leave balance: requested "
+                    + days + " day(s), available " + balance.getBalance());
+        }
+        post(balance, EntryType.CONSUMPTION, -days, leave, null, "Leave approved");
+    }
+
+    // Credit the days back when a previously approved leave is rejected
+    @Transactional
+    public void reverse(Leave leave) {
+        if (!isTracked(leave.getLeaveType())) {
+            return;
+        }
+        int days = daysRequested(leave.getStartDate(), leave.getEndDate());
+        LeaveBalance balance = lockBalance(leave.getUser().getId(), leave.getLeaveType());
+        post(balance, EntryType.REVERSAL, days, leave, null, "Approved leave rejected");
+    }
+
+    // Yearly accrual, run on 1 January: caps the carry-over, then credits the new allowance
+    @Scheduled(cron = "${leave.accrual.cron:0 0 1 1 1 *}")
+    public void runScheduledAccrual() {
+        runYearlyAccrual(LocalDate.now().getYear());
+    }
+
+    // Credit the annual allowance to every active user in fixed-size batches.
+    // Each batch commits on its own; balances already credited for the year are skipped,
+    // so the job can safely be re-run after a partial failure. Returns the number of balances credited.
+    public int runYearlyAccrual(int year) {
+        int credited = 0;
+        int page = 0;
+        Slice<User> slice;
+        do {
+            PageRequest pageRequest = PageRequest.of(page++, ACCRUAL_BATCH_SIZE, Sort.by("id"));
+            slice = userRepository.findByActive(true, pageRequest);
+            List<Long> userIds = slice.getContent().stream().map(User::getId).toList();
+            if (!userIds.isEmpty()) {
+                credited += transactionTemplate.execute(status -> accrueBatch(userIds, year));
+            }
+        } while (slice.hasNext());
+
+        evictions.incrementAndGet();
+        balanceCache.clear();
+        return credited;
+    }
+
+    // Missing balances are first inserted empty as of the previous year, so every balance goes
+    // through the same locked update: approvals and reversals for these users wait for the batch
+    // (or the batch for them) instead of having their write overwritten.
+    private int accrueBatch(List<Long> userIds, int year) {
+        for (String leaveType : ANNUAL_ALLOWANCE.keySet()) {
+            leaveBalanceRepository.insertMissing(userIds, leaveType, year - 1);
+        }
+
+        List<LeaveBalance> balances = leaveBalanceRepository.findForAccrual(userIds, year);
+        List<LeaveLedgerEntry> entries = new ArrayList<>();
+        for (LeaveBalance balance : balances) {
+            String leaveType = balance.getLeaveType();
+            int carried = Math.min(balance.getBalance(), CARRY_OVER_CAP.getOrDefault(leaveType, 0));
+            int expired = balance.getBalance() - carried;
+            if (expired > 0) {
+                entries.add(ledgerEntry(balance.getUser(), leaveType, EntryType.EXPIRY, -expired, null, year,
+                        "Unused days lapsed at " + year + " accrual"));
+            }
+            int allowance = ANNUAL_ALLOWANCE.getOrDefault(leaveType, 0);
+            entries.add(ledgerEntry(balance.getUser(), leaveType, EntryType.ACCRUAL, allowance, null, year,
+                    "Annual allowance " + year));
+            balance.setBalance(carried + allowance);
+            balance.setAccrualYear(year);
+            balance.setUpdatedAt(LocalDateTime.now());
+        }
+
+        leaveBalanceRepository.saveAll(balances);
+        leaveLedgerRepository.saveAll(entries);
+        return balances.size();
+    }
+
+    // Create the balance row on first write, credited with the current year's allowance, and lock it.
+    // Of two concurrent first writes one inserts; the other waits on the unique key, skips the
+    // insert and locks the row the first one committed.
+    private LeaveBalance openBalance(Long userId, String leaveType) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        int year = LocalDate.now().getYear();
+        int allowance = ANNUAL_ALLOWANCE.getOrDefault(leaveType, 0);
+
+        if (leaveBalanceRepository.insertIfAbsent(userId, leaveType, allowance, year) == 1) {
+            leaveLedgerRepository.save(ledgerEntry(user, leaveType, EntryType.ACCRUAL, allowance, null, year,
+                    "Opening balance " + year));
+        }
+        return leaveBalanceRepository.findForUpdate(userId, leaveType)
+                .orElseThrow(() -> new IllegalStateException("Leave balance could not be opened"));
+    }
+
+    private LeaveBalance lockBalance(Long userId, String leaveType) {
+        return leaveBalanceRepository.findForUpdate(userId, leaveType)
+                .orElseGet(() -> openBalance(userId, leaveType));
+    }
+
+    private void post(LeaveBalance balance, EntryType entryType, int days, Leave leave, Integer year, String notes) {
+        balance.setBalance(balance.getBalance() + days);
+        balance.setUpdatedAt(LocalDateTime.now());
+        leaveBalanceRepository.save(balance);
+        leaveLedgerRepository.save(ledgerEntry(balance.getUser(), balance.getLeaveType(), entryType, days, leave, year, notes));
+        evictAfterCommit(new BalanceKey(balance.getUser().getId(), balance.getLeaveType()));
+    }
+
+    private LeaveLedgerEntry ledgerEntry(User user, String leaveType, EntryType entryType, int days, Leave leave,
+                                         Integer year, String notes) {
+        LeaveLedgerEntry entry = new LeaveLedgerEntry();
+        entry.setUser(user);
+        entry.setLeaveType(leaveType);
+        entry.setEntryType(entryType);
+        entry.setDays(days);
+        entry.setLeave(leave);
+        entry.setAccrualYear(year);
+        entry.setNotes(notes);
+        return entry;
+    }
+
+    // Drop the cached value only once the new balance is visible to other transactions
+    private void evictAfterCommit(BalanceKey key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictions.incrementAndGet();
+                    balanceCache.remove(key);
+                }
+            });
+        } else {
+            evictions.incrementAndGet();
+            balanceCache.remove(key);
+        }
+    }
+
+    private record BalanceKey(Long userId, String leaveType) {
+    }
+}
@@ -1,10 +1,16 @@
 package com.example.taskbridge.service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.example.taskbridge.dto.LeaveView;
+import com.example.taskbridge.dto.ScheduleConflict;
 import com.example.taskbridge.entity.Leave;
 import com.example.taskbridge.entity.Leave.LeaveStatus;
 import com.example.taskbridge.entity.User;
@@ -12,24 +18,43 @@ import com.example.taskbridge.exception.ResourceNotFoundException;
 import com.example.taskbridge.repository.LeaveRepository;
 import com.example.taskbridge.repository.UserRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Service
 public class LeaveService {
 
     private final LeaveRepository leaveRepository;
     private final UserRepository userRepository;
     private final EmailService emailService;
+    private final LeaveBalanceService leaveBalanceService;
+    private final ScheduleConflictIndex scheduleConflictIndex;
+    private final MeterRegistry meterRegistry;
 
-    public LeaveService(LeaveRepository leaveRepository, UserRepository userRepository, EmailService emailService) {
+    public LeaveService(LeaveRepository leaveRepository, UserRepository userRepository, EmailService emailService,
+                        LeaveBalanceService leaveBalanceService, ScheduleConflictIndex scheduleConflictIndex,
+                        MeterRegistry meterRegistry) {
         this.leaveRepository = leaveRepository;
         this.userRepository = userRepository;
         this.emailService = emailService;
+        this.leaveBalanceService = leaveBalanceService;
+        this.scheduleConflictIndex = scheduleConflictIndex;
+        this.meterRegistry = meterRegistry;
     }
 
     // Employee/Manager applies for leave
-    public Leave applyForLeave(Long userId, LocalDate startDate, LocalDate endDate, String leaveType, String reason) {
+    @Transactional
+    public LeaveView applyForLeave(Long userId, LocalDate startDate, LocalDate endDate, String leaveType, String reason) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalStateException("End date cannot be before start date");
+        }
+
+        // Reject requests that exceed the cached balance before anything is written
+        leaveBalanceService.ensureSufficientBalance(userId, leaveType,
+                LeaveBalanceService.daysRequested(startDate, endDate));
+
         Leave leave = new Leave();
         leave.setUser(user);
         leave.setStartDate(startDate);
@@ -39,65 +64,103 @@ public class LeaveService {
         leave.setStatus(LeaveStatus.PENDING);
 
         Leave savedLeave = leaveRepository.save(leave);
+        // Free-text types share one tag value so the metric stays bounded
+        meterRegistry.counter("taskbridge.leaves.applied",
+                "type", leaveBalanceService.isTracked(leaveType) ? leaveType : "OTHER").increment();
         
-        // Send notification email to HR
-        emailService.sendLeaveRequestNotificationToHR(user, leaveType, startDate.toString(), endDate.toString(), reason);
-        
-        return savedLeave;
+        // Notify HR from the mail executor once the leave is committed, so a rolled-back
+        // request sends nothing and SMTP never runs while this transaction holds a connection
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                emailService.queueLeaveRequestNotificationToHR(user, leaveType, startDate.toString(),
+                        endDate.toString(), reason);
+            }
+        });
+
+        return LeaveView.of(savedLeave);
     }
 
     // Get leaves for a user
-    public List<Leave> getUserLeaves(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return leaveRepository.findByUser(user);
+    @Transactional(readOnly = true)
+    public List<LeaveView> getUserLeaves(Long userId) {
+        return leaveRepository.findViewsByUserId(userId);
     }
 
     // Get pending leaves for a user
-    public List<Leave> getPendingLeaves(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return leaveRepository.findByUserAndStatus(user, LeaveStatus.PENDING);
+    @Transactional(readOnly = true)
+    public List<LeaveView> getPendingLeaves(Long userId) {
+        return leaveRepository.findViewsByUserIdAndStatus(userId, LeaveStatus.PENDING);
     }
 
     // Get all pending leaves (for HR to review)
-    public List<Leave> getAllPendingLeaves() {
-        return leaveRepository.findAll().stream()
-                .filter(leave -> leave.getStatus() == LeaveStatus.PENDING)
-                .toList();
+    @Transactional(readOnly = true)
+    public List<LeaveView> getAllPendingLeaves() {
+        return leaveRepository.findPendingViews();
     }
 
-    // HR approves a leave
-    public Leave approveLeave(Long leaveId, Long approverUserId, String notes) {
+    // HR approves a leave; the balance debit, the status change and the view are one transaction
+    @Transactional
+    public LeaveView approveLeave(Long leaveId, Long approverUserId, String notes) {
         Leave leave = leaveRepository.findById(leaveId)
                 .orElseThrow(() -> new ResourceNotFoundException("Leave request not found"));
 
         User approver = userRepository.findById(approverUserId)
                 .orElseThrow(() -> new ResourceNotFoundException("Approver not found"));
 
+        boolean newlyApproved = leave.getStatus() != LeaveStatus.APPROVED;
+        if (newlyApproved) {
+            scheduleConflictIndex.lockUsers(List.of(leave.getUser().getId()));
+            List<ScheduleConflict> shifts = scheduleConflictIndex.findWorkingShifts(
+                    leave.getUser().getId(), leave.getStartDate(), leave.getEndDate());
+            if (!shifts.isEmpty()) {
+                throw new IllegalStateException("User is rostered during this leave on "
+                        + shifts.stream().map(s -> s.getShiftDate() + " (" + s.getShiftType() + ")").toList()
+                        + "; update the roster before approving");
+            }
+            leaveBalanceService.consume(leave);
+        }
+
         leave.setStatus(LeaveStatus.APPROVED);
         leave.setApprovedBy(approver);
         leave.setApproverNotes(notes);
+        leave.setUpdatedAt(LocalDateTime.now());
 
-        return leaveRepository.save(leave);
+        Leave saved = leaveRepository.save(leave);
+        if (newlyApproved) {
+            scheduleConflictIndex.leaveApproved(leave.getId(), leave.getUser().getId(), leave.getStartDate(), leave.getEndDate());
+        }
+        return LeaveView.of(saved);
     }
 
     // HR rejects a leave
-    public Leave rejectLeave(Long leaveId, Long approverUserId, String notes) {
+    @Transactional
+    public LeaveView rejectLeave(Long leaveId, Long approverUserId, String notes) {
         Leave leave = leaveRepository.findById(leaveId)
                 .orElseThrow(() -> new ResourceNotFoundException("Leave request not found"));
 
         User approver = userRepository.findById(approverUserId)
                 .orElseThrow(() -> new ResourceNotFoundException("Approver not found"));
 
+        boolean wasApproved = leave.getStatus() == LeaveStatus.APPROVED;
+        if (wasApproved) {
+            leaveBalanceService.reverse(leave);
+        }
+
         leave.setStatus(LeaveStatus.REJECTED);
         leave.setApprovedBy(approver);
         leave.setApproverNotes(notes);
+        leave.setUpdatedAt(LocalDateTime.now());
 
-        return leaveRepository.save(leave);
+        Leave saved = leaveRepository.save(leave);
+        if (wasApproved) {
+            scheduleConflictIndex.leaveRevoked(leave.getId(), leave.getUser().getId(), leave.getStartDate(), leave.getEndDate());
+        }
+        return LeaveView.of(saved);
     }
 
     // Get leaves in a date range
+    @Transactional(readOnly = true)
     public List<Leave> getLeavesInDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -105,7 +168,8 @@ public class LeaveService {
     }
 
     // Get all leaves in date range (for reporting)
-    public List<Leave> getAllLeavesInDateRange(LocalDate startDate, LocalDate endDate) {
-        return leaveRepository.findByStartDateBetween(startDate, endDate);
+    @Transactional(readOnly = true)
+    public List<LeaveView> getAllLeavesInDateRange(LocalDate startDate, LocalDate endDate) {
+        return leaveRepository.findViewsStartingBetween(startDate, endDate);
     }
 }
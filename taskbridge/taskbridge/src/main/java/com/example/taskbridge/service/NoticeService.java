@@ -1,31 +1,56 @@
 package com.example.taskbridge.service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.example.taskbridge.dto.NoticeAnalyticsResponse;
+import com.example.taskbridge.dto.NoticeBroadcastResult;
+import com.example.taskbridge.dto.NoticeView;
 import com.example.taskbridge.entity.Notice;
+import com.example.taskbridge.entity.RoleType;
 import com.example.taskbridge.entity.User;
 import com.example.taskbridge.exception.ResourceNotFoundException;
+import com.example.taskbridge.repository.NoticeAnalyticsRepository;
+import com.example.taskbridge.repository.NoticeBatchRepository;
 import com.example.taskbridge.repository.NoticeRepository;
 import com.example.taskbridge.repository.UserRepository;
 
 @Service
 public class NoticeService {
 
+    // Upper bound on an explicit recipient id list; larger audiences should target a role or everyone
+    static final int MAX_BROADCAST_IDS = 10000;
+
+    static final int MAX_ANALYTICS_PAGE_SIZE = 100;
+    static final int DEFAULT_ANALYTICS_DAYS = 90;
+
     private final NoticeRepository noticeRepository;
+    private final NoticeBatchRepository noticeBatchRepository;
+    private final NoticeAnalyticsRepository noticeAnalyticsRepository;
     private final UserRepository userRepository;
     private final EmailService emailService;
 
-    public NoticeService(NoticeRepository noticeRepository, UserRepository userRepository, EmailService emailService) {
+    public NoticeService(NoticeRepository noticeRepository, NoticeBatchRepository noticeBatchRepository,
+                         NoticeAnalyticsRepository noticeAnalyticsRepository,
+                         UserRepository userRepository, EmailService emailService) {
         this.noticeRepository = noticeRepository;
+        this.noticeBatchRepository = noticeBatchRepository;
+        this.noticeAnalyticsRepository = noticeAnalyticsRepository;
         this.userRepository = userRepository;
         this.emailService = emailService;
     }
 
     // Send a notice from HR to an employee/manager
-    public Notice sendNotice(Long senderId, Long recipientId, String subject, String content, 
+    @Transactional
+    public NoticeView sendNotice(Long senderId, Long recipientId, String subject, String content, 
                             Notice.NoticeType noticeType) {
         User sender = userRepository.findById(senderId)
                 .orElseThrow(() -> new ResourceNotFoundException("Sender not found"));
@@ -42,19 +67,54 @@ public class NoticeService {
         notice.setStatus(Notice.NoticeStatus.SENT);
 
         Notice savedNotice = noticeRepository.save(notice);
-        
-        // Send email notification to recipient (non-blocking)
-        try {
-            emailService.sendNoticeEmail(savedNotice.getId(), savedNotice);
-        } catch (Exception e) {
-            System.err.println("Failed to send notice email, but notice was created: " + e.getMessage());
-            // Don't re-throw - notice is already saved, email failure shouldn't block
+
+        // Email the recipient from the mail executor once the notice is committed
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                emailService.queueNoticeEmail(savedNotice);
+            }
+        });
+
+        return NoticeView.of(savedNotice);
+    }
+
+    // Send one notice to a role, an explicit set of users, or every active user.
+    // Exactly one target must be given; only active users receive it and the sender is excluded.
+    @Transactional
+    public NoticeBroadcastResult broadcastNotice(Long senderId, String subject, String content,
+                                                 Notice.NoticeType noticeType, RoleType role,
+                                                 Collection<Long> recipientIds, boolean allActive) {
+        int targets = (role != null ? 1 : 0) + (recipientIds != null ? 1 : 0) + (allActive ? 1 : 0);
+        if (targets != 1) {
+            throw new IllegalStateException("Specify exactly one of role, recipientIds or allActive");
+        }
+        if (recipientIds != null && (recipientIds.isEmpty() || recipientIds.size() > MAX_BROADCAST_IDS)) {
+            throw new IllegalStateException("recipientIds must contain between 1 and " + MAX_BROADCAST_IDS + " ids");
+        }
+        if (subject == null || subject.isBlank() || content == null || content.isBlank()) {
+            throw new IllegalStateException("Subject and content are required");
+        }
+        if (!userRepository.existsById(senderId)) {
+            throw new ResourceNotFoundException("Sender not found");
         }
 
-        return savedNotice;
+        String broadcastId = UUID.randomUUID().toString();
+        List<NoticeBatchRepository.Recipient> recipients = noticeBatchRepository.insertForAudience(
+                senderId, subject, content, noticeType, broadcastId, role, recipientIds);
+
+        // Mail only once the rows are committed, so a rolled-back broadcast sends nothing
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                emailService.queueBroadcastNoticeEmails(recipients, subject, content, noticeType);
+            }
+        });
+        return new NoticeBroadcastResult(broadcastId, recipients.size());
     }
 
     // Get notices for a user
+    @Transactional(readOnly = true)
     public List<Notice> getUserNotices(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -62,6 +122,7 @@ public class NoticeService {
     }
 
     // Get unread notices for a user
+    @Transactional(readOnly = true)
     public List<Notice> getUnreadNoticesForUser(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -69,31 +130,57 @@ public class NoticeService {
     }
 
     // Get notices sent by HR
-    public List<Notice> getNoticesSentByHR(Long hrUserId) {
-        User hr = userRepository.findById(hrUserId)
-                .orElseThrow(() -> new ResourceNotFoundException("HR user not found"));
-        return noticeRepository.findBySender(hr);
+    @Transactional(readOnly = true)
+    public List<NoticeView> getNoticesSentByHR(Long hrUserId) {
+        return noticeRepository.findViewsBySenderId(hrUserId);
+    }
+
+    // Read/acknowledge statistics for notices the sender sent between the two dates (inclusive).
+    // Defaults to the last DEFAULT_ANALYTICS_DAYS days; the per-type totals cover the whole range.
+    @Transactional(readOnly = true)
+    public NoticeAnalyticsResponse getNoticeAnalytics(Long senderId, LocalDate startDate, LocalDate endDate,
+                                                      int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_ANALYTICS_PAGE_SIZE) {
+            throw new IllegalStateException("page must be >= 0 and size between 1 and " + MAX_ANALYTICS_PAGE_SIZE);
+        }
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusDays(DEFAULT_ANALYTICS_DAYS);
+        if (end.isBefore(start)) {
+            throw new IllegalStateException("End date cannot be before start date");
+        }
+        LocalDateTime from = start.atStartOfDay();
+        LocalDateTime to = end.plusDays(1).atStartOfDay();
+
+        long total = noticeAnalyticsRepository.countNotices(senderId, from, to);
+        List<NoticeAnalyticsResponse.NoticeStats> notices = (long) page * size < total
+                ? noticeAnalyticsRepository.findNoticeStats(senderId, from, to, size, (long) page * size)
+                : List.of();
+        List<NoticeAnalyticsResponse.TypeStats> byType = noticeAnalyticsRepository.findTypeStats(senderId, from, to);
+        int totalPages = (int) ((total + size - 1) / size);
+        return new NoticeAnalyticsResponse(byType, notices, page, size, total, totalPages);
     }
 
     // Mark notice as read
-    public Notice markNoticeAsRead(Long noticeId) {
+    @Transactional
+    public NoticeView markNoticeAsRead(Long noticeId) {
         Notice notice = noticeRepository.findById(noticeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Notice not found"));
 
         notice.setStatus(Notice.NoticeStatus.READ);
         notice.setReadAt(LocalDateTime.now());
 
-        return noticeRepository.save(notice);
+        return NoticeView.of(noticeRepository.save(notice));
     }
 
     // Mark notice as acknowledged
-    public Notice markNoticeAsAcknowledged(Long noticeId) {
+    @Transactional
+    public NoticeView markNoticeAsAcknowledged(Long noticeId) {
         Notice notice = noticeRepository.findById(noticeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Notice not found"));
 
         notice.setStatus(Notice.NoticeStatus.ACKNOWLEDGED);
         notice.setAcknowledgedAt(LocalDateTime.now());
 
-        return noticeRepository.save(notice);
+        return NoticeView.of(noticeRepository.save(notice));
     }
 }
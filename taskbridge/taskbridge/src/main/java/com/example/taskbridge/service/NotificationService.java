@@ -1,17 +1,22 @@
 package com.example.taskbridge.service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.taskbridge.dto.NotificationRequest;
 import com.example.taskbridge.dto.NotificationResponse;
 import com.example.taskbridge.dto.NotificationResponse.UserResponse;
+import com.example.taskbridge.dto.UserRef;
 import com.example.taskbridge.entity.Notification;
+import com.example.taskbridge.entity.RoleType;
 import com.example.taskbridge.entity.Task;
 import com.example.taskbridge.entity.User;
 import com.example.taskbridge.exception.ResourceNotFoundException;
+import com.example.taskbridge.repository.ArchiveRepository;
 import com.example.taskbridge.repository.NotificationRepository;
 import com.example.taskbridge.repository.TaskRepository;
 import com.example.taskbridge.repository.UserRepository;
@@ -22,15 +27,24 @@ public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
+    private final RecipientDirectory recipientDirectory;
+    private final ArchiveRepository archiveRepository;
 
     public NotificationService(NotificationRepository notificationRepository, UserRepository userRepository,
-                               TaskRepository taskRepository) {
+                               TaskRepository taskRepository, RecipientDirectory recipientDirectory,
+                               ArchiveRepository archiveRepository) {
         this.notificationRepository = notificationRepository;
         this.userRepository = userRepository;
         this.taskRepository = taskRepository;
+        this.recipientDirectory = recipientDirectory;
+        this.archiveRepository = archiveRepository;
     }
 
-    private NotificationResponse convertToResponse(Notification notification) {
+    NotificationResponse convertToResponse(Notification notification) {
+        return convertToResponse(notification, UserRef.of(notification.getRecipient()));
+    }
+
+    private NotificationResponse convertToResponse(Notification notification, UserRef recipientRef) {
         UserResponse sender = new UserResponse(
             notification.getSender().getId(),
             notification.getSender().getName(),
@@ -39,10 +53,10 @@ public class NotificationService {
         );
 
         UserResponse recipient = new UserResponse(
-            notification.getRecipient().getId(),
-            notification.getRecipient().getName(),
-            notification.getRecipient().getEmail(),
-            notification.getRecipient().getRole().name()
+            recipientRef.id(),
+            recipientRef.name(),
+            recipientRef.email(),
+            recipientRef.role().name()
         );
 
         return NotificationResponse.builder()
@@ -59,19 +73,25 @@ public class NotificationService {
     }
 
     // Send notification from one user to another with hierarchical message flow validation
+    @Transactional
     public NotificationResponse sendNotification(NotificationRequest request, String senderEmail) {
         User sender = userRepository.findByEmail(senderEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("Sender not found"));
 
-        User recipient = userRepository.findById(request.getRecipientId())
-                .orElseThrow(() -> new ResourceNotFoundException("Recipient not found"));
+        // Active recipients come from the cached directory; anyone else is looked up
+        UserRef recipient = recipientDirectory.findActive(request.getRecipientId());
+        if (recipient == null) {
+            recipient = userRepository.findById(request.getRecipientId())
+                    .map(UserRef::of)
+                    .orElseThrow(() -> new ResourceNotFoundException("Recipient not found"));
+        }
 
         // Validate hierarchical message flow
-        validateMessageFlow(sender, recipient);
+        validateMessageFlow(sender.getRole(), recipient.role());
 
         Notification notification = new Notification();
         notification.setSender(sender);
-        notification.setRecipient(recipient);
+        notification.setRecipient(userRepository.getReferenceById(recipient.id()));
         notification.setTitle(request.getTitle());
         notification.setMessage(request.getMessage());
         notification.setType(request.getType());
@@ -85,48 +105,51 @@ public class NotificationService {
         }
 
         Notification saved = notificationRepository.save(notification);
-        return convertToResponse(saved);
+        return convertToResponse(saved, recipient);
     }
 
     // Validate if sender can send message to recipient based on hierarchical flow
-    private void validateMessageFlow(User sender, User recipient) {
-        com.example.taskbridge.entity.RoleType senderRole = sender.getRole();
-        com.example.taskbridge.entity.RoleType recipientRole = recipient.getRole();
-
+    private void validateMessageFlow(RoleType senderRole, RoleType recipientRole) {
         // Admin can message anyone
-        if (senderRole == com.example.taskbridge.entity.RoleType.ADMIN) {
+        if (senderRole == RoleType.ADMIN) {
             return;
         }
 
         // Manager can message admin or employees
-        if (senderRole == com.example.taskbridge.entity.RoleType.MANAGER) {
-            if (recipientRole == com.example.taskbridge.entity.RoleType.ADMIN ||
-                recipientRole == com.example.taskbridge.entity.RoleType.EMPLOYEE) {
+        if (senderRole == RoleType.MANAGER) {
+            if (recipientRole == RoleType.ADMIN ||
+                recipientRole == RoleType.EMPLOYEE) {
                 return;
             }
             throw new IllegalArgumentException("Managers can only send messages to Admins or Employees");
         }
 
         // Employee can only message their manager
-        if (senderRole == com.example.taskbridge.entity.RoleType.EMPLOYEE) {
-            if (recipientRole == com.example.taskbridge.entity.RoleType.MANAGER) {
+        if (senderRole == RoleType.EMPLOYEE) {
+            if (recipientRole == RoleType.MANAGER) {
                 return;
             }
             throw new IllegalArgumentException("Employees can only send messages to Managers");
         }
     }
 
-    // Get my notifications
-    public List<NotificationResponse> getMyNotifications(String email) {
+    // Get my notifications; archived ones follow the live ones when requested
+    @Transactional(readOnly = true)
+    public List<NotificationResponse> getMyNotifications(String email, boolean includeArchived) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        return notificationRepository.findByRecipient(user).stream()
+        List<NotificationResponse> notifications = notificationRepository.findByRecipient(user).stream()
                 .map(this::convertToResponse)
-                .collect(Collectors.toList());
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (includeArchived) {
+            notifications.addAll(archiveRepository.findNotificationsByRecipient(user.getId()));
+        }
+        return notifications;
     }
 
     // Get unread notifications
+    @Transactional(readOnly = true)
     public List<NotificationResponse> getUnreadNotifications(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -136,7 +159,14 @@ public class NotificationService {
                 .collect(Collectors.toList());
     }
 
+    // Count unread notifications for a user the caller has already resolved
+    @Transactional(readOnly = true)
+    public long countUnreadNotifications(User user) {
+        return notificationRepository.countByRecipientAndIsReadFalse(user);
+    }
+
     // Mark notification as read
+    @Transactional
     public NotificationResponse markAsRead(Long notificationId) {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Notification not found"));
@@ -146,31 +176,12 @@ public class NotificationService {
         return convertToResponse(saved);
     }
 
-    // Get allowed recipients based on sender's role
-    public List<User> getAllowedRecipients(String senderEmail) {
+    // Get allowed recipients based on sender's role; the lists are shared per role
+    @Transactional(readOnly = true)
+    public List<UserRef> getAllowedRecipients(String senderEmail) {
         User sender = userRepository.findByEmail(senderEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("Sender not found"));
 
-        com.example.taskbridge.entity.RoleType senderRole = sender.getRole();
-
-        // Admin can message any active user
-        if (senderRole == com.example.taskbridge.entity.RoleType.ADMIN) {
-            return userRepository.findByActive(true);
-        }
-
-        // Manager can message all employees and admins
-        if (senderRole == com.example.taskbridge.entity.RoleType.MANAGER) {
-            List<User> recipients = new java.util.ArrayList<>();
-            recipients.addAll(userRepository.findByRoleAndActive(com.example.taskbridge.entity.RoleType.ADMIN, true));
-            recipients.addAll(userRepository.findByRoleAndActive(com.example.taskbridge.entity.RoleType.EMPLOYEE, true));
-            return recipients;
-        }
-
-        // Employee can only message managers
-        if (senderRole == com.example.taskbridge.entity.RoleType.EMPLOYEE) {
-            return userRepository.findByRoleAndActive(com.example.taskbridge.entity.RoleType.MANAGER, true);
-        }
-
-        return new java.util.ArrayList<>();
+        return recipientDirectory.recipientsFor(sender.getRole());
     }
 }
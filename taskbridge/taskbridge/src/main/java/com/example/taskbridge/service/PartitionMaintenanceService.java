@@ -0,0 +1,144 @@
+package com.example.taskbridge.service;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.taskbridge.repository.PartitionRepository;
+
+// Keeps monthly partitions of attendance and notifications prepared ahead of the calendar,
+// and detaches old ones. Creating a partition attaches a new table, which needs only a
+// SHARE UPDATE EXCLUSIVE lock on the parent; any rows for that month already in the
+// default partition are moved into it first, under a lock on the default partition alone.
+// Detaching needs a brief ACCESS EXCLUSIVE lock, so it waits at most lock_timeout and
+// retries rather than queueing every other query on the table behind a long-running one.
+// Months older than partitions.retain-months are detached by the daily job; admins can
+// also detach a month by hand (AdminController).
+@Service
+public class PartitionMaintenanceService {
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionMaintenanceService.class);
+
+    private static final String LOCK_TIMEOUT = "2s";
+    private static final int DETACH_ATTEMPTS = 5;
+
+    private final PartitionRepository partitionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int retainMonths;
+
+    public PartitionMaintenanceService(PartitionRepository partitionRepository,
+                                       JdbcTemplate jdbcTemplate,
+                                       TransactionTemplate transactionTemplate,
+                                       @Value("${partitions.months-ahead:3}") int monthsAhead,
+                                       @Value("${partitions.retain-months:0}") int retainMonths) {
+        this.partitionRepository = partitionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retainMonths = retainMonths;
+    }
+
+    // Catch up straight away if the application was down when the job last should have run
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        createUpcomingPartitions();
+    }
+
+    // Daily: prepare upcoming months, then detach the ones past retention
+    @Scheduled(cron = "${partitions.maintenance.cron:0 30 2 * * *}")
+    public void runMaintenance() {
+        createUpcomingPartitions();
+        detachExpiredPartitions();
+    }
+
+    // Make sure this month and the next monthsAhead months have a partition in every table
+    public void createUpcomingPartitions() {
+        YearMonth current = YearMonth.now();
+        for (String table : PartitionRepository.PARTITIONED_TABLES) {
+            for (int i = 0; i <= monthsAhead; i++) {
+                YearMonth month = current.plusMonths(i);
+                try {
+                    if (partitionRepository.ensureMonth(table, month)) {
+                        log.info("Created partition {}", PartitionRepository.partitionName(table, month));
+                    }
+                } catch (RuntimeException e) {
+                    log.error("Could not create partition {}", PartitionRepository.partitionName(table, month), e);
+                }
+            }
+        }
+    }
+
+    // Detach every attached month older than the last retainMonths; 0 keeps them all attached
+    public void detachExpiredPartitions() {
+        if (retainMonths <= 0) {
+            return;
+        }
+        YearMonth oldestKept = YearMonth.now().minusMonths(retainMonths);
+        for (String table : PartitionRepository.PARTITIONED_TABLES) {
+            for (YearMonth month : partitionRepository.findAttachedMonths(table)) {
+                if (!month.isBefore(oldestKept)) {
+                    break;
+                }
+                try {
+                    detachMonth(table, month);
+                } catch (RuntimeException e) {
+                    log.error("Could not detach partition {}", PartitionRepository.partitionName(table, month), e);
+                }
+            }
+        }
+    }
+
+    // Months with an attached partition in the table, oldest first
+    public List<YearMonth> getAttachedMonths(String table) {
+        return partitionRepository.findAttachedMonths(table);
+    }
+
+    // Detach a past month's partition from the table; it remains as a standalone table
+    public void detachMonth(String table, YearMonth month) {
+        if (!month.isBefore(YearMonth.now())) {
+            throw new IllegalStateException("Only partitions of past months can be detached");
+        }
+        if (!partitionRepository.findAttachedMonths(table).contains(month)) {
+            throw new IllegalStateException("No attached partition " + PartitionRepository.partitionName(table, month));
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.execute("set local lock_timeout = '" + LOCK_TIMEOUT + "'");
+                    partitionRepository.detachMonth(table, month);
+                });
+                log.info("Detached partition {}", PartitionRepository.partitionName(table, month));
+                return;
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt == DETACH_ATTEMPTS) {
+                    throw new IllegalStateException("Table " + table + " stayed busy; try detaching again later", e);
+                }
+                log.warn("Detaching {} timed out waiting for a lock (attempt {})",
+                        PartitionRepository.partitionName(table, month), attempt);
+                sleep(attempt * 1000L);
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while detaching a partition", e);
+        }
+    }
+}
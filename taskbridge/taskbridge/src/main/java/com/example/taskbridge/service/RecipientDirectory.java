@@ -0,0 +1,108 @@
+package com.example.taskbridge.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.taskbridge.dto.UserRef;
+import com.example.taskbridge.entity.RoleType;
+import com.example.taskbridge.event.UserChangedEvent;
+import com.example.taskbridge.repository.UserRepository;
+
+// The active users each sender role can pick from when composing a message.
+//
+// Every sender with the same role gets the same recipient list, so the lists are built
+// once per role from a single query and shared as immutable snapshots. A lookup table
+// by id lets the send path check the recipient's role without loading the entity. The
+// snapshot is rebuilt in the background whenever a UserChangedEvent is published.
+@Service
+public class RecipientDirectory {
+
+    // Recipient roles offered to each sender role; ADMIN may message any active user
+    private static final Map<RoleType, Set<RoleType>> ALLOWED = new EnumMap<>(Map.of(
+            RoleType.ADMIN, Set.of(RoleType.values()),
+            RoleType.MANAGER, Set.of(RoleType.ADMIN, RoleType.EMPLOYEE),
+            RoleType.EMPLOYEE, Set.of(RoleType.MANAGER),
+            RoleType.HR, Set.of()));
+
+    private static final Comparator<UserRef> BY_NAME =
+            Comparator.comparing(UserRef::name, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(UserRef::id);
+
+    private final UserRepository userRepository;
+    private final SnapshotRebuilder rebuilder;
+
+    private volatile Snapshot snapshot;
+
+    public RecipientDirectory(UserRepository userRepository,
+                              @Qualifier("queryExecutor") Executor queryExecutor) {
+        this.userRepository = userRepository;
+        this.rebuilder = new SnapshotRebuilder("Recipient directory", this::rebuild, queryExecutor);
+    }
+
+    // Active users a sender with this role may message, in name order
+    public List<UserRef> recipientsFor(RoleType senderRole) {
+        return current().recipients().getOrDefault(senderRole, List.of());
+    }
+
+    // The active user with this id, or null if unknown here (inactive, or created since the last rebuild)
+    public UserRef findActive(Long userId) {
+        return current().byId().get(userId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuilder.rebuildNow();
+    }
+
+    // Coalesces bursts of changes into one background rebuild
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        rebuilder.requestRebuild();
+    }
+
+    // Requests that arrive before the ready event build the snapshot themselves
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            rebuilder.rebuildNow();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private void rebuild() {
+        List<UserRef> users = userRepository.findActiveRefsByRoleIn(Arrays.asList(RoleType.values()));
+        Map<Long, UserRef> byId = new HashMap<>(users.size() * 2);
+        for (UserRef user : users) {
+            byId.put(user.id(), user);
+        }
+        Map<RoleType, List<UserRef>> recipients = new EnumMap<>(RoleType.class);
+        for (Map.Entry<RoleType, Set<RoleType>> entry : ALLOWED.entrySet()) {
+            List<UserRef> allowed = new ArrayList<>();
+            for (UserRef user : users) {
+                if (entry.getValue().contains(user.role())) {
+                    allowed.add(user);
+                }
+            }
+            allowed.sort(BY_NAME);
+            recipients.put(entry.getKey(), List.copyOf(allowed));
+        }
+        snapshot = new Snapshot(Map.copyOf(byId), recipients);
+    }
+
+    private record Snapshot(Map<Long, UserRef> byId, Map<RoleType, List<UserRef>> recipients) {
+    }
+}
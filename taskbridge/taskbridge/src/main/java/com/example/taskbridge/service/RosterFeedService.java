@@ -0,0 +1,230 @@
+package com.example.taskbridge.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import com.example.taskbridge.entity.Leave.LeaveStatus;
+import com.example.taskbridge.repository.LeaveRepository;
+import com.example.taskbridge.repository.RosterFeedTokenRepository;
+import com.example.taskbridge.repository.RosterRepository;
+import com.example.taskbridge.repository.projection.FeedVersion;
+import com.example.taskbridge.repository.projection.LeaveFeedRow;
+import com.example.taskbridge.repository.projection.RosterFeedRow;
+
+// Per-user iCalendar (RFC 5545) feed of roster shifts and approved leave.
+//
+// Calendar clients poll the feed, so the ETag is computed from one aggregate query per
+// table (latest updatedAt plus row count, so deletes also change it) and the body is only
+// rendered when the client's copy is stale. Rendering streams rows from the database
+// straight into the response writer without building entities or an intermediate list.
+//
+// Calendar clients cannot refresh a JWT, so subscriptions use a per-user feed token in the URL
+// instead. Tokens are random, stored only as a hash, and revoked by deleting or reissuing them.
+@Service
+public class RosterFeedService {
+
+    // Feed window relative to today
+    static final int PAST_DAYS = 30;
+    static final int FUTURE_DAYS = 180;
+
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter UTC_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final int TOKEN_BYTES = 32;
+
+    private final RosterRepository rosterRepository;
+    private final LeaveRepository leaveRepository;
+    private final RosterFeedTokenRepository rosterFeedTokenRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RosterFeedService(RosterRepository rosterRepository, LeaveRepository leaveRepository,
+                             RosterFeedTokenRepository rosterFeedTokenRepository) {
+        this.rosterRepository = rosterRepository;
+        this.leaveRepository = leaveRepository;
+        this.rosterFeedTokenRepository = rosterFeedTokenRepository;
+    }
+
+    // Issue a new feed token for the user; the previous one, if any, stops working
+    @Transactional
+    public String issueToken(Long userId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        rosterFeedTokenRepository.save(userId, hash(token));
+        return token;
+    }
+
+    // True when the user had a token to revoke
+    @Transactional
+    public boolean revokeToken(Long userId) {
+        return rosterFeedTokenRepository.delete(userId);
+    }
+
+    // The active user the token was issued to
+    @Transactional(readOnly = true)
+    public Optional<Long> findUserIdByToken(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        return rosterFeedTokenRepository.findUserIdByHash(hash(token));
+    }
+
+    // Strong ETag for the user's current feed; changes whenever a shift or approved leave in the window changes
+    @Transactional(readOnly = true)
+    public String getETag(Long userId) {
+        LocalDate today = LocalDate.now();
+        LocalDate startDate = today.minusDays(PAST_DAYS);
+        LocalDate endDate = today.plusDays(FUTURE_DAYS);
+        FeedVersion roster = rosterRepository.findFeedVersion(userId, startDate, endDate);
+        FeedVersion leaves = leaveRepository.findFeedVersion(userId, LeaveStatus.APPROVED, startDate, endDate);
+        // The window start is part of the version: the feed content shifts by a day at midnight
+        String version = userId + "|" + startDate
+                + "|" + roster.getLastUpdated() + "|" + roster.getEntries()
+                + "|" + leaves.getLastUpdated() + "|" + leaves.getEntries();
+        return "\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // Write the feed for the user; rows are streamed, so this must run inside the read-only transaction
+    @Transactional(readOnly = true)
+    public void writeFeed(Long userId, Writer writer) throws IOException {
+        LocalDate today = LocalDate.now();
+        LocalDate startDate = today.minusDays(PAST_DAYS);
+        LocalDate endDate = today.plusDays(FUTURE_DAYS);
+
+        writeLine(writer, "BEGIN:VCALENDAR");
+        writeLine(writer, "VERSION:2.0");
+        writeLine(writer, "PRODID:-//TaskBridge//Roster Feed//EN");
+        writeLine(writer, "CALSCALE:GREGORIAN");
+        writeLine(writer, "METHOD:PUBLISH");
+        writeLine(writer, "X-WR-CALNAME:TaskBridge roster");
+        writeLine(writer, "REFRESH-INTERVAL;VALUE=DURATION:PT15M");
+        writeLine(writer, "X-PUBLISHED-TTL:PT15M");
+
+        try (Stream<RosterFeedRow> shifts = rosterRepository.streamFeedRows(userId, startDate, endDate)) {
+            shifts.forEach(shift -> writeShift(writer, shift));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        try (Stream<LeaveFeedRow> leaves = leaveRepository.streamFeedRows(userId, LeaveStatus.APPROVED,
+                startDate, endDate)) {
+            leaves.forEach(leave -> writeLeave(writer, leave));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writeLine(writer, "END:VCALENDAR");
+        writer.flush();
+    }
+
+    // Shifts are all-day events; OFF days are not events
+    private void writeShift(Writer writer, RosterFeedRow shift) {
+        if ("OFF".equals(shift.getShiftType())) {
+            return;
+        }
+        try {
+            writeLine(writer, "BEGIN:VEVENT");
+            writeLine(writer, "UID:roster-" + shift.getId() + "@taskbridge");
+            writeLine(writer, "DTSTAMP:" + utc(shift.getUpdatedAt()));
+            writeLine(writer, "DTSTART;VALUE=DATE:" + shift.getShiftDate().format(DATE));
+            writeLine(writer, "DTEND;VALUE=DATE:" + shift.getShiftDate().plusDays(1).format(DATE));
+            writeLine(writer, "SUMMARY:" + escape(capitalize(shift.getShiftType()) + " shift"));
+            if (shift.getLocation() != null && !shift.getLocation().isBlank()) {
+                writeLine(writer, "LOCATION:" + escape(shift.getLocation()));
+            }
+            if (shift.getNotes() != null && !shift.getNotes().isBlank()) {
+                writeLine(writer, "DESCRIPTION:" + escape(shift.getNotes()));
+            }
+            writeLine(writer, "TRANSP:OPAQUE");
+            writeLine(writer, "END:VEVENT");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeLeave(Writer writer, LeaveFeedRow leave) {
+        try {
+            writeLine(writer, "BEGIN:VEVENT");
+            writeLine(writer, "UID:leave-" + leave.getId() + "@taskbridge");
+            writeLine(writer, "DTSTAMP:" + utc(leave.getUpdatedAt()));
+            writeLine(writer, "DTSTART;VALUE=DATE:" + leave.getStartDate().format(DATE));
+            // DTEND is exclusive for all-day events
+            writeLine(writer, "DTEND;VALUE=DATE:" + leave.getEndDate().plusDays(1).format(DATE));
+            writeLine(writer, "SUMMARY:" + escape(capitalize(leave.getLeaveType()) + " leave"));
+            writeLine(writer, "TRANSP:OPAQUE");
+            writeLine(writer, "END:VEVENT");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String utc(LocalDateTime timestamp) {
+        LocalDateTime value = timestamp != null ? timestamp : LocalDateTime.now();
+        return value.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).format(UTC_TIMESTAMP);
+    }
+
+    private static String capitalize(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        return value.substring(0, 1).toUpperCase() + value.substring(1).toLowerCase();
+    }
+
+    // TEXT escaping from RFC 5545 section 3.3.11
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n")
+                .replace("\r", "\\n");
+    }
+
+    // Content lines longer than 75 octets are folded with CRLF followed by a space
+    private static void writeLine(Writer writer, String line) throws IOException {
+        int octets = 0;
+        int start = 0;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int width = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (octets + width > MAX_LINE_OCTETS) {
+                writer.write(line, start, i - start);
+                writer.write(CRLF);
+                writer.write(' ');
+                start = i;
+                octets = 1;
+            }
+            octets += width;
+            i += Character.charCount(codePoint);
+        }
+        writer.write(line, start, line.length() - start);
+        writer.write(CRLF);
+    }
+}
@@ -1,10 +1,14 @@
 package com.example.taskbridge.service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.taskbridge.dto.RosterView;
 import com.example.taskbridge.entity.Roster;
 import com.example.taskbridge.entity.User;
 import com.example.taskbridge.exception.ResourceNotFoundException;
@@ -14,16 +18,22 @@ import com.example.taskbridge.repository.UserRepository;
 @Service
 public class RosterService {
 
+    public static final Set<String> SHIFT_TYPES = Set.of("MORNING", "AFTERNOON", "NIGHT", "OFF");
+
     private final RosterRepository rosterRepository;
     private final UserRepository userRepository;
+    private final ScheduleConflictIndex scheduleConflictIndex;
 
-    public RosterService(RosterRepository rosterRepository, UserRepository userRepository) {
+    public RosterService(RosterRepository rosterRepository, UserRepository userRepository,
+                         ScheduleConflictIndex scheduleConflictIndex) {
         this.rosterRepository = rosterRepository;
         this.userRepository = userRepository;
+        this.scheduleConflictIndex = scheduleConflictIndex;
     }
 
     // Create/update roster for a user on a specific date
-    public Roster createOrUpdateRosterEntry(Long userId, LocalDate shiftDate, String shiftType, 
+    @Transactional
+    public RosterView createOrUpdateRosterEntry(Long userId, LocalDate shiftDate, String shiftType, 
                                            String location, String notes, Long createdByUserId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -31,6 +41,11 @@ public class RosterService {
         User createdBy = userRepository.findById(createdByUserId)
                 .orElseThrow(() -> new ResourceNotFoundException("Creator user not found"));
 
+        scheduleConflictIndex.lockUsers(List.of(userId));
+        if (!"OFF".equals(shiftType) && scheduleConflictIndex.isOnLeave(userId, shiftDate)) {
+            throw new IllegalStateException("User has approved leave on " + shiftDate);
+        }
+
         // Check if roster entry already exists for this date
         List<Roster> existing = rosterRepository.findByUserAndShiftDate(user, shiftDate);
         Roster roster;
@@ -47,38 +62,43 @@ public class RosterService {
         roster.setShiftType(shiftType);
         roster.setLocation(location);
         roster.setNotes(notes);
+        roster.setUpdatedAt(LocalDateTime.now());
 
-        return rosterRepository.save(roster);
+        Roster saved = rosterRepository.save(roster);
+        scheduleConflictIndex.shiftWritten(userId, shiftDate, shiftType);
+        return RosterView.of(saved);
     }
 
     // Get roster entries for a user
-    public List<Roster> getUserRoster(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return rosterRepository.findByUser(user);
+    @Transactional(readOnly = true)
+    public List<RosterView> getUserRoster(Long userId) {
+        return rosterRepository.findViewsByUserId(userId);
     }
 
     // Get roster entries for a user in a date range
-    public List<Roster> getUserRosterInDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return rosterRepository.findByUserAndShiftDateBetween(user, startDate, endDate);
+    @Transactional(readOnly = true)
+    public List<RosterView> getUserRosterInDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
+        return rosterRepository.findViewsByUserIdBetween(userId, startDate, endDate);
     }
 
     // Get all roster entries for a specific date
-    public List<Roster> getRosterForDate(LocalDate shiftDate) {
-        return rosterRepository.findByShiftDate(shiftDate);
+    @Transactional(readOnly = true)
+    public List<RosterView> getRosterForDate(LocalDate shiftDate) {
+        return rosterRepository.findViewsBetween(shiftDate, shiftDate);
     }
 
     // Get all roster entries for a date range
-    public List<Roster> getAllRosterInDateRange(LocalDate startDate, LocalDate endDate) {
-        return rosterRepository.findByShiftDateBetween(startDate, endDate);
+    @Transactional(readOnly = true)
+    public List<RosterView> getAllRosterInDateRange(LocalDate startDate, LocalDate endDate) {
+        return rosterRepository.findViewsBetween(startDate, endDate);
     }
 
     // Delete roster entry
+    @Transactional
     public void deleteRosterEntry(Long rosterId) {
         Roster roster = rosterRepository.findById(rosterId)
                 .orElseThrow(() -> new ResourceNotFoundException("Roster entry not found"));
         rosterRepository.delete(roster);
+        scheduleConflictIndex.shiftRemoved(roster.getUser().getId(), roster.getShiftDate());
     }
 }
@@ -0,0 +1,241 @@
+package com.example.taskbridge.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+// Shift-coverage solver for a single location. Pure computation with no database access,
+// so AutoRosterService can run one instance per location in parallel.
+//
+// Hard rules: staff on approved leave are never rostered, a NIGHT shift is never followed
+// by a MORNING shift, and nobody works more than maxConsecutiveDays in a row.
+// Soft goals: meet the per-shift coverage requirement every day, then spread total shifts
+// and night shifts as evenly as possible across the staff.
+//
+// A greedy pass (hardest shift first, least-loaded person first) builds a feasible roster,
+// then a seeded local search applies swaps that keep coverage intact while improving fairness.
+public class RosterSolver {
+
+    public static final int LEAVE = -1;
+    public static final int OFF = 0;
+    public static final int MORNING = 1;
+    public static final int AFTERNOON = 2;
+    public static final int NIGHT = 3;
+
+    public static final String[] SHIFT_NAMES = { "OFF", "MORNING", "AFTERNOON", "NIGHT" };
+
+    // Night shifts are the scarcest, so they are weighted above total-shift balance
+    private static final int NIGHT_WEIGHT = 2;
+
+    // Fill order for the greedy pass
+    private static final int[] FILL_ORDER = { NIGHT, MORNING, AFTERNOON };
+
+    // Input for one location. required is indexed by shift code (MORNING, AFTERNOON, NIGHT);
+    // onLeave[i][d] marks approved leave; nightBefore[i] is true when staff i worked NIGHT the
+    // day before the period starts.
+    public record Problem(String location, List<Long> staffIds, int days, int[] required,
+                          boolean[][] onLeave, boolean[] nightBefore, int maxConsecutiveDays,
+                          long seed, int iterations) {
+    }
+
+    // shifts[i][d] holds a shift code, or LEAVE when staff i is on approved leave that day
+    public record Solution(String location, List<Long> staffIds, int[][] shifts, int shortfall,
+                           int minShifts, int maxShifts, int minNights, int maxNights) {
+    }
+
+    public Solution solve(Problem problem) {
+        return new Run(problem).solve();
+    }
+
+    // Mutable state for one solve; not shared between threads
+    private static final class Run {
+
+        private final Problem problem;
+        private final int staff;
+        private final int days;
+        private final int[][] shifts;
+        private final int[] work;
+        private final int[] nights;
+        private final int[][] cover;
+        private final Random random;
+
+        Run(Problem problem) {
+            this.problem = problem;
+            this.staff = problem.staffIds().size();
+            this.days = problem.days();
+            this.shifts = new int[staff][days];
+            this.work = new int[staff];
+            this.nights = new int[staff];
+            this.cover = new int[days][4];
+            this.random = new Random(problem.seed());
+
+            for (int i = 0; i < staff; i++) {
+                for (int d = 0; d < days; d++) {
+                    shifts[i][d] = problem.onLeave()[i][d] ? LEAVE : OFF;
+                }
+            }
+        }
+
+        Solution solve() {
+            for (int d = 0; d < days; d++) {
+                fillDay(d);
+            }
+            if (staff > 1) {
+                improve();
+            }
+            // Swaps can open up room on days that were short after the greedy pass
+            for (int d = 0; d < days; d++) {
+                fillDay(d);
+            }
+            return summarize();
+        }
+
+        // Assign the outstanding requirement for each shift on day d to the least-loaded eligible staff
+        private void fillDay(int d) {
+            for (int shift : FILL_ORDER) {
+                int needed = problem.required()[shift] - cover[d][shift];
+                if (needed <= 0) {
+                    continue;
+                }
+                List<Integer> candidates = new ArrayList<>();
+                for (int i = 0; i < staff; i++) {
+                    if (shifts[i][d] == OFF && canWork(i, d, shift)) {
+                        candidates.add(i);
+                    }
+                }
+                // Rotate the tie-break by day so equal-load staff do not always go in id order
+                Comparator<Integer> byLoad = shift == NIGHT
+                        ? Comparator.<Integer>comparingInt(i -> nights[i]).thenComparingInt(i -> work[i])
+                        : Comparator.<Integer>comparingInt(i -> work[i]).thenComparingInt(i -> nights[i]);
+                candidates.sort(byLoad.thenComparingInt(i -> Math.floorMod(i - d, staff)));
+                for (int k = 0; k < needed && k < candidates.size(); k++) {
+                    assign(candidates.get(k), d, shift);
+                }
+            }
+        }
+
+        // Local search: each move keeps daily coverage unchanged and is kept only if it improves fairness
+        private void improve() {
+            for (int iteration = 0; iteration < problem.iterations(); iteration++) {
+                int d = random.nextInt(days);
+                int i = random.nextInt(staff);
+                int j = random.nextInt(staff);
+                if (i == j) {
+                    continue;
+                }
+                int si = shifts[i][d];
+                int sj = shifts[j][d];
+                if (si > OFF && sj == OFF) {
+                    tryHandOver(i, j, d, si);
+                } else if (si > OFF && sj > OFF && si != sj) {
+                    tryExchange(i, j, d, si, sj);
+                }
+            }
+        }
+
+        // Move i's shift on day d to j, who is off that day
+        private void tryHandOver(int i, int j, int d, int shift) {
+            if (!canWork(j, d, shift)) {
+                return;
+            }
+            // Change in sum of squares: (w_i - 1)^2 + (w_j + 1)^2 - w_i^2 - w_j^2
+            int delta = 2 * (work[j] - work[i] + 1);
+            if (shift == NIGHT) {
+                delta += NIGHT_WEIGHT * 2 * (nights[j] - nights[i] + 1);
+            }
+            if (delta < 0) {
+                unassign(i, d);
+                assign(j, d, shift);
+            }
+        }
+
+        // Swap the shift types of two people who both work on day d
+        private void tryExchange(int i, int j, int d, int si, int sj) {
+            if (si != NIGHT && sj != NIGHT) {
+                return; // Only night counts are tracked, so other exchanges cannot improve anything
+            }
+            int nightHolder = si == NIGHT ? i : j;
+            int other = si == NIGHT ? j : i;
+            int delta = NIGHT_WEIGHT * 2 * (nights[other] - nights[nightHolder] + 1);
+            if (delta >= 0) {
+                return;
+            }
+            unassign(i, d);
+            unassign(j, d);
+            if (canWork(i, d, sj) && canWork(j, d, si)) {
+                assign(i, d, sj);
+                assign(j, d, si);
+            } else {
+                assign(i, d, si);
+                assign(j, d, sj);
+            }
+        }
+
+        // Hard rules for giving staff i the given working shift on day d (their slot must be OFF)
+        private boolean canWork(int i, int d, int shift) {
+            if (shifts[i][d] == LEAVE) {
+                return false;
+            }
+            int previous = d == 0 ? (problem.nightBefore()[i] ? NIGHT : OFF) : shifts[i][d - 1];
+            if (shift == MORNING && previous == NIGHT) {
+                return false;
+            }
+            if (shift == NIGHT && d + 1 < days && shifts[i][d + 1] == MORNING) {
+                return false;
+            }
+            int run = 1;
+            for (int k = d - 1; k >= 0 && shifts[i][k] > OFF && run <= problem.maxConsecutiveDays(); k--) {
+                run++;
+            }
+            for (int k = d + 1; k < days && shifts[i][k] > OFF && run <= problem.maxConsecutiveDays(); k++) {
+                run++;
+            }
+            return run <= problem.maxConsecutiveDays();
+        }
+
+        private void assign(int i, int d, int shift) {
+            shifts[i][d] = shift;
+            cover[d][shift]++;
+            work[i]++;
+            if (shift == NIGHT) {
+                nights[i]++;
+            }
+        }
+
+        private void unassign(int i, int d) {
+            int shift = shifts[i][d];
+            shifts[i][d] = OFF;
+            cover[d][shift]--;
+            work[i]--;
+            if (shift == NIGHT) {
+                nights[i]--;
+            }
+        }
+
+        private Solution summarize() {
+            int shortfall = 0;
+            for (int d = 0; d < days; d++) {
+                for (int shift : FILL_ORDER) {
+                    shortfall += Math.max(0, problem.required()[shift] - cover[d][shift]);
+                }
+            }
+            int minShifts = Integer.MAX_VALUE;
+            int maxShifts = 0;
+            int minNights = Integer.MAX_VALUE;
+            int maxNights = 0;
+            for (int i = 0; i < staff; i++) {
+                minShifts = Math.min(minShifts, work[i]);
+                maxShifts = Math.max(maxShifts, work[i]);
+                minNights = Math.min(minNights, nights[i]);
+                maxNights = Math.max(maxNights, nights[i]);
+            }
+            if (staff == 0) {
+                minShifts = 0;
+                minNights = 0;
+            }
+            return new Solution(problem.location(), problem.staffIds(), shifts, shortfall,
+                    minShifts, maxShifts, minNights, maxNights);
+        }
+    }
+}
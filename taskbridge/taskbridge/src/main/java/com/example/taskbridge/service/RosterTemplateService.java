@@ -0,0 +1,181 @@
+package com.example.taskbridge.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.taskbridge.dto.RosterTemplateApplyResult;
+import com.example.taskbridge.dto.RosterTemplateApplyResult.Conflict;
+import com.example.taskbridge.dto.RosterTemplateView;
+import com.example.taskbridge.entity.RoleType;
+import com.example.taskbridge.entity.RosterTemplate;
+import com.example.taskbridge.entity.User;
+import com.example.taskbridge.exception.ResourceNotFoundException;
+import com.example.taskbridge.repository.RosterBatchRepository;
+import com.example.taskbridge.repository.RosterRepository;
+import com.example.taskbridge.repository.RosterTemplateRepository;
+import com.example.taskbridge.repository.UserRepository;
+import com.example.taskbridge.repository.projection.RosterCell;
+
+@Service
+public class RosterTemplateService {
+
+    // Longest range a single template application may cover
+    static final int MAX_DAYS = 92;
+
+    private final RosterTemplateRepository rosterTemplateRepository;
+    private final RosterRepository rosterRepository;
+    private final RosterBatchRepository rosterBatchRepository;
+    private final UserRepository userRepository;
+    private final ScheduleConflictIndex scheduleConflictIndex;
+
+    public RosterTemplateService(RosterTemplateRepository rosterTemplateRepository, RosterRepository rosterRepository,
+                                 RosterBatchRepository rosterBatchRepository, UserRepository userRepository,
+                                 ScheduleConflictIndex scheduleConflictIndex) {
+        this.rosterTemplateRepository = rosterTemplateRepository;
+        this.rosterRepository = rosterRepository;
+        this.rosterBatchRepository = rosterBatchRepository;
+        this.userRepository = userRepository;
+        this.scheduleConflictIndex = scheduleConflictIndex;
+    }
+
+    // Create a weekly template; the pattern lists one shift type per day, Monday to Sunday
+    @Transactional
+    public RosterTemplateView createTemplate(String name, List<String> weeklyPattern, String location, String notes,
+                                             Long createdByUserId) {
+        User createdBy = userRepository.findById(createdByUserId)
+                .orElseThrow(() -> new ResourceNotFoundException("Creator user not found"));
+
+        if (weeklyPattern == null || weeklyPattern.size() != 7) {
+            throw new IllegalStateException("Weekly pattern must contain exactly 7 shifts (Monday to Sunday)");
+        }
+        for (String shift : weeklyPattern) {
+            if (!RosterService.SHIFT_TYPES.contains(shift)) {
+                throw new IllegalStateException("Unknown shift type: " + shift);
+            }
+        }
+
+        RosterTemplate template = new RosterTemplate();
+        template.setName(name);
+        template.setWeeklyPattern(String.join(",", weeklyPattern));
+        template.setLocation(location);
+        template.setNotes(notes);
+        template.setCreatedBy(createdBy);
+        return RosterTemplateView.of(rosterTemplateRepository.save(template));
+    }
+
+    // Get all templates
+    @Transactional(readOnly = true)
+    public List<RosterTemplateView> getAllTemplates() {
+        return rosterTemplateRepository.findAll().stream().map(RosterTemplateView::of).toList();
+    }
+
+    // Delete a template (entries already generated from it are kept)
+    @Transactional
+    public void deleteTemplate(Long templateId) {
+        RosterTemplate template = rosterTemplateRepository.findById(templateId)
+                .orElseThrow(() -> new ResourceNotFoundException("Roster template not found"));
+        rosterTemplateRepository.delete(template);
+    }
+
+    // Apply a template to a set of users and/or every active user with a role over a date range.
+    // Existing entries with a different shift are reported as conflicts and only replaced when
+    // overwrite is set; working shifts on approved leave days are always skipped and reported.
+    // All writes go out as one batched upsert in a single transaction.
+    @Transactional
+    public RosterTemplateApplyResult applyTemplate(Long templateId, List<Long> userIds, RoleType role,
+                                                   LocalDate startDate, LocalDate endDate, boolean overwrite,
+                                                   Long createdByUserId) {
+        RosterTemplate template = rosterTemplateRepository.findById(templateId)
+                .orElseThrow(() -> new ResourceNotFoundException("Roster template not found"));
+
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalStateException("End date cannot be before start date");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > MAX_DAYS) {
+            throw new IllegalStateException("Template range cannot exceed " + MAX_DAYS + " days");
+        }
+
+        Set<Long> targets = resolveUsers(userIds, role);
+        String[] pattern = template.getWeeklyPattern().split(",");
+
+        scheduleConflictIndex.lockUsers(targets);
+        Map<Long, Set<LocalDate>> leaveDays = scheduleConflictIndex.findLeaveDays(targets, startDate, endDate);
+
+        Map<CellKey, String> existing = new HashMap<>();
+        for (RosterCell cell : rosterRepository.findCellsForUsersBetween(targets, startDate, endDate)) {
+            existing.put(new CellKey(cell.getUserId(), cell.getShiftDate()), cell.getShiftType());
+        }
+
+        List<RosterBatchRepository.Entry> entries = new ArrayList<>();
+        List<Conflict> conflicts = new ArrayList<>();
+        int created = 0;
+        int updated = 0;
+        int skipped = 0;
+
+        for (Long userId : targets) {
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                String shift = pattern[date.getDayOfWeek().getValue() - 1];
+                String current = existing.get(new CellKey(userId, date));
+
+                if (!"OFF".equals(shift) && leaveDays.getOrDefault(userId, Set.of()).contains(date)) {
+                    conflicts.add(new Conflict(userId, date, RosterTemplateApplyResult.LEAVE, shift, false));
+                    skipped++;
+                    continue;
+                }
+                if (current == null) {
+                    created++;
+                } else if (current.equals(shift)) {
+                    skipped++;
+                    continue;
+                } else {
+                    conflicts.add(new Conflict(userId, date, current, shift, overwrite));
+                    if (!overwrite) {
+                        skipped++;
+                        continue;
+                    }
+                    updated++;
+                }
+                entries.add(new RosterBatchRepository.Entry(userId, date, shift, template.getLocation(),
+                        template.getNotes()));
+            }
+        }
+
+        rosterBatchRepository.upsert(entries, createdByUserId, overwrite);
+        scheduleConflictIndex.shiftsWritten(entries);
+
+        return new RosterTemplateApplyResult(created, updated, skipped, conflicts);
+    }
+
+    private Set<Long> resolveUsers(List<Long> userIds, RoleType role) {
+        Set<Long> targets = new LinkedHashSet<>();
+        if (userIds != null && !userIds.isEmpty()) {
+            Set<Long> requested = new LinkedHashSet<>(userIds);
+            List<Long> found = userRepository.findExistingIds(requested);
+            if (found.size() != requested.size()) {
+                requested.removeAll(found);
+                throw new ResourceNotFoundException("Users not found: " + Arrays.toString(requested.toArray()));
+            }
+            targets.addAll(requested);
+        }
+        if (role != null) {
+            targets.addAll(userRepository.findActiveIdsByRole(role));
+        }
+        if (targets.isEmpty()) {
+            throw new IllegalStateException("No users selected for the roster template");
+        }
+        return targets;
+    }
+
+    private record CellKey(Long userId, LocalDate date) {
+    }
+}
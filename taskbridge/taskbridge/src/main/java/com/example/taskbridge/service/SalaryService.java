@@ -6,7 +6,9 @@ import java.time.YearMonth;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.taskbridge.dto.SalaryView;
 import com.example.taskbridge.entity.Salary;
 import com.example.taskbridge.entity.User;
 import com.example.taskbridge.exception.ResourceNotFoundException;
@@ -32,7 +34,8 @@ public class SalaryService {
     }
 
     // Calculate and create salary record for a user for a given month
-    public Salary calculateAndCreateSalary(Long userId, Integer year, Integer month, BigDecimal baseSalary) {
+    @Transactional
+    public SalaryView calculateAndCreateSalary(Long userId, Integer year, Integer month, BigDecimal baseSalary) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
@@ -65,9 +68,16 @@ public class SalaryService {
                 .filter(l -> l.getStatus().toString().equals("APPROVED"))
                 .count();
 
-        int absentDays = (int) (totalDays - presentDays - leaveDays);
+        applyPay(salary, baseSalary, (int) totalDays, presentDays, leaveDays);
 
-        salary.setTotalWorkingDays((int) totalDays);
+        return SalaryView.of(salaryRepository.save(salary));
+    }
+
+    // Fill in day counts and pay amounts from the base salary and the month's attendance
+    static void applyPay(Salary salary, BigDecimal baseSalary, int totalDays, int presentDays, int leaveDays) {
+        int absentDays = totalDays - presentDays - leaveDays;
+
+        salary.setTotalWorkingDays(totalDays);
         salary.setPresentDays(presentDays);
         salary.setAbsentDays(Math.max(absentDays, 0));
         salary.setLeaveDays(leaveDays);
@@ -87,26 +97,23 @@ public class SalaryService {
         // Net salary = earned salary (leave days are paid)
         BigDecimal netSalary = earnedSalary.add(salaryPerDay.multiply(BigDecimal.valueOf(leaveDays)));
         salary.setNetSalary(netSalary);
-
-        return salaryRepository.save(salary);
     }
 
     // Get salary records for a user
-    public List<Salary> getUserSalaryRecords(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return salaryRepository.findByUser(user);
+    @Transactional(readOnly = true)
+    public List<SalaryView> getUserSalaryRecords(Long userId) {
+        return salaryRepository.findViewsByUserId(userId);
     }
 
     // Get salary for a specific month
-    public Salary getSalaryForMonth(Long userId, Integer year, Integer month) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return salaryRepository.findByUserAndYearAndMonth(user, year, month)
+    @Transactional(readOnly = true)
+    public SalaryView getSalaryForMonth(Long userId, Integer year, Integer month) {
+        return salaryRepository.findViewByUserIdAndMonth(userId, year, month)
                 .orElseThrow(() -> new ResourceNotFoundException("Salary record not found"));
     }
 
     // Get all salary records for a year
+    @Transactional(readOnly = true)
     public List<Salary> getUserSalaryRecordsForYear(Long userId, Integer year) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -114,18 +121,20 @@ public class SalaryService {
     }
 
     // Get all salaries for a specific month (for HR reporting)
-    public List<Salary> getAllSalariesForMonth(Integer year, Integer month) {
-        return salaryRepository.findByYearAndMonth(year, month);
+    @Transactional(readOnly = true)
+    public List<SalaryView> getAllSalariesForMonth(Integer year, Integer month) {
+        return salaryRepository.findViewsByMonth(year, month);
     }
 
     // Update salary record (HR can adjust if needed)
-    public Salary updateSalary(Long salaryId, BigDecimal adjustedNetSalary, String notes) {
+    @Transactional
+    public SalaryView updateSalary(Long salaryId, BigDecimal adjustedNetSalary, String notes) {
         Salary salary = salaryRepository.findById(salaryId)
                 .orElseThrow(() -> new ResourceNotFoundException("Salary record not found"));
 
         salary.setNetSalary(adjustedNetSalary);
         salary.setNotes(notes);
 
-        return salaryRepository.save(salary);
+        return SalaryView.of(salaryRepository.save(salary));
     }
 }
@@ -0,0 +1,322 @@
+package com.example.taskbridge.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.taskbridge.dto.ScheduleConflict;
+import com.example.taskbridge.entity.Leave.LeaveStatus;
+import com.example.taskbridge.repository.LeaveRepository;
+import com.example.taskbridge.repository.RosterBatchRepository;
+import com.example.taskbridge.repository.RosterRepository;
+import com.example.taskbridge.repository.UserRepository;
+import com.example.taskbridge.repository.projection.LeaveSpan;
+import com.example.taskbridge.repository.projection.RosterCell;
+
+// Roster/leave conflict checks, plus an in-memory per-user index of approved leave days and
+// rostered shifts behind the bulk conflict report.
+//
+// Writes that could create a clash (leave approval, roster entries, template application, auto
+// roster commits) first call lockUsers, which row-locks the users in app_user until the
+// transaction ends, and then check the database. Two such writes for the same user therefore
+// run one after the other, and the second one's check sees the first one's committed rows.
+// The write checks never read the index: it only learns of a write after that write commits.
+//
+// The index holds each user's days in sorted maps, so the report over a range is O(log n + k)
+// per user. It covers dates from HISTORY_DAYS ago onwards; the window moves forward daily and
+// older ranges are answered from the database. It is loaded once the application is ready and
+// kept up to date after each leave decision and roster write commits. It only sees writes made
+// through this JVM, so it must be switched off (taskbridge.schedule-index.enabled=false) when
+// more than one instance runs; the report then always reads the database.
+@Service
+public class ScheduleConflictIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleConflictIndex.class);
+
+    static final int HISTORY_DAYS = 31;
+
+    private final LeaveRepository leaveRepository;
+    private final RosterRepository rosterRepository;
+    private final UserRepository userRepository;
+    private final boolean enabled;
+
+    // Replaced as a whole by load; updates and the window slide go through apply
+    private volatile Map<Long, UserSchedule> schedules = new ConcurrentHashMap<>();
+    private volatile LocalDate windowStart = LocalDate.now().minusDays(HISTORY_DAYS);
+    private volatile boolean ready = false;
+
+    // Updates applied while a load is running, replayed onto the new index before it is swapped in
+    private List<Consumer<Map<Long, UserSchedule>>> pending;
+
+    public ScheduleConflictIndex(LeaveRepository leaveRepository, RosterRepository rosterRepository,
+                                 UserRepository userRepository,
+                                 @Value("${taskbridge.schedule-index.enabled:true}") boolean enabled) {
+        this.leaveRepository = leaveRepository;
+        this.rosterRepository = rosterRepository;
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+    }
+
+    // Build the index off to the side and swap it in. Every update is idempotent (leave days are
+    // keyed by leave id, shifts by date), so replaying one the load already read changes nothing.
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            log.info("Schedule conflict index disabled; conflict reports read the database");
+            return;
+        }
+        LocalDate start = LocalDate.now().minusDays(HISTORY_DAYS);
+        synchronized (this) {
+            pending = new ArrayList<>();
+        }
+        Map<Long, UserSchedule> loaded = new ConcurrentHashMap<>();
+        LocalDate horizon = LocalDate.of(9999, 12, 31);
+        for (LeaveSpan leave : leaveRepository.findApprovedSpansOverlapping(start, horizon)) {
+            schedule(loaded, leave.getUserId()).addLeave(leave.getId(), max(leave.getStartDate(), start),
+                    leave.getEndDate());
+        }
+        for (RosterCell cell : rosterRepository.findCellsBetween(start, horizon)) {
+            schedule(loaded, cell.getUserId()).putShift(cell.getShiftDate(), cell.getShiftType());
+        }
+        synchronized (this) {
+            pending.forEach(update -> update.accept(loaded));
+            pending = null;
+            loaded.values().forEach(schedule -> schedule.prune(start));
+            schedules = loaded;
+            windowStart = start;
+            ready = true;
+        }
+    }
+
+    // Move the window forward so the index does not keep growing with past days
+    @Scheduled(cron = "${taskbridge.schedule-index.slide-cron:0 10 0 * * *}")
+    public synchronized void slideWindow() {
+        LocalDate start = LocalDate.now().minusDays(HISTORY_DAYS);
+        apply(map -> map.values().forEach(schedule -> schedule.prune(start)));
+        windowStart = start;
+    }
+
+    // Lock the users' app_user rows until the current transaction ends. Call before checking for a
+    // clash, in the same transaction as the write.
+    public void lockUsers(Collection<Long> userIds) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Schedule checks must run inside the writing transaction");
+        }
+        if (!userIds.isEmpty()) {
+            userRepository.lockForScheduleWrite(new TreeSet<>(userIds));
+        }
+    }
+
+    // Whether the user has approved leave on the given date, from the database (lock the user first)
+    public boolean isOnLeave(Long userId, LocalDate date) {
+        return leaveRepository.existsByUserIdAndStatusAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                userId, LeaveStatus.APPROVED, date, date);
+    }
+
+    // Approved leave days in the range per user, in one query (lock the users first)
+    public Map<Long, Set<LocalDate>> findLeaveDays(Collection<Long> userIds, LocalDate startDate, LocalDate endDate) {
+        Map<Long, Set<LocalDate>> leaveDays = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return leaveDays;
+        }
+        for (LeaveSpan leave : leaveRepository.findSpansForUsersOverlapping(userIds, LeaveStatus.APPROVED,
+                startDate, endDate)) {
+            Set<LocalDate> days = leaveDays.computeIfAbsent(leave.getUserId(), id -> new HashSet<>());
+            LocalDate last = min(leave.getEndDate(), endDate);
+            for (LocalDate date = max(leave.getStartDate(), startDate); !date.isAfter(last); date = date.plusDays(1)) {
+                days.add(date);
+            }
+        }
+        return leaveDays;
+    }
+
+    // Days in the range on which the user is rostered for a working (non-OFF) shift, from the
+    // database (lock the user first)
+    public List<ScheduleConflict> findWorkingShifts(Long userId, LocalDate startDate, LocalDate endDate) {
+        List<ScheduleConflict> shifts = new ArrayList<>();
+        for (RosterCell cell : rosterRepository.findCellsForUsersBetween(List.of(userId), startDate, endDate)) {
+            if (!"OFF".equals(cell.getShiftType())) {
+                shifts.add(new ScheduleConflict(userId, cell.getShiftDate(), cell.getShiftType()));
+            }
+        }
+        return shifts;
+    }
+
+    // Every user-day in the range with both approved leave and a working shift
+    public List<ScheduleConflict> findConflicts(LocalDate startDate, LocalDate endDate) {
+        List<ScheduleConflict> conflicts = new ArrayList<>();
+        if (!covers(startDate)) {
+            collectConflictsFromDatabase(startDate, endDate, conflicts);
+        } else {
+            schedules.forEach((userId, schedule) -> schedule.collectConflicts(userId, startDate, endDate, conflicts));
+        }
+        conflicts.sort(Comparator.comparing(ScheduleConflict::getShiftDate).thenComparing(ScheduleConflict::getUserId));
+        return conflicts;
+    }
+
+    public void leaveApproved(Long leaveId, Long userId, LocalDate startDate, LocalDate endDate) {
+        afterCommit(() -> apply(map -> {
+            if (!endDate.isBefore(windowStart)) {
+                schedule(map, userId).addLeave(leaveId, max(startDate, windowStart), endDate);
+            }
+        }));
+    }
+
+    public void leaveRevoked(Long leaveId, Long userId, LocalDate startDate, LocalDate endDate) {
+        afterCommit(() -> apply(map -> {
+            UserSchedule schedule = map.get(userId);
+            if (schedule != null && !endDate.isBefore(windowStart)) {
+                schedule.removeLeave(leaveId, max(startDate, windowStart), endDate);
+            }
+        }));
+    }
+
+    public void shiftWritten(Long userId, LocalDate shiftDate, String shiftType) {
+        afterCommit(() -> apply(map -> {
+            if (!shiftDate.isBefore(windowStart)) {
+                schedule(map, userId).putShift(shiftDate, shiftType);
+            }
+        }));
+    }
+
+    public void shiftsWritten(List<RosterBatchRepository.Entry> entries) {
+        afterCommit(() -> apply(map -> {
+            for (RosterBatchRepository.Entry entry : entries) {
+                if (!entry.shiftDate().isBefore(windowStart)) {
+                    schedule(map, entry.userId()).putShift(entry.shiftDate(), entry.shiftType());
+                }
+            }
+        }));
+    }
+
+    public void shiftRemoved(Long userId, LocalDate shiftDate) {
+        afterCommit(() -> apply(map -> {
+            UserSchedule schedule = map.get(userId);
+            if (schedule != null) {
+                schedule.removeShift(shiftDate);
+            }
+        }));
+    }
+
+    private synchronized void apply(Consumer<Map<Long, UserSchedule>> update) {
+        if (!enabled) {
+            return;
+        }
+        update.accept(schedules);
+        if (pending != null) {
+            pending.add(update);
+        }
+    }
+
+    private boolean covers(LocalDate date) {
+        return ready && !date.isBefore(windowStart);
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static UserSchedule schedule(Map<Long, UserSchedule> map, Long userId) {
+        return map.computeIfAbsent(userId, id -> new UserSchedule());
+    }
+
+    private void collectConflictsFromDatabase(LocalDate startDate, LocalDate endDate, List<ScheduleConflict> conflicts) {
+        Map<Long, Set<LocalDate>> leaveDays = new HashMap<>();
+        for (LeaveSpan leave : leaveRepository.findApprovedSpansOverlapping(startDate, endDate)) {
+            Set<LocalDate> days = leaveDays.computeIfAbsent(leave.getUserId(), id -> new HashSet<>());
+            for (LocalDate date = leave.getStartDate(); !date.isAfter(leave.getEndDate()); date = date.plusDays(1)) {
+                days.add(date);
+            }
+        }
+        for (RosterCell cell : rosterRepository.findCellsBetween(startDate, endDate)) {
+            Set<LocalDate> days = leaveDays.get(cell.getUserId());
+            if (days != null && days.contains(cell.getShiftDate()) && !"OFF".equals(cell.getShiftType())) {
+                conflicts.add(new ScheduleConflict(cell.getUserId(), cell.getShiftDate(), cell.getShiftType()));
+            }
+        }
+    }
+
+    // Apply index updates only once the write is visible, so a rolled-back write never lands here
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    private static final class UserSchedule {
+
+        // Ids of the approved leaves covering each day, so overlapping leaves are added and revoked
+        // independently and adding or revoking the same leave twice is harmless
+        private final TreeMap<LocalDate, Set<Long>> leaveDays = new TreeMap<>();
+        private final TreeMap<LocalDate, String> shifts = new TreeMap<>();
+
+        synchronized void addLeave(Long leaveId, LocalDate startDate, LocalDate endDate) {
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                leaveDays.computeIfAbsent(date, d -> new HashSet<>()).add(leaveId);
+            }
+        }
+
+        synchronized void removeLeave(Long leaveId, LocalDate startDate, LocalDate endDate) {
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                leaveDays.computeIfPresent(date, (d, ids) -> {
+                    ids.remove(leaveId);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+
+        synchronized void putShift(LocalDate date, String shiftType) {
+            shifts.put(date, shiftType);
+        }
+
+        synchronized void removeShift(LocalDate date) {
+            shifts.remove(date);
+        }
+
+        synchronized void prune(LocalDate windowStart) {
+            leaveDays.headMap(windowStart).clear();
+            shifts.headMap(windowStart).clear();
+        }
+
+        synchronized void collectConflicts(Long userId, LocalDate startDate, LocalDate endDate,
+                                           List<ScheduleConflict> out) {
+            for (LocalDate date : leaveDays.subMap(startDate, true, endDate, true).keySet()) {
+                String shiftType = shifts.get(date);
+                if (shiftType != null && !"OFF".equals(shiftType)) {
+                    out.add(new ScheduleConflict(userId, date, shiftType));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.taskbridge.service;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Runs the background rebuilds of an in-memory snapshot that is rebuilt on change events.
+//
+// Bursts of changes coalesce into one queued rebuild. Rebuilds never overlap: one that is
+// queued while another runs waits for it, so the snapshot installed last was always read
+// after the last change that queued a rebuild. A lock rather than synchronized, so a waiting
+// virtual thread does not pin its carrier.
+final class SnapshotRebuilder {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotRebuilder.class);
+
+    private final String name;
+    private final Runnable rebuild;
+    private final Executor executor;
+    private final AtomicBoolean queued = new AtomicBoolean(false);
+    private final ReentrantLock lock = new ReentrantLock();
+
+    SnapshotRebuilder(String name, Runnable rebuild, Executor executor) {
+        this.name = name;
+        this.rebuild = rebuild;
+        this.executor = executor;
+    }
+
+    // Queue a background rebuild unless one is already waiting to start
+    void requestRebuild() {
+        if (!queued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::runQueued);
+        } catch (RejectedExecutionException e) {
+            // Executor saturated; clear the flag so the next change can queue again
+            queued.set(false);
+            log.warn("{} rebuild rejected; the snapshot stays stale until the next change", name);
+        }
+    }
+
+    // Rebuild on the calling thread, in turn with any background rebuild
+    void rebuildNow() {
+        lock.lock();
+        try {
+            rebuild.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runQueued() {
+        lock.lock();
+        try {
+            // Cleared only once this rebuild holds the lock: a change from here on queues another
+            // rebuild, which reads after it and installs after it
+            queued.set(false);
+            rebuild.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.taskbridge.service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.taskbridge.dto.TaskRequest;
 import com.example.taskbridge.dto.TaskResponse;
@@ -12,22 +14,31 @@ import com.example.taskbridge.entity.Task;
 import com.example.taskbridge.entity.TaskStatus;
 import com.example.taskbridge.entity.User;
 import com.example.taskbridge.exception.ResourceNotFoundException;
+import com.example.taskbridge.repository.ArchiveRepository;
 import com.example.taskbridge.repository.TaskRepository;
 import com.example.taskbridge.repository.UserRepository;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Service
 public class TaskService {
 
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final ArchiveRepository archiveRepository;
+    private final Counter claims;
 
-    public TaskService(TaskRepository taskRepository, UserRepository userRepository) {
+    public TaskService(TaskRepository taskRepository, UserRepository userRepository,
+                       ArchiveRepository archiveRepository, MeterRegistry meterRegistry) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
+        this.archiveRepository = archiveRepository;
+        this.claims = meterRegistry.counter("taskbridge.tasks.claimed");
     }
 
     // Convert Task entity to TaskResponse DTO
-    private TaskResponse convertToResponse(Task task) {
+    TaskResponse convertToResponse(Task task) {
         UserResponse creator = null;
         UserResponse manager = null;
 
@@ -63,6 +74,7 @@ public class TaskService {
     }
 
     // Employee/Manager: Create a task
+    @Transactional
     public TaskResponse createTask(TaskRequest request, String creatorEmail) {
         User creator = userRepository.findByEmail(creatorEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -87,25 +99,40 @@ public class TaskService {
         return convertToResponse(savedTask);
     }
 
-    // Get my tasks based on role
-    public List<TaskResponse> getMyTasks(String email) {
+    // Get my tasks based on role; archived tasks follow the live ones when requested
+    @Transactional(readOnly = true)
+    public List<TaskResponse> getMyTasks(String email, boolean includeArchived) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        
+        return getMyTasks(user, includeArchived);
+    }
+
+    // Same as above for a user the caller has already resolved
+    @Transactional(readOnly = true)
+    public List<TaskResponse> getMyTasks(User user, boolean includeArchived) {
+        List<TaskResponse> tasks;
         if ("MANAGER".equals(user.getRole().name())) {
             // Manager sees tasks they created
-            return taskRepository.findByCreator(user).stream()
+            tasks = taskRepository.findByCreator(user).stream()
                     .map(this::convertToResponse)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toCollection(ArrayList::new));
+            if (includeArchived) {
+                tasks.addAll(archiveRepository.findTasksByCreator(user.getId()));
+            }
         } else {
             // Employee sees tasks they claimed
-            return taskRepository.findByManager(user).stream()
+            tasks = taskRepository.findByManager(user).stream()
                     .map(this::convertToResponse)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toCollection(ArrayList::new));
+            if (includeArchived) {
+                tasks.addAll(archiveRepository.findTasksByManager(user.getId()));
+            }
         }
+        return tasks;
     }
 
     // Employee: Claim task (assign to themselves)
+    @Transactional
     public TaskResponse claimTask(Long taskId, String employeeEmail) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
@@ -120,10 +147,12 @@ public class TaskService {
         task.setManager(employee);
         task.setStatus(TaskStatus.ASSIGNED);
         Task savedTask = taskRepository.save(task);
+        claims.increment();
         return convertToResponse(savedTask);
     }
 
     // Employee: Get available (unclaimed) tasks
+    @Transactional(readOnly = true)
     public List<TaskResponse> getAvailableTasks() {
         return taskRepository.findByManagerIsNull().stream()
                 .map(this::convertToResponse)
@@ -131,6 +160,7 @@ public class TaskService {
     }
 
     // Manager: Update task status
+    @Transactional
     public TaskResponse updateTaskStatus(Long taskId, TaskStatus status) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
@@ -141,13 +171,15 @@ public class TaskService {
     }
 
     // Admin: Get all tasks
+    @Transactional(readOnly = true)
     public List<TaskResponse> getAllTasks() {
         return taskRepository.findAll().stream()
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
     }
 
-    // Admin: Delete task
+    // Admin: Delete task (soft delete, see Task)
+    @Transactional
     public void deleteTask(Long taskId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
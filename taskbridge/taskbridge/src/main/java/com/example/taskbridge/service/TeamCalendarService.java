@@ -0,0 +1,130 @@
+package com.example.taskbridge.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.example.taskbridge.dto.TeamCalendarResponse;
+import com.example.taskbridge.dto.TeamCalendarResponse.Cell;
+import com.example.taskbridge.dto.TeamCalendarResponse.Row;
+import com.example.taskbridge.entity.Leave.LeaveStatus;
+import com.example.taskbridge.entity.RoleType;
+import com.example.taskbridge.repository.AttendanceRepository;
+import com.example.taskbridge.repository.LeaveRepository;
+import com.example.taskbridge.repository.RosterRepository;
+import com.example.taskbridge.repository.UserRepository;
+import com.example.taskbridge.repository.projection.AttendanceCell;
+import com.example.taskbridge.repository.projection.LeaveSpan;
+import com.example.taskbridge.repository.projection.RosterCell;
+import com.example.taskbridge.repository.projection.UserSummary;
+
+@Service
+public class TeamCalendarService {
+
+    // Upper bound on the calendar width so one request cannot pull a whole year
+    static final int MAX_DAYS = 62;
+
+    private final UserRepository userRepository;
+    private final RosterRepository rosterRepository;
+    private final LeaveRepository leaveRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final Executor queryExecutor;
+
+    public TeamCalendarService(UserRepository userRepository, RosterRepository rosterRepository,
+                               LeaveRepository leaveRepository, AttendanceRepository attendanceRepository,
+                               @Qualifier("queryExecutor") Executor queryExecutor) {
+        this.userRepository = userRepository;
+        this.rosterRepository = rosterRepository;
+        this.leaveRepository = leaveRepository;
+        this.attendanceRepository = attendanceRepository;
+        this.queryExecutor = queryExecutor;
+    }
+
+    // Build the users x days matrix for active employees and managers
+    public TeamCalendarResponse getCalendar(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalStateException("End date cannot be before start date");
+        }
+        int days = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        if (days > MAX_DAYS) {
+            throw new IllegalStateException("Calendar range cannot exceed " + MAX_DAYS + " days");
+        }
+
+        // The four projections are independent, so run them concurrently
+        CompletableFuture<List<UserSummary>> usersFuture = CompletableFuture.supplyAsync(
+                () -> userRepository.findActiveSummariesByRoleIn(List.of(RoleType.EMPLOYEE, RoleType.MANAGER)),
+                queryExecutor);
+        CompletableFuture<List<RosterCell>> rosterFuture = CompletableFuture.supplyAsync(
+                () -> rosterRepository.findCellsBetween(startDate, endDate), queryExecutor);
+        CompletableFuture<List<LeaveSpan>> leaveFuture = CompletableFuture.supplyAsync(
+                () -> leaveRepository.findSpansOverlapping(startDate, endDate), queryExecutor);
+        CompletableFuture<List<AttendanceCell>> attendanceFuture = CompletableFuture.supplyAsync(
+                () -> attendanceRepository.findCellsBetween(startDate, endDate), queryExecutor);
+
+        List<UserSummary> users = usersFuture.join();
+        Map<Long, Integer> rowIndex = new HashMap<>();
+        Cell[][] grid = new Cell[users.size()][days];
+        for (int i = 0; i < users.size(); i++) {
+            rowIndex.put(users.get(i).getId(), i);
+        }
+
+        for (RosterCell roster : rosterFuture.join()) {
+            Cell cell = cellAt(grid, rowIndex, roster.getUserId(), dayOffset(startDate, roster.getShiftDate()));
+            if (cell != null) {
+                cell.setShift(roster.getShiftType());
+            }
+        }
+
+        for (LeaveSpan leave : leaveFuture.join()) {
+            LocalDate from = leave.getStartDate().isBefore(startDate) ? startDate : leave.getStartDate();
+            LocalDate to = leave.getEndDate().isAfter(endDate) ? endDate : leave.getEndDate();
+            for (int d = dayOffset(startDate, from); d <= dayOffset(startDate, to); d++) {
+                Cell cell = cellAt(grid, rowIndex, leave.getUserId(), d);
+                // An approved leave wins over any other request covering the same day
+                if (cell != null && (cell.getLeave() == null || leave.getStatus() == LeaveStatus.APPROVED)) {
+                    cell.setLeave(leave.getStatus().name());
+                }
+            }
+        }
+
+        for (AttendanceCell attendance : attendanceFuture.join()) {
+            Cell cell = cellAt(grid, rowIndex, attendance.getUserId(),
+                    dayOffset(startDate, attendance.getAttendanceDate()));
+            if (cell != null) {
+                cell.setAttendance(attendance.getStatus());
+            }
+        }
+
+        List<Row> rows = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            UserSummary user = users.get(i);
+            rows.add(new Row(user.getId(), user.getName(), Arrays.asList(grid[i])));
+        }
+        return new TeamCalendarResponse(startDate, endDate, rows);
+    }
+
+    private static int dayOffset(LocalDate startDate, LocalDate date) {
+        return (int) ChronoUnit.DAYS.between(startDate, date);
+    }
+
+    // Cells are only allocated once something lands in them, so empty days stay null
+    private static Cell cellAt(Cell[][] grid, Map<Long, Integer> rowIndex, Long userId, int day) {
+        Integer row = rowIndex.get(userId);
+        if (row == null) {
+            return null;
+        }
+        if (grid[row][day] == null) {
+            grid[row][day] = new Cell();
+        }
+        return grid[row][day];
+    }
+}
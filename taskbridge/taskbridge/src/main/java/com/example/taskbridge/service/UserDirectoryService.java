@@ -0,0 +1,207 @@
+package com.example.taskbridge.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.taskbridge.dto.DirectoryEntry;
+import com.example.taskbridge.dto.DirectoryPage;
+import com.example.taskbridge.entity.RoleType;
+import com.example.taskbridge.event.UserChangedEvent;
+import com.example.taskbridge.repository.UserDirectoryRepository;
+
+// Employee directory with prefix search on name and email.
+//
+// Paged browsing goes to the database with keyset pagination on (lower-cased name, id).
+// Type-ahead is served from an in-memory snapshot of active users held in two arrays,
+// one sorted by name key and one by email key, so a prefix lookup is a binary search
+// followed by a short scan. The snapshot is rebuilt in the background whenever a
+// UserChangedEvent is published; searches keep using the previous snapshot meanwhile.
+@Service
+public class UserDirectoryService {
+
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_TYPEAHEAD_RESULTS = 20;
+
+    private static final Comparator<Entry> BY_NAME =
+            Comparator.comparing(Entry::nameKey).thenComparing(entry -> entry.entry().id());
+    private static final Comparator<Entry> BY_EMAIL =
+            Comparator.comparing(Entry::emailKey).thenComparing(entry -> entry.entry().id());
+
+    private final UserDirectoryRepository userDirectoryRepository;
+    private final SnapshotRebuilder rebuilder;
+
+    private volatile Snapshot snapshot = new Snapshot(new Entry[0], new Entry[0]);
+
+    public UserDirectoryService(UserDirectoryRepository userDirectoryRepository,
+                                @Qualifier("queryExecutor") Executor queryExecutor) {
+        this.userDirectoryRepository = userDirectoryRepository;
+        this.rebuilder = new SnapshotRebuilder("User directory", this::rebuild, queryExecutor);
+    }
+
+    // One page of users whose name or email starts with the query, in name order
+    public DirectoryPage search(String query, RoleType role, Boolean active, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalStateException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        String afterNameKey = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeCursor(cursor);
+            afterNameKey = position[0];
+            afterId = Long.valueOf(position[1]);
+        }
+        // Fetch one extra row to learn whether another page exists
+        List<DirectoryEntry> rows = userDirectoryRepository.findPage(normalize(query), role, active,
+                afterNameKey, afterId, limit + 1);
+        if (rows.size() <= limit) {
+            return new DirectoryPage(rows, null);
+        }
+        List<DirectoryEntry> items = rows.subList(0, limit);
+        DirectoryEntry last = items.get(limit - 1);
+        return new DirectoryPage(List.copyOf(items), encodeCursor(key(last.name()), last.id()));
+    }
+
+    // Active users whose name or email starts with the query, in name order, from the snapshot
+    public List<DirectoryEntry> typeahead(String query, RoleType role, int limit) {
+        int max = Math.max(1, Math.min(limit, MAX_TYPEAHEAD_RESULTS));
+        String prefix = normalize(query);
+        Snapshot current = snapshot;
+
+        List<Entry> byName = new ArrayList<>();
+        for (int i = lowerBound(current.byName(), prefix, Entry::nameKey);
+             i < current.byName().length && byName.size() < max; i++) {
+            Entry entry = current.byName()[i];
+            if (!entry.nameKey().startsWith(prefix)) {
+                break;
+            }
+            if (role == null || entry.entry().role() == role) {
+                byName.add(entry);
+            }
+        }
+        if (prefix.isEmpty()) {
+            return byName.stream().map(Entry::entry).toList();
+        }
+
+        // Email-only matches have to be merged into name order. Only the first max of them by
+        // name can reach the result, so they go into a heap bounded at max (last by name on top)
+        // rather than a list sorted at the end; once the name side is full, matches that sort
+        // after its last entry are skipped outright.
+        Entry cutoff = byName.size() == max ? byName.get(max - 1) : null;
+        PriorityQueue<Entry> emailMatches = new PriorityQueue<>(max, BY_NAME.reversed());
+        for (int i = lowerBound(current.byEmail(), prefix, Entry::emailKey); i < current.byEmail().length; i++) {
+            Entry entry = current.byEmail()[i];
+            if (!entry.emailKey().startsWith(prefix)) {
+                break;
+            }
+            if ((role != null && entry.entry().role() != role) || entry.nameKey().startsWith(prefix)
+                    || (cutoff != null && BY_NAME.compare(entry, cutoff) > 0)) {
+                continue;
+            }
+            if (emailMatches.size() < max) {
+                emailMatches.add(entry);
+            } else if (BY_NAME.compare(entry, emailMatches.peek()) < 0) {
+                emailMatches.poll();
+                emailMatches.add(entry);
+            }
+        }
+        if (emailMatches.isEmpty()) {
+            return byName.stream().map(Entry::entry).toList();
+        }
+        List<Entry> byEmail = new ArrayList<>(emailMatches);
+        byEmail.sort(BY_NAME);
+        List<DirectoryEntry> merged = new ArrayList<>(max);
+        int n = 0;
+        int e = 0;
+        while (merged.size() < max && (n < byName.size() || e < byEmail.size())) {
+            boolean takeName = e >= byEmail.size()
+                    || (n < byName.size() && BY_NAME.compare(byName.get(n), byEmail.get(e)) <= 0);
+            merged.add(takeName ? byName.get(n++).entry() : byEmail.get(e++).entry());
+        }
+        return merged;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuilder.rebuildNow();
+    }
+
+    // Coalesces bursts of changes into one background rebuild
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        rebuilder.requestRebuild();
+    }
+
+    private void rebuild() {
+        List<DirectoryEntry> users = userDirectoryRepository.findAllActive();
+        Entry[] byName = new Entry[users.size()];
+        for (int i = 0; i < users.size(); i++) {
+            DirectoryEntry user = users.get(i);
+            byName[i] = new Entry(user, key(user.name()), key(user.email()));
+        }
+        // Already in name order from the query, but sort anyway so the arrays never depend on it
+        Arrays.sort(byName, BY_NAME);
+        Entry[] byEmail = byName.clone();
+        Arrays.sort(byEmail, BY_EMAIL);
+        snapshot = new Snapshot(byName, byEmail);
+    }
+
+    private static int lowerBound(Entry[] entries, String key, Function<Entry, String> keyOf) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keyOf.apply(entries[mid]).compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Search input: surrounding whitespace is ignored
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Sort key; matches lower(...) in UserDirectoryRepository
+    private static String key(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static String encodeCursor(String nameKey, Long id) {
+        String position = nameKey + "\u0000" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf('\u0000');
+            Long.parseLong(position.substring(separator + 1));
+            return new String[] { position.substring(0, separator), position.substring(separator + 1) };
+        } catch (IllegalArgumentException | StringIndexOutOfBoundsException e) {
+            throw new IllegalStateException("Invalid cursor");
+        }
+    }
+
+    private record Entry(DirectoryEntry entry, String nameKey, String emailKey) {
+    }
+
+    private record Snapshot(Entry[] byName, Entry[] byEmail) {
+    }
+}
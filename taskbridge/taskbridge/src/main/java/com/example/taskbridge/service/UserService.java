@@ -2,10 +2,13 @@ package com.example.taskbridge.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.taskbridge.entity.RoleType;
 import com.example.taskbridge.entity.User;
+import com.example.taskbridge.event.UserChangedEvent;
 import com.example.taskbridge.exception.ResourceNotFoundException;
 import com.example.taskbridge.repository.UserRepository;
 
@@ -13,40 +16,52 @@ import com.example.taskbridge.repository.UserRepository;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher events;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, ApplicationEventPublisher events) {
         this.userRepository = userRepository;
+        this.events = events;
     }
 
+    @Transactional(readOnly = true)
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
 
+    @Transactional
     public User updateUserRole(Long userId, RoleType role) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         user.setRole(role);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        events.publishEvent(new UserChangedEvent(userId));
+        return saved;
     }
 
+    @Transactional
     public void deleteUser(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         user.setActive(false); // Soft delete
         userRepository.save(user);
+        events.publishEvent(new UserChangedEvent(userId));
     }
 
+    @Transactional
     public void reactivateUser(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         user.setActive(true);
         userRepository.save(user);
+        events.publishEvent(new UserChangedEvent(userId));
     }
 
+    @Transactional(readOnly = true)
     public List<User> getAllActiveUsers() {
         return userRepository.findByActive(true);
     }
 
+    @Transactional(readOnly = true)
     public User getUserById(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -0,0 +1,24 @@
+-- Auto-roster previews, kept until committed or expired (AutoRosterService). Held in the
+-- database rather than in one instance's memory, so the commit can land on any instance.
+-- Cells the solver left to approved leave are not stored; they are never written to the roster.
+
+create table auto_roster_plan (
+    id varchar(36) primary key,
+    start_date date not null,
+    end_date date not null,
+    expires_at timestamp(6) not null,
+    created_at timestamp(6) not null
+);
+
+create index idx_auto_roster_plan_expires on auto_roster_plan (expires_at);
+
+create table auto_roster_plan_entry (
+    plan_id varchar(36) not null,
+    user_id bigint not null,
+    shift_date date not null,
+    shift_type varchar(255) not null,
+    location varchar(255),
+    notes varchar(255),
+    constraint pk_auto_roster_plan_entry primary key (plan_id, user_id, shift_date),
+    constraint fk_auto_roster_plan_entry_plan foreign key (plan_id) references auto_roster_plan (id) on delete cascade
+);
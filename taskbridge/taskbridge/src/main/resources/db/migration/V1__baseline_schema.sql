@@ -0,0 +1,168 @@
+-- Baseline: the schema as Hibernate created it under ddl-auto=update.
+-- Databases that predate the migrations are baselined at version 0 and run this script too,
+-- so every statement is guarded and leaves existing tables and constraints alone.
+
+create table if not exists app_user (
+    id bigint generated by default as identity primary key,
+    name varchar(255),
+    email varchar(255),
+    password varchar(255),
+    role varchar(255) check (role in ('ADMIN', 'MANAGER', 'EMPLOYEE', 'HR')),
+    active boolean not null,
+    deleted boolean not null,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    constraint uk_app_user_email unique (email)
+);
+
+create table if not exists tasks (
+    id bigint generated by default as identity primary key,
+    title varchar(255),
+    description varchar(255),
+    priority varchar(255) check (priority in ('LOW', 'MEDIUM', 'HIGH')),
+    status varchar(255) check (status in ('CREATED', 'ASSIGNED', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED')),
+    deadline timestamp(6),
+    creator_id bigint not null,
+    manager_id bigint,
+    deleted boolean not null,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    constraint fk_tasks_creator foreign key (creator_id) references app_user (id),
+    constraint fk_tasks_manager foreign key (manager_id) references app_user (id)
+);
+
+create table if not exists attendance (
+    id bigint generated by default as identity primary key,
+    user_id bigint not null,
+    attendance_date date not null,
+    clock_in_time timestamp(6),
+    clock_out_time timestamp(6),
+    status varchar(255),
+    notes text,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    constraint fk_attendance_user foreign key (user_id) references app_user (id)
+);
+
+create table if not exists leave_request (
+    id bigint generated by default as identity primary key,
+    user_id bigint not null,
+    start_date date not null,
+    end_date date not null,
+    leave_type varchar(255),
+    reason text,
+    status varchar(255) check (status in ('PENDING', 'APPROVED', 'REJECTED')),
+    approver_notes varchar(255),
+    approved_by_id bigint,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    constraint fk_leave_request_user foreign key (user_id) references app_user (id),
+    constraint fk_leave_request_approved_by foreign key (approved_by_id) references app_user (id)
+);
+
+create table if not exists leave_balance (
+    id bigint generated by default as identity primary key,
+    user_id bigint not null,
+    leave_type varchar(255) not null,
+    balance integer not null,
+    accrual_year integer,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    constraint uk_leave_balance_user_type unique (user_id, leave_type),
+    constraint fk_leave_balance_user foreign key (user_id) references app_user (id)
+);
+
+create table if not exists leave_ledger (
+    id bigint generated by default as identity primary key,
+    user_id bigint not null,
+    leave_type varchar(255) not null,
+    entry_type varchar(255) not null check (entry_type in ('ACCRUAL', 'CONSUMPTION', 'REVERSAL')),
+    days integer not null,
+    leave_id bigint,
+    accrual_year integer,
+    notes varchar(255),
+    created_at timestamp(6) not null,
+    constraint fk_leave_ledger_user foreign key (user_id) references app_user (id),
+    constraint fk_leave_ledger_leave foreign key (leave_id) references leave_request (id)
+);
+
+create table if not exists notice (
+    id bigint generated by default as identity primary key,
+    sender_id bigint not null,
+    recipient_id bigint not null,
+    subject varchar(255) not null,
+    content text not null,
+    notice_type varchar(255) check (notice_type in ('GENERAL', 'ATTENDANCE', 'SALARY', 'CONDUCT', 'PERFORMANCE')),
+    status varchar(255) check (status in ('SENT', 'READ', 'ACKNOWLEDGED')),
+    broadcast_id varchar(36),
+    read_at timestamp(6),
+    acknowledged_at timestamp(6),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    constraint fk_notice_sender foreign key (sender_id) references app_user (id),
+    constraint fk_notice_recipient foreign key (recipient_id) references app_user (id)
+);
+
+create index if not exists idx_notice_sender_created on notice (sender_id, created_at);
+
+create table if not exists notifications (
+    id bigint generated by default as identity primary key,
+    sender_id bigint not null,
+    recipient_id bigint not null,
+    title varchar(255) not null,
+    message text,
+    task_id bigint,
+    type varchar(255) check (type in ('INSTRUCTION', 'NOTICE', 'MESSAGE')),
+    is_read boolean,
+    created_at timestamp(6) not null,
+    constraint fk_notifications_sender foreign key (sender_id) references app_user (id),
+    constraint fk_notifications_recipient foreign key (recipient_id) references app_user (id),
+    constraint fk_notifications_task foreign key (task_id) references tasks (id)
+);
+
+create table if not exists roster (
+    id bigint generated by default as identity primary key,
+    user_id bigint not null,
+    shift_date date not null,
+    shift_type varchar(255),
+    location varchar(255),
+    notes text,
+    created_by_id bigint,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    constraint uk_roster_user_shift_date unique (user_id, shift_date),
+    constraint fk_roster_user foreign key (user_id) references app_user (id),
+    constraint fk_roster_created_by foreign key (created_by_id) references app_user (id)
+);
+
+create table if not exists roster_template (
+    id bigint generated by default as identity primary key,
+    name varchar(255) not null,
+    weekly_pattern varchar(255) not null,
+    location varchar(255),
+    notes text,
+    created_by_id bigint,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    constraint fk_roster_template_created_by foreign key (created_by_id) references app_user (id)
+);
+
+create table if not exists salary (
+    id bigint generated by default as identity primary key,
+    user_id bigint not null,
+    year integer not null,
+    month integer not null,
+    base_salary numeric(38, 2) not null,
+    total_working_days integer,
+    present_days integer,
+    absent_days integer,
+    leave_days integer,
+    salary_per_day numeric(38, 2),
+    earned_salary numeric(38, 2),
+    deductions numeric(38, 2),
+    net_salary numeric(38, 2),
+    notes varchar(255),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    constraint fk_salary_user foreign key (user_id) references app_user (id)
+);
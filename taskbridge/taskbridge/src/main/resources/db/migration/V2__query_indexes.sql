@@ -0,0 +1,41 @@
+-- Indexes shaped after the queries in the repository package. RepositoryQueryPlanTest runs
+-- EXPLAIN on every one of those queries and fails if any of them falls back to a sequential scan.
+
+-- app_user: role lookups (HR mail fan-out, recipient lists, roster staff); the directory's
+-- prefix search and keyset order on lower-cased name, and prefix search on email. The
+-- C collation lets the expression indexes serve both LIKE 'prefix%' and the ORDER BY.
+create index if not exists idx_app_user_role_active on app_user (role, active);
+create index if not exists idx_app_user_name_key on app_user ((lower(name) collate "C"), id);
+create index if not exists idx_app_user_email_key on app_user ((lower(email) collate "C"));
+
+-- attendance: a user's history, day and range; everyone's days for a calendar range
+create index if not exists idx_attendance_user_date on attendance (user_id, attendance_date);
+create index if not exists idx_attendance_date on attendance (attendance_date);
+
+-- leave_request: a user's leaves by start date; HR's start-date range; the pending queue
+-- and approved-leave overlap scans, whose status is fixed in the query text
+create index if not exists idx_leave_request_user_start on leave_request (user_id, start_date);
+create index if not exists idx_leave_request_start on leave_request (start_date);
+create index if not exists idx_leave_request_pending on leave_request (start_date) where status = 'PENDING';
+create index if not exists idx_leave_request_approved on leave_request (end_date, start_date) where status = 'APPROVED';
+
+-- leave_ledger: a user's entries, optionally for one leave type, newest first
+create index if not exists idx_leave_ledger_user_type_created on leave_ledger (user_id, leave_type, created_at);
+
+-- notice: a recipient's inbox (sender history uses idx_notice_sender_created from V1)
+create index if not exists idx_notice_recipient_created on notice (recipient_id, created_at);
+
+-- notifications: a recipient's notifications, and the unread subset polled by the UI
+create index if not exists idx_notifications_recipient_read on notifications (recipient_id, is_read);
+
+-- roster: shifts for a day or date range (per-user lookups use the (user_id, shift_date) key)
+create index if not exists idx_roster_shift_date on roster (shift_date);
+
+-- salary: payroll for a month, and a user's slips
+create index if not exists idx_salary_year_month on salary (year, month);
+create index if not exists idx_salary_user_year_month on salary (user_id, year, month);
+
+-- tasks: a creator's and a manager's tasks, and the unclaimed pool managers pick from
+create index if not exists idx_tasks_creator on tasks (creator_id);
+create index if not exists idx_tasks_manager on tasks (manager_id);
+create index if not exists idx_tasks_unclaimed on tasks (id) where manager_id is null;
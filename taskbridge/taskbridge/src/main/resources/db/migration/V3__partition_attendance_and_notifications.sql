@@ -0,0 +1,126 @@
+-- Monthly range partitions for attendance (by attendance_date) and notifications (by created_at).
+-- The primary key has to include the partition key, so it becomes (id, <partition key>); ids
+-- still come from one sequence per table and stay unique. Nothing references either table.
+--
+-- Partitions are named <table>_pYYYY_MM. ensure_monthly_partition creates one as a plain table
+-- and attaches it, which locks the parent in SHARE UPDATE EXCLUSIVE mode only, so reads and
+-- writes carry on meanwhile. PartitionMaintenanceService calls it daily to keep months ahead
+-- of the calendar; the default partitions only catch dates outside the prepared range.
+
+create or replace function ensure_monthly_partition(parent text, month_start date) returns boolean
+language plpgsql as $$
+declare
+    first_day date := date_trunc('month', month_start)::date;
+    partition_name text := parent || '_p' || to_char(first_day, 'YYYY_MM');
+begin
+    if to_regclass(partition_name) is not null then
+        return false;
+    end if;
+    execute format('create table %I (like %I including defaults including constraints)', partition_name, parent);
+    execute format('alter table %I attach partition %I for values from (%L) to (%L)',
+                   parent, partition_name, first_day, (first_day + interval '1 month')::date);
+    return true;
+end;
+$$;
+
+-- attendance
+
+alter table attendance rename to attendance_unpartitioned;
+alter table attendance_unpartitioned alter column id drop identity if exists;
+drop index if exists idx_attendance_user_date;
+drop index if exists idx_attendance_date;
+
+create sequence attendance_id_seq;
+select setval('attendance_id_seq', coalesce(max(id), 0) + 1, false) from attendance_unpartitioned;
+
+create table attendance (
+    id bigint not null default nextval('attendance_id_seq'),
+    user_id bigint not null,
+    attendance_date date not null,
+    clock_in_time timestamp(6),
+    clock_out_time timestamp(6),
+    status varchar(255),
+    notes text,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    constraint pk_attendance primary key (id, attendance_date),
+    constraint fk_attendance_user foreign key (user_id) references app_user (id)
+) partition by range (attendance_date);
+
+alter sequence attendance_id_seq owned by attendance.id;
+
+create index idx_attendance_user_date on attendance (user_id, attendance_date);
+create index idx_attendance_date on attendance (attendance_date);
+
+create table attendance_default partition of attendance default;
+
+-- A year of history (or back to the oldest row) and three months ahead
+do $$
+declare
+    first_day date := least(date_trunc('month', current_date - interval '12 months'),
+                        coalesce((select date_trunc('month', min(attendance_date)) from attendance_unpartitioned),
+                                 current_date))::date;
+begin
+    while first_day <= date_trunc('month', current_date + interval '3 months') loop
+        perform ensure_monthly_partition('attendance', first_day);
+        first_day := (first_day + interval '1 month')::date;
+    end loop;
+end;
+$$;
+
+insert into attendance (id, user_id, attendance_date, clock_in_time, clock_out_time, status, notes,
+                        created_at, updated_at)
+select id, user_id, attendance_date, clock_in_time, clock_out_time, status, notes, created_at, updated_at
+from attendance_unpartitioned;
+
+drop table attendance_unpartitioned;
+
+-- notifications
+
+alter table notifications rename to notifications_unpartitioned;
+alter table notifications_unpartitioned alter column id drop identity if exists;
+drop index if exists idx_notifications_recipient_read;
+
+create sequence notifications_id_seq;
+select setval('notifications_id_seq', coalesce(max(id), 0) + 1, false) from notifications_unpartitioned;
+
+create table notifications (
+    id bigint not null default nextval('notifications_id_seq'),
+    sender_id bigint not null,
+    recipient_id bigint not null,
+    title varchar(255) not null,
+    message text,
+    task_id bigint,
+    type varchar(255) check (type in ('INSTRUCTION', 'NOTICE', 'MESSAGE')),
+    is_read boolean,
+    created_at timestamp(6) not null,
+    constraint pk_notifications primary key (id, created_at),
+    constraint fk_notifications_sender foreign key (sender_id) references app_user (id),
+    constraint fk_notifications_recipient foreign key (recipient_id) references app_user (id),
+    constraint fk_notifications_task foreign key (task_id) references tasks (id)
+) partition by range (created_at);
+
+alter sequence notifications_id_seq owned by notifications.id;
+
+create index idx_notifications_recipient_read on notifications (recipient_id, is_read);
+
+create table notifications_default partition of notifications default;
+
+do $$
+declare
+    first_day date := least(date_trunc('month', current_date - interval '12 months'),
+                        coalesce((select date_trunc('month', min(created_at)) from notifications_unpartitioned),
+                                 current_date))::date;
+begin
+    while first_day <= date_trunc('month', current_date + interval '3 months') loop
+        perform ensure_monthly_partition('notifications', first_day);
+        first_day := (first_day + interval '1 month')::date;
+    end loop;
+end;
+$$;
+
+insert into notifications (id, sender_id, recipient_id, title, message, task_id, type, is_read, created_at)
+select id, sender_id, recipient_id, title, message, task_id, type, is_read, created_at
+from notifications_unpartitioned;
+
+drop table notifications_unpartitioned;
@@ -0,0 +1,42 @@
+-- Cold storage for finished tasks and read notifications, filled by ArchivalService.
+-- Rows keep their original ids and columns plus archived_at. There are no foreign keys, so
+-- archived history never blocks changes to the hot tables.
+
+create table tasks_archive (
+    id bigint primary key,
+    title varchar(255),
+    description varchar(255),
+    priority varchar(255),
+    status varchar(255),
+    deadline timestamp(6),
+    creator_id bigint not null,
+    manager_id bigint,
+    deleted boolean not null,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    archived_at timestamp(6) not null
+);
+
+create index idx_tasks_archive_creator on tasks_archive (creator_id);
+create index idx_tasks_archive_manager on tasks_archive (manager_id);
+
+create table notifications_archive (
+    id bigint primary key,
+    sender_id bigint not null,
+    recipient_id bigint not null,
+    title varchar(255) not null,
+    message text,
+    task_id bigint,
+    type varchar(255),
+    is_read boolean,
+    created_at timestamp(6) not null,
+    archived_at timestamp(6) not null
+);
+
+create index idx_notifications_archive_recipient on notifications_archive (recipient_id, created_at);
+
+-- Archival candidates on the hot tables. A task is only moved once no live notification
+-- points at it, which idx_notifications_task answers without touching the rest.
+create index idx_tasks_archivable on tasks (updated_at) where status in ('COMPLETED', 'CANCELLED');
+create index idx_notifications_read_created on notifications (created_at) where is_read;
+create index idx_notifications_task on notifications (task_id) where task_id is not null;
@@ -0,0 +1,26 @@
+-- Task and User carry @SQLRestriction("deleted = false"), so every query the application
+-- makes against tasks and app_user includes that predicate. Rebuilding their indexes as
+-- partial indexes on it keeps soft-deleted rows out of the index entirely, and the
+-- planner can still use them because the predicate always appears in the query.
+
+drop index if exists idx_tasks_creator;
+drop index if exists idx_tasks_manager;
+drop index if exists idx_tasks_unclaimed;
+create index idx_tasks_creator on tasks (creator_id) where deleted = false;
+create index idx_tasks_manager on tasks (manager_id) where deleted = false;
+create index idx_tasks_unclaimed on tasks (id) where manager_id is null and deleted = false;
+
+drop index if exists idx_app_user_role_active;
+drop index if exists idx_app_user_name_key;
+drop index if exists idx_app_user_email_key;
+create index idx_app_user_role_active on app_user (role, active) where deleted = false;
+create index idx_app_user_name_key on app_user ((lower(name) collate "C"), id) where deleted = false;
+create index idx_app_user_email_key on app_user ((lower(email) collate "C")) where deleted = false;
+
+-- Purge candidates: soft-deleted tasks, oldest deletion first (see ArchivalService)
+create index idx_tasks_deleted on tasks (updated_at) where deleted;
+
+-- Deleted tasks are purged rather than archived
+drop index if exists idx_tasks_archivable;
+create index idx_tasks_archivable on tasks (updated_at)
+    where status in ('COMPLETED', 'CANCELLED') and deleted = false;
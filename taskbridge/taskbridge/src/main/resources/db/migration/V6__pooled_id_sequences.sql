@@ -0,0 +1,70 @@
+-- Ids come from plain sequences stepping by 50 instead of identity columns. Hibernate's pooled-lo
+-- optimizer takes one nextval per 50 new entities and hands out the block itself, so inserts no
+-- longer have to run one at a time to learn their id and can go to the database in JDBC batches.
+-- allocationSize on each entity's @SequenceGenerator must match the increment here.
+--
+-- The column default still calls nextval, so rows written by plain SQL (COPY, the roster and
+-- notice bulk writes) never collide with a block Hibernate holds; each such row uses up a block
+-- of its own, which bigint has ample room for.
+--
+-- Each new sequence starts above the highest id in use; for tasks that includes tasks_archive,
+-- whose ids came from the identity sequence being dropped here.
+
+-- app_user
+alter table app_user alter column id drop identity if exists;
+create sequence app_user_id_seq increment by 50 owned by app_user.id;
+select setval('app_user_id_seq', coalesce(max(id), 0) + 1, false) from app_user;
+alter table app_user alter column id set default nextval('app_user_id_seq');
+
+-- tasks
+alter table tasks alter column id drop identity if exists;
+create sequence tasks_id_seq increment by 50 owned by tasks.id;
+select setval('tasks_id_seq', coalesce(max(id), 0) + 1, false)
+from (select id from tasks union all select id from tasks_archive) ids;
+alter table tasks alter column id set default nextval('tasks_id_seq');
+
+-- leave_request
+alter table leave_request alter column id drop identity if exists;
+create sequence leave_request_id_seq increment by 50 owned by leave_request.id;
+select setval('leave_request_id_seq', coalesce(max(id), 0) + 1, false) from leave_request;
+alter table leave_request alter column id set default nextval('leave_request_id_seq');
+
+-- leave_balance
+alter table leave_balance alter column id drop identity if exists;
+create sequence leave_balance_id_seq increment by 50 owned by leave_balance.id;
+select setval('leave_balance_id_seq', coalesce(max(id), 0) + 1, false) from leave_balance;
+alter table leave_balance alter column id set default nextval('leave_balance_id_seq');
+
+-- leave_ledger
+alter table leave_ledger alter column id drop identity if exists;
+create sequence leave_ledger_id_seq increment by 50 owned by leave_ledger.id;
+select setval('leave_ledger_id_seq', coalesce(max(id), 0) + 1, false) from leave_ledger;
+alter table leave_ledger alter column id set default nextval('leave_ledger_id_seq');
+
+-- notice
+alter table notice alter column id drop identity if exists;
+create sequence notice_id_seq increment by 50 owned by notice.id;
+select setval('notice_id_seq', coalesce(max(id), 0) + 1, false) from notice;
+alter table notice alter column id set default nextval('notice_id_seq');
+
+-- roster
+alter table roster alter column id drop identity if exists;
+create sequence roster_id_seq increment by 50 owned by roster.id;
+select setval('roster_id_seq', coalesce(max(id), 0) + 1, false) from roster;
+alter table roster alter column id set default nextval('roster_id_seq');
+
+-- roster_template
+alter table roster_template alter column id drop identity if exists;
+create sequence roster_template_id_seq increment by 50 owned by roster_template.id;
+select setval('roster_template_id_seq', coalesce(max(id), 0) + 1, false) from roster_template;
+alter table roster_template alter column id set default nextval('roster_template_id_seq');
+
+-- salary
+alter table salary alter column id drop identity if exists;
+create sequence salary_id_seq increment by 50 owned by salary.id;
+select setval('salary_id_seq', coalesce(max(id), 0) + 1, false) from salary;
+alter table salary alter column id set default nextval('salary_id_seq');
+
+-- attendance and notifications have had their own sequences since V3; only the step changes
+alter sequence attendance_id_seq increment by 50;
+alter sequence notifications_id_seq increment by 50;
@@ -0,0 +1,47 @@
+-- ensure_monthly_partition could not attach a month while the default partition held rows for
+-- it (a row dated beyond the prepared months, written before the daily job caught up): ATTACH
+-- PARTITION refuses, and every later run failed the same way. The function now moves those rows
+-- out of the default partition into the new month, in the same transaction as the attach.
+--
+-- The default partition is locked ACCESS EXCLUSIVE first, which ATTACH PARTITION takes anyway,
+-- so no row for the month can land in it between the move and the attach. The parent itself
+-- is still only locked SHARE UPDATE EXCLUSIVE, so the other partitions stay readable and writable.
+
+create or replace function ensure_monthly_partition(parent text, month_start date) returns boolean
+language plpgsql as $$
+declare
+    first_day date := date_trunc('month', month_start)::date;
+    next_month date := (date_trunc('month', month_start) + interval '1 month')::date;
+    partition_name text := parent || '_p' || to_char(first_day, 'YYYY_MM');
+    key_column text;
+    default_partition regclass;
+begin
+    if to_regclass(partition_name) is not null then
+        return false;
+    end if;
+
+    select a.attname into key_column
+    from pg_partitioned_table p
+    join pg_attribute a on a.attrelid = p.partrelid and a.attnum = p.partattrs[0]
+    where p.partrelid = parent::regclass;
+
+    select c.oid::regclass into default_partition
+    from pg_inherits i
+    join pg_class c on c.oid = i.inhrelid
+    where i.inhparent = parent::regclass and pg_get_expr(c.relpartbound, c.oid) = 'DEFAULT';
+
+    execute format('lock table only %I in share update exclusive mode', parent);
+    execute format('create table %I (like %I including defaults including constraints)', partition_name, parent);
+
+    if default_partition is not null then
+        execute format('lock table %s in access exclusive mode', default_partition);
+        execute format('with moved as (delete from %s where %I >= %L and %I < %L returning *) '
+                       'insert into %I select * from moved',
+                       default_partition, key_column, first_day, key_column, next_month, partition_name);
+    end if;
+
+    execute format('alter table %I attach partition %I for values from (%L) to (%L)',
+                   parent, partition_name, first_day, next_month);
+    return true;
+end;
+$$;
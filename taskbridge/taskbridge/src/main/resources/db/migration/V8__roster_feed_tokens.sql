@@ -0,0 +1,12 @@
+-- Calendar subscription secrets for the roster feed (GET /api/roster/feed/{token}.ics).
+-- Calendar clients cannot send the one-hour Bearer JWT, so each user can hold one long-lived
+-- feed token instead. Only its SHA-256 hash is stored; issuing a new token replaces the row,
+-- which revokes the previous URL, and deleting the row revokes it outright.
+
+create table roster_feed_token (
+    user_id bigint primary key,
+    token_hash varchar(64) not null,
+    created_at timestamp(6) not null,
+    constraint uk_roster_feed_token_hash unique (token_hash),
+    constraint fk_roster_feed_token_user foreign key (user_id) references app_user (id)
+);
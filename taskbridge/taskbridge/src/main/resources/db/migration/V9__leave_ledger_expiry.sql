@@ -0,0 +1,6 @@
+-- The yearly accrual now caps what carries over into the new year and posts the days that lapse
+-- as their own EXPIRY ledger entry, so the ledger still sums to the balance.
+
+alter table leave_ledger drop constraint if exists leave_ledger_entry_type_check;
+alter table leave_ledger add constraint leave_ledger_entry_type_check
+    check (entry_type in ('ACCRUAL', 'CONSUMPTION', 'REVERSAL', 'EXPIRY'));
@@ -0,0 +1,82 @@
+package com.example.taskbridge.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Routing with the "replica" pointed at the primary database under its own application_name,
+// which tells the two pools apart. TASKBRIDGE_DATASOURCE_REPLICA_URL can point the replica
+// pool at a real standby instead; the assertions hold either way.
+@SpringBootTest(properties = {
+        "taskbridge.datasource.replica.url=${TASKBRIDGE_DATASOURCE_REPLICA_URL:${spring.datasource.url}}",
+        "taskbridge.datasource.replica.username=${spring.datasource.username}",
+        "taskbridge.datasource.replica.password=${spring.datasource.password}",
+        "taskbridge.datasource.replica.hikari.data-source-properties.ApplicationName=" + ReplicaRoutingTest.REPLICA
+})
+class ReplicaRoutingTest {
+
+    static final String REPLICA = "taskbridge-replica";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        SecurityContextHolder.clearContext();
+        dataSource.unwrap(ReplicaRoutingDataSource.class).markReplica(true, null);
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        assertThat(applicationName(true)).isEqualTo(REPLICA);
+        assertThat(applicationName(false)).isNotEqualTo(REPLICA);
+    }
+
+    @Test
+    void readsStayOnThePrimaryRightAfterTheUsersOwnWrite() {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("writer@test.local", null, List.of()));
+        applicationName(false);
+        assertThat(applicationName(true)).isNotEqualTo(REPLICA);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("reader@test.local", null, List.of()));
+        assertThat(applicationName(true)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void unhealthyReplicaFallsBackToThePrimary() throws SQLException {
+        ReplicaRoutingDataSource routing = dataSource.unwrap(ReplicaRoutingDataSource.class);
+        routing.markReplica(false, "test");
+        assertThat(applicationName(true)).isNotEqualTo(REPLICA);
+
+        routing.checkReplica();
+        assertThat(applicationName(true)).isEqualTo(REPLICA);
+    }
+
+    private String applicationName(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                jdbcTemplate.queryForObject("select current_setting('application_name')", String.class));
+    }
+}
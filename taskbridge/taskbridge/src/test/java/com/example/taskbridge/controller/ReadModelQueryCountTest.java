@@ -0,0 +1,149 @@
+package com.example.taskbridge.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.taskbridge.entity.Attendance;
+import com.example.taskbridge.entity.Leave;
+import com.example.taskbridge.entity.Notice;
+import com.example.taskbridge.entity.RoleType;
+import com.example.taskbridge.entity.Roster;
+import com.example.taskbridge.entity.Salary;
+import com.example.taskbridge.entity.User;
+import com.example.taskbridge.support.QueryCounts;
+
+import jakarta.persistence.EntityManager;
+
+// Each read endpoint must answer with a fixed number of statements however many rows it returns,
+// and no response may contain a password hash.
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class ReadModelQueryCountTest {
+
+    private static final LocalDate DAY = LocalDate.of(2099, 3, 1);
+    private static final int EMPLOYEES = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User hr;
+    private User employee;
+
+    @BeforeEach
+    void setUp() {
+        hr = persistUser(RoleType.HR);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employee = persistUser(RoleType.EMPLOYEE);
+
+            Leave leave = new Leave();
+            leave.setUser(employee);
+            leave.setStartDate(DAY);
+            leave.setEndDate(DAY.plusDays(1));
+            leave.setApprovedBy(i % 2 == 0 ? hr : null);
+            entityManager.persist(leave);
+
+            Attendance attendance = new Attendance();
+            attendance.setUser(employee);
+            attendance.setAttendanceDate(DAY);
+            attendance.setStatus("PRESENT");
+            entityManager.persist(attendance);
+
+            Roster roster = new Roster();
+            roster.setUser(employee);
+            roster.setShiftDate(DAY);
+            roster.setCreatedBy(hr);
+            entityManager.persist(roster);
+
+            Salary salary = new Salary();
+            salary.setUser(employee);
+            salary.setYear(DAY.getYear());
+            salary.setMonth(DAY.getMonthValue());
+            salary.setBaseSalary(BigDecimal.valueOf(3000));
+            entityManager.persist(salary);
+
+            Notice notice = new Notice();
+            notice.setSender(hr);
+            notice.setRecipient(employee);
+            notice.setSubject("Subject " + i);
+            notice.setContent("Content " + i);
+            entityManager.persist(notice);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void hrLeaveEndpointsUseOneQuery() throws Exception {
+        assertThat(statementsFor(get("/api/hr/leaves/pending"), hr)).isEqualTo(1);
+        assertThat(statementsFor(get("/api/hr/leaves/user/" + employee.getId()), hr)).isEqualTo(1);
+        assertThat(statementsFor(get("/api/hr/leaves/range")
+                .param("startDate", DAY.toString()).param("endDate", DAY.toString()), hr)).isEqualTo(1);
+    }
+
+    @Test
+    void hrAttendanceSalaryAndRosterEndpointsUseOneQuery() throws Exception {
+        assertThat(statementsFor(get("/api/hr/attendance/range")
+                .param("startDate", DAY.toString()).param("endDate", DAY.toString()), hr)).isEqualTo(1);
+        assertThat(statementsFor(get("/api/hr/salary/month")
+                .param("year", String.valueOf(DAY.getYear()))
+                .param("month", String.valueOf(DAY.getMonthValue())), hr)).isEqualTo(1);
+        assertThat(statementsFor(get("/api/hr/roster/range")
+                .param("startDate", DAY.toString()).param("endDate", DAY.toString()), hr)).isEqualTo(1);
+        assertThat(statementsFor(get("/api/hr/users"), hr)).isEqualTo(1);
+    }
+
+    @Test
+    void sentNoticesResolveTheSenderThenOneQuery() throws Exception {
+        assertThat(statementsFor(get("/api/hr/notice/sent"), hr)).isEqualTo(2);
+        mockMvc.perform(get("/api/hr/notice/sent").with(user(hr.getEmail()).roles("HR")))
+                .andExpect(jsonPath("$.length()").value(EMPLOYEES))
+                .andExpect(jsonPath("$[0].recipient.name").exists());
+    }
+
+    @Test
+    void myLeavesResolveTheUserThenOneQuery() throws Exception {
+        assertThat(statementsFor(get("/api/leaves/my-leaves"), employee)).isEqualTo(2);
+    }
+
+    private long statementsFor(MockHttpServletRequestBuilder request, User caller) throws Exception {
+        entityManager.clear();
+        return QueryCounts.count(() ->
+                mockMvc.perform(request.with(user(caller.getEmail()).roles(caller.getRole().name())))
+                        .andExpect(status().isOk())
+                        .andExpect(content().string(not(containsString("password")))));
+    }
+
+    private User persistUser(RoleType role) {
+        User user = new User();
+        user.setName(role.name().toLowerCase() + " user");
+        user.setEmail(role.name().toLowerCase() + "-" + UUID.randomUUID() + "@test.local");
+        user.setPassword("$2a$10$hash");
+        user.setRole(role);
+        user.setActive(true);
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,394 @@
+package com.example.taskbridge.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationTargetException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.taskbridge.entity.Leave.LeaveStatus;
+import com.example.taskbridge.entity.Notice;
+import com.example.taskbridge.entity.RoleType;
+import com.example.taskbridge.entity.User;
+import com.example.taskbridge.repository.projection.LeaveFeedRow;
+import com.example.taskbridge.repository.projection.RosterFeedRow;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.ChainListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+
+// Every repository read must be servable from an index, and date-range reads on the
+// partitioned tables must be pruned to the partitions covering the range. Each test runs
+// repository methods while the datasource proxy records their SQL and bound parameters,
+// then runs EXPLAIN on each distinct statement with the same values.
+//
+// The data is seeded inside the test transaction and analyzed, so plans use real statistics.
+// enable_seqscan is switched off as well, so a Seq Scan in a plan means no index could serve
+// that table at all, rather than a close cost call on a small dataset. The second-level
+// cache is cleared first, so cached user lookups and query results still reach the database.
+//
+// Not covered: reads that return most of a table by design (findAll, findByActive, the
+// directory snapshot), derived queries nothing calls that filter on a low-cardinality
+// column only (TaskRepository.findByStatus/findByStatusIn, NoticeRepository.findByNoticeType),
+// and the batch writers, including the archive moves.
+@SpringBootTest
+@Transactional
+class RepositoryQueryPlanTest {
+
+    private static final LocalDate BASE = LocalDate.of(2098, 1, 1);
+    private static final String DOMAIN = "@plan.test";
+    private static final CapturingListener CAPTURE = new CapturingListener();
+
+    private static final String[] SEED = {
+            // Attendance is seeded for 2098-01-01 onwards; give those months their own partitions
+            "select ensure_monthly_partition('attendance', date '2098-01-01')",
+            "select ensure_monthly_partition('attendance', date '2098-02-01')",
+            "select ensure_monthly_partition('attendance', date '2098-03-01')",
+            // 1% HR, 4% managers, the rest employees; every 50th user inactive
+            "insert into app_user (name, email, password, role, active, deleted, created_at, updated_at) "
+                    + "select 'Plan User ' || md5(g::text), 'plan' || g || '" + DOMAIN + "', 'x', "
+                    + "case when g % 100 = 0 then 'HR' when g % 20 = 0 then 'MANAGER' else 'EMPLOYEE' end, "
+                    + "g % 50 <> 0, false, now(), now() from generate_series(1, 500) g",
+            "insert into attendance (user_id, attendance_date, clock_in_time, status, created_at, updated_at) "
+                    + "select u.id, date '2098-01-01' + d, now(), 'PRESENT', now(), now() "
+                    + "from app_user u, generate_series(0, 59) d where u.email like '%" + DOMAIN + "'",
+            "insert into leave_request (user_id, start_date, end_date, leave_type, status, created_at, updated_at) "
+                    + "select u.id, date '2098-01-01' + d * 10, date '2098-01-02' + d * 10, 'CASUAL', "
+                    + "case (u.id + d) % 10 when 0 then 'PENDING' when 1 then 'REJECTED' else 'APPROVED' end, "
+                    + "now(), now() from app_user u, generate_series(0, 5) d where u.email like '%" + DOMAIN + "'",
+            "insert into leave_balance (user_id, leave_type, balance, accrual_year, created_at, updated_at) "
+                    + "select u.id, t, 10, 2098, now(), now() from app_user u, "
+                    + "unnest(array['CASUAL', 'SICK', 'EARNED']) t where u.email like '%" + DOMAIN + "'",
+            "insert into leave_ledger (user_id, leave_type, entry_type, days, accrual_year, created_at) "
+                    + "select u.id, 'CASUAL', 'ACCRUAL', 1, 2098, now() - d * interval '1 day' "
+                    + "from app_user u, generate_series(0, 5) d where u.email like '%" + DOMAIN + "'",
+            "insert into notice (sender_id, recipient_id, subject, content, notice_type, status, created_at, updated_at) "
+                    + "select s.id, u.id, 'Notice ' || d, 'Body', 'GENERAL', case when d % 3 = 0 then 'SENT' else 'READ' end, "
+                    + "now() - d * interval '1 day', now() from app_user u, generate_series(0, 9) d, "
+                    + "(select id from app_user where email = 'plan100" + DOMAIN + "') s "
+                    + "where u.email like '%" + DOMAIN + "'",
+            "insert into notifications (sender_id, recipient_id, title, message, type, is_read, created_at) "
+                    + "select u.id, u.id, 'Notification ' || d, 'Body', 'MESSAGE', d % 5 <> 0, now() "
+                    + "from app_user u, generate_series(0, 19) d where u.email like '%" + DOMAIN + "'",
+            "insert into roster (user_id, shift_date, shift_type, created_at, updated_at) "
+                    + "select u.id, date '2098-01-01' + d, 'MORNING', now(), now() "
+                    + "from app_user u, generate_series(0, 29) d where u.email like '%" + DOMAIN + "'",
+            "insert into salary (user_id, year, month, base_salary, created_at, updated_at) "
+                    + "select u.id, 2098, m, 42000, now(), now() "
+                    + "from app_user u, generate_series(1, 12) m where u.email like '%" + DOMAIN + "'",
+            // Every fifth task is unclaimed
+            "insert into tasks (title, priority, status, creator_id, manager_id, deleted, created_at, updated_at) "
+                    + "select 'Task ' || d, 'MEDIUM', case when d = 0 then 'CREATED' else 'ASSIGNED' end, "
+                    + "u.id, case when d = 0 then null else u.id end, false, now(), now() "
+                    + "from app_user u, generate_series(0, 4) d where u.email like '%" + DOMAIN + "'",
+            "analyze app_user, attendance, leave_request, leave_balance, leave_ledger, notice, notifications, "
+                    + "roster, salary, tasks",
+            "set local enable_seqscan = off"
+    };
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserDirectoryRepository userDirectoryRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private LeaveRepository leaveRepository;
+
+    @Autowired
+    private LeaveBalanceRepository leaveBalanceRepository;
+
+    @Autowired
+    private LeaveLedgerRepository leaveLedgerRepository;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private NoticeAnalyticsRepository noticeAnalyticsRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private RosterRepository rosterRepository;
+
+    @Autowired
+    private SalaryRepository salaryRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchiveRepository archiveRepository;
+
+    private Long employeeId;
+    private Long managerId;
+    private Long hrId;
+    private User employee;
+    private String employeeEmail;
+
+    @BeforeEach
+    void setUp() {
+        ChainListener listeners = ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener();
+        if (!listeners.getListeners().contains(CAPTURE)) {
+            listeners.addListener(CAPTURE);
+        }
+
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        for (String statement : SEED) {
+            jdbcTemplate.execute(statement);
+        }
+        employeeEmail = "plan42" + DOMAIN;
+        employeeId = idOf(employeeEmail);
+        managerId = idOf("plan40" + DOMAIN);
+        hrId = idOf("plan100" + DOMAIN);
+        employee = userRepository.getReferenceById(employeeId);
+    }
+
+    @Test
+    void userQueriesUseIndexes() {
+        assertIndexed(() -> {
+            userRepository.findByEmail(employeeEmail);
+            userRepository.findByRole(RoleType.HR);
+            userRepository.findByRoleAndActive(RoleType.MANAGER, true);
+            userRepository.findActiveByRoleIn(List.of(RoleType.EMPLOYEE, RoleType.HR));
+            userRepository.findActiveSummariesByRoleIn(List.of(RoleType.HR, RoleType.MANAGER));
+            userRepository.findActiveRefsByRoleIn(List.of(RoleType.MANAGER));
+            userRepository.findExistingIds(List.of(employeeId, managerId));
+            userRepository.lockForScheduleWrite(List.of(employeeId, managerId));
+            userRepository.findActiveIdsByRole(RoleType.HR);
+            userDirectoryRepository.findPage("plan user 1a", null, null, null, null, 20);
+            userDirectoryRepository.findPage(null, RoleType.EMPLOYEE, true, "plan user 8", employeeId, 20);
+        });
+    }
+
+    @Test
+    void attendanceQueriesUseIndexes() {
+        assertIndexed(() -> {
+            attendanceRepository.findByUser(employee);
+            attendanceRepository.findByUserAndAttendanceDateBetween(employee, BASE, BASE.plusDays(6));
+            attendanceRepository.findByUserAndAttendanceDate(employee, BASE);
+            attendanceRepository.findByAttendanceDateBetween(BASE, BASE.plusDays(1));
+            attendanceRepository.findTopByUserOrderByAttendanceDateDesc(employee);
+            attendanceRepository.findCellsBetween(BASE, BASE.plusDays(1));
+            attendanceRepository.findViewsByUserId(employeeId);
+            attendanceRepository.findViewsByUserEmail(employeeEmail);
+            attendanceRepository.findViewsByUserIdBetween(employeeId, BASE, BASE.plusDays(6));
+            attendanceRepository.findViewsByUserEmailBetween(employeeEmail, BASE, BASE.plusDays(6));
+            attendanceRepository.findViewByUserEmailAndDate(employeeEmail, BASE);
+            attendanceRepository.findViewsBetween(BASE, BASE);
+        });
+    }
+
+    @Test
+    void leaveQueriesUseIndexes() {
+        assertIndexed(() -> {
+            leaveRepository.findByUser(employee);
+            leaveRepository.findByUserAndStatus(employee, LeaveStatus.APPROVED);
+            leaveRepository.findByUserAndStartDateBetween(employee, BASE, BASE.plusDays(30));
+            leaveRepository.findByStartDateBetween(BASE, BASE.plusDays(2));
+            leaveRepository.findByIdAndUser(1L, employee);
+            leaveRepository.findSpansOverlapping(BASE, BASE.plusDays(6));
+            leaveRepository.findApprovedSpansOverlapping(BASE, BASE.plusDays(6));
+            leaveRepository.existsByUserIdAndStatusAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                    employeeId, LeaveStatus.APPROVED, BASE, BASE);
+            leaveRepository.findSpansForUsersOverlapping(List.of(employeeId, managerId), LeaveStatus.APPROVED,
+                    BASE, BASE.plusDays(30));
+            leaveRepository.findFeedVersion(employeeId, LeaveStatus.APPROVED, BASE, BASE.plusDays(60));
+            try (Stream<LeaveFeedRow> rows = leaveRepository.streamFeedRows(employeeId, LeaveStatus.APPROVED,
+                    BASE, BASE.plusDays(60))) {
+                rows.count();
+            }
+            leaveRepository.findViewsByUserId(employeeId);
+            leaveRepository.findViewsByUserIdAndStatus(employeeId, LeaveStatus.PENDING);
+            leaveRepository.findPendingViews();
+            leaveRepository.findViewsStartingBetween(BASE, BASE.plusDays(6));
+            leaveBalanceRepository.findByUser(employee);
+            leaveBalanceRepository.findByUserIdAndLeaveType(employeeId, "CASUAL");
+            leaveBalanceRepository.findForAccrual(List.of(employeeId), BASE.getYear() + 1);
+            leaveBalanceRepository.findForUpdate(employeeId, "CASUAL");
+            leaveLedgerRepository.findByUserOrderByCreatedAtDesc(employee);
+            leaveLedgerRepository.findByUserAndLeaveTypeOrderByCreatedAtDesc(employee, "CASUAL");
+        });
+    }
+
+    @Test
+    void noticeAndNotificationQueriesUseIndexes() {
+        LocalDateTime now = LocalDateTime.now();
+        User hr = userRepository.getReferenceById(hrId);
+        assertIndexed(() -> {
+            noticeRepository.findByRecipient(employee);
+            noticeRepository.findByRecipientAndStatus(employee, Notice.NoticeStatus.SENT);
+            noticeRepository.findBySender(hr);
+            noticeRepository.findByRecipientAndCreatedAtAfter(employee, now.minusDays(3));
+            noticeRepository.findViewsBySenderId(hrId);
+            noticeAnalyticsRepository.findNoticeStats(hrId, now.minusDays(7), now.plusDays(1), 20, 0);
+            noticeAnalyticsRepository.countNotices(hrId, now.minusDays(7), now.plusDays(1));
+            noticeAnalyticsRepository.findTypeStats(hrId, now.minusDays(7), now.plusDays(1));
+            notificationRepository.findByRecipient(employee);
+            notificationRepository.findByRecipientAndIsReadFalse(employee);
+        });
+    }
+
+    @Test
+    void rosterQueriesUseIndexes() {
+        assertIndexed(() -> {
+            rosterRepository.findByUser(employee);
+            rosterRepository.findByShiftDate(BASE);
+            rosterRepository.findByUserAndShiftDate(employee, BASE);
+            rosterRepository.findByUserAndShiftDateBetween(employee, BASE, BASE.plusDays(6));
+            rosterRepository.findByShiftDateBetween(BASE, BASE.plusDays(1));
+            rosterRepository.findCellsBetween(BASE, BASE.plusDays(1));
+            rosterRepository.findCellsForUsersBetween(List.of(employeeId, managerId), BASE, BASE.plusDays(6));
+            rosterRepository.findFeedVersion(employeeId, BASE, BASE.plusDays(30));
+            try (Stream<RosterFeedRow> rows = rosterRepository.streamFeedRows(employeeId, BASE, BASE.plusDays(30))) {
+                rows.count();
+            }
+            rosterRepository.findViewsByUserId(employeeId);
+            rosterRepository.findViewsByUserIdBetween(employeeId, BASE, BASE.plusDays(6));
+            rosterRepository.findViewsBetween(BASE, BASE);
+        });
+    }
+
+    @Test
+    void salaryAndTaskQueriesUseIndexes() {
+        User manager = userRepository.getReferenceById(managerId);
+        assertIndexed(() -> {
+            salaryRepository.findByUser(employee);
+            salaryRepository.findByUserAndYearAndMonth(employee, 2098, 3);
+            salaryRepository.findByUserAndYear(employee, 2098);
+            salaryRepository.findByYearAndMonth(2098, 3);
+            salaryRepository.findViewsByUserId(employeeId);
+            salaryRepository.findViewByUserIdAndMonth(employeeId, 2098, 3);
+            salaryRepository.findViewsByMonth(2098, 3);
+            taskRepository.findByCreator(employee);
+            taskRepository.findByManager(manager);
+            taskRepository.findByManagerIsNull();
+        });
+    }
+
+    @Test
+    void archiveReadsUseIndexes() {
+        assertIndexed(() -> {
+            archiveRepository.findTasksByCreator(employeeId);
+            archiveRepository.findTasksByManager(employeeId);
+            archiveRepository.findNotificationsByRecipient(employeeId);
+        });
+    }
+
+    @Test
+    void attendanceRangeReadsOnlyItsMonthPartition() {
+        List<String> plans = plans(() -> attendanceRepository.findCellsBetween(BASE.plusDays(3), BASE.plusDays(9)));
+        assertThat(plans).singleElement().asString()
+                .contains("attendance_p2098_01")
+                .doesNotContain("attendance_p2098_02", "attendance_default");
+    }
+
+    private void assertIndexed(Runnable reads) {
+        List<String> failures = plans(reads).stream().filter(plan -> plan.contains("Seq Scan")).toList();
+        assertThat(failures).as("statements planned with a sequential scan").isEmpty();
+    }
+
+    // Runs the reads with capture on, then EXPLAINs each distinct SELECT they issued.
+    // Each entry is the statement followed by its plan.
+    private List<String> plans(Runnable reads) {
+        List<QueryInfo> queries = new ArrayList<>();
+        CAPTURE.target.set(queries);
+        try {
+            reads.run();
+        } finally {
+            CAPTURE.target.remove();
+        }
+        assertThat(queries).as("captured statements").isNotEmpty();
+
+        Set<String> seen = new LinkedHashSet<>();
+        List<String> plans = new ArrayList<>();
+        for (QueryInfo query : queries) {
+            String sql = query.getQuery().strip();
+            if (sql.regionMatches(true, 0, "select", 0, 6) && seen.add(sql)) {
+                plans.add(sql + "\n" + explain(query));
+            }
+        }
+        return plans;
+    }
+
+    // Plans the statement with the parameters it was executed with, on the test transaction's connection
+    private String explain(QueryInfo query) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("explain " + query.getQuery())) {
+                if (!query.getParametersList().isEmpty()) {
+                    for (ParameterSetOperation operation : query.getParametersList().get(0)) {
+                        operation.getMethod().invoke(statement, operation.getArgs());
+                    }
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Could not bind parameters for " + query.getQuery(), e);
+            }
+        });
+    }
+
+    private Long idOf(String email) {
+        return jdbcTemplate.queryForObject("select id from app_user where email = ?", Long.class, email);
+    }
+
+    // Collects the statements executed on the test thread while a capture is open
+    private static final class CapturingListener implements QueryExecutionListener {
+
+        private final ThreadLocal<List<QueryInfo>> target = new ThreadLocal<>();
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            List<QueryInfo> queries = target.get();
+            if (queries != null) {
+                queries.addAll(queryInfoList);
+            }
+        }
+    }
+}
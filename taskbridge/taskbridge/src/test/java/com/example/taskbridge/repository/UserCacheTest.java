@@ -0,0 +1,111 @@
+package com.example.taskbridge.repository;
+
+import static com.example.taskbridge.support.QueryCounts.assertQueryCount;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.taskbridge.entity.RoleType;
+import com.example.taskbridge.entity.User;
+import com.example.taskbridge.service.UserService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Repeated user lookups must be served by the second-level cache without SQL, and role
+// changes and deactivation through UserService must show up in the next cached read.
+// Not transactional: entries are only cached once the writing transaction commits.
+@SpringBootTest
+class UserCacheTest {
+
+    private static final String USER_REGION = User.class.getName();
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private SessionFactory sessionFactory;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        User created = new User();
+        created.setName("cache user");
+        created.setEmail("cache-" + UUID.randomUUID() + "@test.local");
+        created.setPassword("$2a$10$hash");
+        created.setRole(RoleType.EMPLOYEE);
+        created.setActive(true);
+        user = userRepository.save(created);
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from app_user where id = ?", user.getId());
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @Test
+    void repeatedLookupsHitTheCache() throws Exception {
+        Statistics statistics = sessionFactory.getStatistics();
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(USER_REGION);
+        long hits = region.getHitCount();
+        long misses = region.getMissCount();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(userRepository.findById(user.getId())).isPresent();
+        }
+
+        assertThat(region.getMissCount() - misses).isEqualTo(1);
+        assertThat(region.getHitCount() - hits).isEqualTo(9);
+
+        long naturalIdHits = statistics.getNaturalIdCacheHitCount();
+        userRepository.findByEmail(user.getEmail());
+        assertQueryCount(0, () -> assertThat(userRepository.findByEmail(user.getEmail()))
+                .get().extracting(User::getId).isEqualTo(user.getId()));
+        assertThat(statistics.getNaturalIdCacheHitCount()).isGreaterThan(naturalIdHits);
+    }
+
+    @Test
+    void findByEmailWorksWithoutATransaction() {
+        assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+        assertThat(userRepository.findByEmail(user.getEmail()))
+                .get().extracting(User::getId).isEqualTo(user.getId());
+        assertThat(userRepository.findByEmail("missing-" + UUID.randomUUID() + "@test.local")).isEmpty();
+        assertThat(userRepository.findByEmail(null)).isEmpty();
+    }
+
+    @Test
+    void roleChangeAndDeactivationReachCachedReads() throws Exception {
+        assertThat(userRepository.findActiveIdsByRole(RoleType.MANAGER)).doesNotContain(user.getId());
+        assertQueryCount(0, () -> userRepository.findActiveIdsByRole(RoleType.MANAGER));
+
+        userService.updateUserRole(user.getId(), RoleType.MANAGER);
+        assertThat(userRepository.findActiveIdsByRole(RoleType.MANAGER)).contains(user.getId());
+        assertThat(userRepository.findByEmail(user.getEmail()))
+                .get().extracting(User::getRole).isEqualTo(RoleType.MANAGER);
+
+        userService.deleteUser(user.getId());
+        assertThat(userRepository.findActiveIdsByRole(RoleType.MANAGER)).doesNotContain(user.getId());
+        assertThat(userRepository.findById(user.getId())).get().extracting(User::isActive).isEqualTo(false);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.taskbridge.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+// Benchmark for the auto-roster solver at its target size: 1,000 staff over 31 days,
+// split across 10 locations solved in parallel, with ~5% of staff-days on approved leave.
+class RosterSolverBenchmarkTest {
+
+    private static final int LOCATIONS = 10;
+    private static final int STAFF_PER_LOCATION = 100;
+    private static final int DAYS = 31;
+    private static final int MAX_CONSECUTIVE = 6;
+
+    @Test
+    void solvesThousandStaffMonthWithinBudget() {
+        RosterSolver solver = new RosterSolver();
+        List<RosterSolver.Problem> problems = new ArrayList<>();
+        for (int l = 0; l < LOCATIONS; l++) {
+            problems.add(problem(l));
+        }
+
+        // Warm-up so the timed run measures the steady state
+        solver.solve(problems.get(0));
+
+        long start = System.nanoTime();
+        List<RosterSolver.Solution> solutions = problems.stream()
+                .map(p -> CompletableFuture.supplyAsync(() -> solver.solve(p)))
+                .toList().stream()
+                .map(CompletableFuture::join)
+                .toList();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMillis < 5_000, "Solver took " + elapsedMillis + " ms");
+        for (int l = 0; l < LOCATIONS; l++) {
+            assertRules(problems.get(l), solutions.get(l));
+            assertEquals(0, solutions.get(l).shortfall());
+            assertFair(solutions.get(l));
+        }
+    }
+
+    private RosterSolver.Problem problem(int location) {
+        Random random = new Random(location);
+        List<Long> staffIds = new ArrayList<>();
+        boolean[][] onLeave = new boolean[STAFF_PER_LOCATION][DAYS];
+        boolean[] nightBefore = new boolean[STAFF_PER_LOCATION];
+        for (int i = 0; i < STAFF_PER_LOCATION; i++) {
+            staffIds.add((long) location * STAFF_PER_LOCATION + i);
+            nightBefore[i] = random.nextInt(10) == 0;
+            for (int d = 0; d < DAYS; d++) {
+                onLeave[i][d] = random.nextInt(20) == 0;
+            }
+        }
+        int[] required = new int[4];
+        required[RosterSolver.MORNING] = 25;
+        required[RosterSolver.AFTERNOON] = 25;
+        required[RosterSolver.NIGHT] = 15;
+        return new RosterSolver.Problem("LOC-" + location, staffIds, DAYS, required, onLeave, nightBefore,
+                MAX_CONSECUTIVE, location, 20 * STAFF_PER_LOCATION * DAYS);
+    }
+
+    // Total shifts and nights are spread to within one of each other across a location's staff
+    private void assertFair(RosterSolver.Solution solution) {
+        assertTrue(solution.maxShifts() - solution.minShifts() <= 1, solution.location() + " shifts "
+                + solution.minShifts() + ".." + solution.maxShifts());
+        assertTrue(solution.maxNights() - solution.minNights() <= 1, solution.location() + " nights "
+                + solution.minNights() + ".." + solution.maxNights());
+    }
+
+    private void assertRules(RosterSolver.Problem problem, RosterSolver.Solution solution) {
+        int[][] shifts = solution.shifts();
+        for (int i = 0; i < shifts.length; i++) {
+            int run = 0;
+            int previous = problem.nightBefore()[i] ? RosterSolver.NIGHT : RosterSolver.OFF;
+            for (int d = 0; d < DAYS; d++) {
+                int shift = shifts[i][d];
+                assertEquals(problem.onLeave()[i][d], shift == RosterSolver.LEAVE);
+                assertFalse(previous == RosterSolver.NIGHT && shift == RosterSolver.MORNING,
+                        "NIGHT followed by MORNING for staff " + i + " on day " + d);
+                run = shift > RosterSolver.OFF ? run + 1 : 0;
+                assertTrue(run <= MAX_CONSECUTIVE, "Too many consecutive shifts for staff " + i);
+                previous = shift;
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.taskbridge.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.taskbridge.config.QueryCounter;
+
+// Counts the JDBC statements an action executes on the calling thread, including tasks it
+// hands to the query executor. MockMvc runs the whole filter chain and handler on the test
+// thread, so wrapping mockMvc.perform(...) measures exactly what the endpoint costs.
+public final class QueryCounts {
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private QueryCounts() {
+    }
+
+    public static long count(Action action) throws Exception {
+        QueryCounter.Scope scope = QueryCounter.open();
+        action.run();
+        return scope.count();
+    }
+
+    public static void assertQueryCount(long expected, Action action) throws Exception {
+        assertThat(count(action)).as("SQL statements executed").isEqualTo(expected);
+    }
+}